@@ -0,0 +1,169 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 10만 개를 올린 PostSearchIndex 의 검색과 주기적 갱신 비용을 잽니다.
+ * likeScan 은 DB 검색(제목·본문 LIKE '%단어%')처럼 최신 글부터 모든 게시글을 훑는 기준선입니다.
+ * refresh 는 바뀐 게시글이 없을 때의 주기 갱신이고, refreshReconcilingEveryTime 은 갱신마다 전체 게시글 번호를 읽어 삭제를 맞춰 보던 이전 방식입니다.
+ * PostRepository 는 메모리의 게시글을 돌려주는 프록시로 대신합니다. ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PostSearchIndexBenchmark {
+
+    private static final int POSTS = 100_000;
+    private static final int VOCABULARY = 5_000;
+    private static final int QUERIES = 256;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후기니디리미비시이지치키티피히"
+            + "강남동서울역카페맛집산책공원커피빵책방전시회영화관한강야경데이트모임친구스터디조용분위기넓은주차";
+
+    private String[] titles;
+    private String[] contents;
+    private String[] queries;
+    private PostSearchIndex index;
+    private PostSearchIndex indexReconcilingEveryTime;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int length = 2 + random.nextInt(3); length > 0; length--) {
+                word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            vocabulary[i] = word.toString();
+        }
+
+        titles = new String[POSTS];
+        contents = new String[POSTS];
+        List<PostRepository.SearchDocument> documents = new ArrayList<>(POSTS);
+        List<Long> ids = new ArrayList<>(POSTS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < POSTS; i++) {
+            titles[i] = sentence(vocabulary, random, 3 + random.nextInt(4));
+            contents[i] = sentence(vocabulary, random, 30 + random.nextInt(50));
+            LocalDateTime createdAt = now.minusMinutes(POSTS - i);
+            documents.add(new Document(i + 1L, titles[i], contents[i], createdAt, createdAt));
+            ids.add(i + 1L);
+        }
+
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = vocabulary[random.nextInt(VOCABULARY)] + " " + vocabulary[random.nextInt(VOCABULARY)];
+        }
+
+        PostRepository postRepository = postRepository(documents, ids);
+        index = new PostSearchIndex(postRepository, new SimpleMeterRegistry(), true, 2000, 0.5f,
+                Duration.ofDays(30), Duration.ofMinutes(1), Duration.ofHours(1));
+        index.refresh();
+        indexReconcilingEveryTime = new PostSearchIndex(postRepository, new SimpleMeterRegistry(), true, 2000, 0.5f,
+                Duration.ofDays(30), Duration.ofMinutes(1), Duration.ZERO);
+        indexReconcilingEveryTime.refresh();
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(queries[next++ & (QUERIES - 1)], 0, 20);
+    }
+
+    @Benchmark
+    public List<Long> likeScan() {
+        List<String> words = PostSearchIndex.words(queries[next++ & (QUERIES - 1)]);
+        List<Long> postIds = new ArrayList<>();
+        for (int i = POSTS - 1; i >= 0 && postIds.size() < 20; i--) {
+            String title = titles[i].toLowerCase(Locale.ROOT);
+            String content = contents[i].toLowerCase(Locale.ROOT);
+            for (String word : words) {
+                if (title.contains(word) || content.contains(word)) {
+                    postIds.add(i + 1L);
+                    break;
+                }
+            }
+        }
+        return postIds;
+    }
+
+    @Benchmark
+    public void refresh() {
+        index.refresh();
+    }
+
+    @Benchmark
+    public void refreshReconcilingEveryTime() {
+        indexReconcilingEveryTime.refresh();
+    }
+
+    private static String sentence(String[] vocabulary, Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // 한국어처럼 단어 뒤에 조사가 붙은 형태도 섞습니다.
+            sentence.append(i == 0 ? "" : " ").append(vocabulary[random.nextInt(VOCABULARY)]);
+            if (random.nextInt(3) == 0) {
+                sentence.append(random.nextBoolean() ? "에서" : "을");
+            }
+        }
+        return sentence.toString();
+    }
+
+    // 검색 인덱스가 쓰는 메서드만 메모리의 게시글로 답합니다. 갱신 사이에 바뀐 게시글은 없습니다.
+    private static PostRepository postRepository(List<PostRepository.SearchDocument> documents, List<Long> ids) {
+        return (PostRepository) Proxy.newProxyInstance(PostRepository.class.getClassLoader(), new Class<?>[]{PostRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findSearchDocumentsAfter" -> {
+                        int from = (int) Math.min((Long) args[0], documents.size());
+                        yield documents.subList(from, Math.min(from + ((Pageable) args[1]).getPageSize(), documents.size()));
+                    }
+                    case "findSearchDocumentsUpdatedAfter" -> List.of();
+                    case "findAllIds" -> new ArrayList<>(ids);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private record Document(Long id, String title, String content, LocalDateTime createDate, LocalDateTime updateDate)
+            implements PostRepository.SearchDocument {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public LocalDateTime getCreateDate() {
+            return createDate;
+        }
+
+        @Override
+        public LocalDateTime getUpdateDate() {
+            return updateDate;
+        }
+    }
+}
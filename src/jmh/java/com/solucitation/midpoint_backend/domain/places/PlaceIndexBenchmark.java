@@ -0,0 +1,133 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 100만 개를 올린 PlaceIndex 의 반경 검색 지연을 잽니다.
+ * linearScan 은 같은 장소 배열을 모두 훑어 거리를 계산하는 기준선이고, index 는 셀 단위 스냅샷 검색입니다.
+ * 장소는 서울 근교(약 55km × 53km)에 고르게 흩어 가져오기 파일로 올리고, 영역 전체를 구글로 채운 것처럼 기록해 모든 검색이 인덱스에서 끝나게 합니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PlaceIndexBenchmark {
+
+    private static final int PLACES = 1_000_000;
+    private static final int QUERIES = 1024;
+    private static final double MIN_LAT = 37.30;
+    private static final double MIN_LNG = 126.70;
+    private static final double SPAN_LAT = 0.50;
+    private static final double SPAN_LNG = 0.60;
+
+    @Param({"500", "2000"})
+    public int radius;
+
+    private PlaceIndex index;
+    private Place[] places;
+    private String[] placeTypes;
+    private Map<String, Set<String>> categoryTypes;
+    private double[][] queries;
+    private String[] queryCategories;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> categories = MapService.categories();
+        Random random = new Random(42);
+
+        categoryTypes = new HashMap<>();
+        for (String category : categories) {
+            categoryTypes.put(category, Set.of(MapService.placeTypesOf(category).split("\\|")));
+        }
+
+        places = new Place[PLACES];
+        placeTypes = new String[PLACES];
+        Path importFile = Files.createTempFile("places", ".ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(importFile)) {
+            for (int i = 0; i < PLACES; i++) {
+                String category = categories.get(random.nextInt(categories.size()));
+                String type = MapService.placeTypesOf(category).split("\\|")[0];
+                places[i] = new Place("장소 " + i, "주소 " + i,
+                        MIN_LAT + random.nextDouble() * SPAN_LAT, MIN_LNG + random.nextDouble() * SPAN_LNG,
+                        "[\"" + type + "\",\"establishment\"]", "place-" + i, null);
+                placeTypes[i] = type;
+                writer.write(objectMapper.writeValueAsString(places[i]));
+                writer.newLine();
+            }
+        }
+
+        index = new PlaceIndex(null, objectMapper, new SimpleMeterRegistry(), true, importFile.toString(), Duration.ofDays(7), 5000);
+        index.loadImportFile();
+        Files.delete(importFile);
+        // 가져오기 파일은 채움 기록을 남기지 않으므로, 검색 영역을 모두 덮는 반경을 카테고리마다 채운 것으로 기록합니다.
+        for (String category : categories) {
+            index.record(MIN_LAT + SPAN_LAT / 2, MIN_LNG + SPAN_LNG / 2, 40_000, category, List.of());
+        }
+
+        // 경계 근처는 반경 일부가 비어 있으므로 안쪽 영역에서만 검색합니다.
+        queries = new double[QUERIES][];
+        queryCategories = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[]{
+                    MIN_LAT + 0.05 + random.nextDouble() * (SPAN_LAT - 0.10),
+                    MIN_LNG + 0.05 + random.nextDouble() * (SPAN_LNG - 0.10)};
+            queryCategories[i] = categories.get(random.nextInt(categories.size()));
+        }
+    }
+
+    @Benchmark
+    public List<Place> index() {
+        int i = next++ & (QUERIES - 1);
+        return index.search(queries[i][0], queries[i][1], radius, queryCategories[i]);
+    }
+
+    @Benchmark
+    public List<Place> linearScan() {
+        int i = next++ & (QUERIES - 1);
+        return linearScan(queries[i][0], queries[i][1], radius, queryCategories[i]);
+    }
+
+    List<Place> linearScan(double latitude, double longitude, int radius, String category) {
+        Set<String> types = categoryTypes.get(category);
+        List<Place> found = new ArrayList<>();
+        List<Double> distances = new ArrayList<>();
+        for (int i = 0; i < places.length; i++) {
+            // walk·hiking 처럼 타입을 공유하는 카테고리가 있으므로 인덱스와 같게 타입으로 거릅니다.
+            if (!types.contains(placeTypes[i])) {
+                continue;
+            }
+            double distance = PlaceFanOutService.distanceMeters(latitude, longitude, places[i].latitude(), places[i].longitude());
+            if (distance <= radius) {
+                found.add(places[i]);
+                distances.add(distance);
+            }
+        }
+        List<Integer> order = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(distances::get));
+        return order.stream().limit(20).map(found::get).toList();
+    }
+}
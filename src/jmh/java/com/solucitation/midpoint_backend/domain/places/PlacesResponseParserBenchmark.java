@@ -0,0 +1,93 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearby Search 응답 하나(장소 20개)를 읽는 비용을 비교합니다.
+ * treeModel 은 스트리밍 파서 이전 방식(본문 String → JsonNode 트리 → 장소마다 HashMap), streaming 은 PlacesResponseParser 입니다.
+ * ./gradlew jmh 로 실행하며, gc 프로파일러의 gc.alloc.rate.norm 이 응답 하나당 할당량입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlacesResponseParserBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PlacesResponseParser parser;
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        parser = new PlacesResponseParser(objectMapper);
+        response = nearbySearchResponse(20);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> treeModel() throws IOException {
+        String body = new String(response, StandardCharsets.UTF_8);
+        List<Map<String, Object>> places = new ArrayList<>();
+        for (JsonNode result : objectMapper.readTree(body).path("results")) {
+            Map<String, Object> place = new HashMap<>();
+            place.put("name", result.path("name").asText());
+            place.put("address", result.path("vicinity").asText());
+            place.put("latitude", result.path("geometry").path("location").path("lat").asDouble());
+            place.put("longitude", result.path("geometry").path("location").path("lng").asDouble());
+            place.put("types", result.path("types").toString());
+            place.put("placeID", result.path("place_id").asText());
+            JsonNode photos = result.path("photos");
+            place.put("photo", photos.isArray() && !photos.isEmpty() ? photos.get(0).path("photo_reference").asText() : null);
+            places.add(place);
+        }
+        return places;
+    }
+
+    @Benchmark
+    public List<Place> streaming() throws IOException {
+        return parser.parse(new ByteArrayInputStream(response));
+    }
+
+    // 실제 응답처럼 쓰지 않는 필드(viewport, opening_hours, plus_code, 사진 속성 등)를 포함한 본문입니다.
+    static byte[] nearbySearchResponse(int results) {
+        StringBuilder json = new StringBuilder("{\"html_attributions\":[],\"next_page_token\":\"")
+                .append("t".repeat(300)).append("\",\"results\":[");
+        for (int i = 0; i < results; i++) {
+            double lat = 37.55 + i * 0.001;
+            double lng = 126.97 + i * 0.001;
+            json.append(i == 0 ? "" : ",").append("{")
+                    .append("\"business_status\":\"OPERATIONAL\",")
+                    .append("\"geometry\":{\"location\":{\"lat\":").append(lat).append(",\"lng\":").append(lng).append("},")
+                    .append("\"viewport\":{\"northeast\":{\"lat\":").append(lat + 0.001).append(",\"lng\":").append(lng + 0.001)
+                    .append("},\"southwest\":{\"lat\":").append(lat - 0.001).append(",\"lng\":").append(lng - 0.001).append("}}},")
+                    .append("\"icon\":\"https://maps.gstatic.com/mapfiles/place_api/icons/v1/png_71/cafe-71.png\",")
+                    .append("\"icon_background_color\":\"#FF9E67\",")
+                    .append("\"name\":\"장소 이름 ").append(i).append("\",")
+                    .append("\"opening_hours\":{\"open_now\":true},")
+                    .append("\"photos\":[{\"height\":3024,\"html_attributions\":[\"<a href=\\\"https://maps.google.com/maps/contrib/1\\\">작성자</a>\"],")
+                    .append("\"photo_reference\":\"").append("r".repeat(400)).append(i).append("\",\"width\":4032}],")
+                    .append("\"place_id\":\"ChIJ").append("p".repeat(23)).append(i).append("\",")
+                    .append("\"plus_code\":{\"compound_code\":\"HX8H+JH 서울특별시\",\"global_code\":\"8Q98HX8H+JH\"},")
+                    .append("\"price_level\":2,\"rating\":4.3,")
+                    .append("\"reference\":\"ChIJ").append("p".repeat(23)).append(i).append("\",")
+                    .append("\"scope\":\"GOOGLE\",")
+                    .append("\"types\":[\"cafe\",\"food\",\"point_of_interest\",\"establishment\"],")
+                    .append("\"user_ratings_total\":").append(100 + i).append(",")
+                    .append("\"vicinity\":\"서울특별시 중구 세종대로 ").append(100 + i).append("\"}");
+        }
+        return json.append("],\"status\":\"OK\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.solucitation.midpoint_backend.domain.community_board.dto.*;
 import com.solucitation.midpoint_backend.domain.community_board.service.PostService;
+import com.solucitation.midpoint_backend.domain.file.exception.ImageProcessingBusyException;
 
 import com.solucitation.midpoint_backend.domain.member.dto.ValidationErrorResponse;
 import com.solucitation.midpoint_backend.domain.member.entity.Member;
@@ -38,15 +39,21 @@ public class PostController {
     private final Validator validator;
 
     /**
-     * 모든 게시글을 요약된 형태로 생성일 최신순부터 가져옵니다.
+     * 게시글을 요약된 형태로 생성일 최신순부터 한 페이지씩 가져옵니다.
      * 이때 로그인되어 있으며 해당 게시글에 좋아요를 눌렀을 경우에는 PostResponseDto 내 likes 필드를 true로 반환합니다. (기본값 false)
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 가져오며, nextCursor 가 null 이면 마지막 페이지입니다.
      *
      * @param authentication 인증정보
-     * @return 성공 시 200 OK와 함께 게시글 목록을 반환합니다.
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 posts.feed.max-page-size)
+     * @return 성공 시 200 OK와 함께 게시글 목록과 다음 페이지 커서를 반환합니다.
+     *         커서나 페이지 크기가 잘못된 경우 400 Bad Request를 반환합니다.
      *         실패 시 500 Internal Server Error를 반환합니다.
      */
     @GetMapping("")
-    public ResponseEntity<?> getAllPosts(Authentication authentication) {
+    public ResponseEntity<?> getAllPosts(Authentication authentication,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size) {
         try {
             Member member = null;
 
@@ -55,8 +62,11 @@ public class PostController {
                 member = memberService.getMemberByEmail(memberEmail);
             }
 
-            List<PostResponseDto> postResponseDtos = postService.getAllPosts(member);
-            return ResponseEntity.ok(postResponseDtos);
+            PostPageResponseDto postPage = postService.getPosts(member, cursor, size);
+            return ResponseEntity.ok(postPage);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage(), "message", "게시글 조회 요청이 잘못되었습니다."));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", e.getMessage(), "message", "게시글 조회 중 오류가 발생하였습니다."));
@@ -141,6 +151,7 @@ public class PostController {
      *         로그인을 하지 않고 시도 시 401 Unauthorized 에러를 반환합니다.
      *         서로 다른 2개의 해시태그를 선택하지 않았을 시 400 BAD REQUEST 에러를 반환합니다.
      *         이미지를 업로드하지 않았거나 4장 이상 업로드 시도 시 400 BAD REQUEST 에러를 반환합니다.
+     *         이미지 처리 대기열이 가득 찬 경우 503 Service Unavailable 을 반환합니다. 이어 올리기 업로드는 그대로 남아 같은 ID 로 다시 시도할 수 있습니다.
      *         기타 이유로 업로드 실패 시 500 Internal Server Error를 반환합니다.
      */
     @PostMapping(value = "",  consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -166,12 +177,14 @@ public class PostController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
             }
 
-            if (postImages == null || postImages.isEmpty()) { // 이미지 필드 자체가 없는 경우
+            int imageCnt = (postImages != null ? postImages.size() : 0)
+                    + (postRequestDto.getImageUploadIds() != null ? postRequestDto.getImageUploadIds().size() : 0); // 파일과 이어 올리기 이미지 개수
+            if (imageCnt == 0) { // 이미지 필드 자체가 없는 경우
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "CONDITION_NOT_MET", "message", "이미지를 최소 1장 이상 업로드해야 합니다."));
             }
 
-            if (postImages.size() > 3) { // 이미지가 있으면 최대 3장까지만 허용
+            if (imageCnt > 3) { // 이미지가 있으면 최대 3장까지만 허용
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "CONDITION_NOT_MET", "message", "이미지는 최대 3장까지 업로드 가능합니다."));
             }
@@ -180,6 +193,9 @@ public class PostController {
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(Map.of("message", "게시글을 성공적으로 등록하였습니다."));
 
+        } catch (ImageProcessingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "IMAGE_PROCESSING_BUSY", "message", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
@@ -265,6 +281,7 @@ public class PostController {
      *         게시글을 찾을 수 없을 때는 404 Not Found 에러를 반환합니다.
      *         삭제하려는 글이 본인이 작성한 글이 아닐 경우 403 Forbidden 에러를 반환힙니다.
      *         게시글 수정 결과가 게시글의 조건을 충족하지 못할 경우 400 BAD REQUEST 에러를 반환합니다.
+     *         이미지 처리 대기열이 가득 찬 경우 503 Service Unavailable 을 반환합니다. 이어 올리기 업로드는 그대로 남아 같은 ID 로 다시 시도할 수 있습니다.
      * @throws JsonProcessingException
      */
     @PatchMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -286,13 +303,16 @@ public class PostController {
             int nowImageCnt = postService.getPostById(postId, member).getImages().size();
             int validImageCnt = 0;
 
-            if (postImages != null && !postImages.isEmpty())  { // 이미지 변경이 있는 경우
+            List<String> imageUploadIds = postUpdateDto.getImageUploadIds();
+            if (postImages != null && !postImages.isEmpty() || imageUploadIds != null && !imageUploadIds.isEmpty())  { // 이미지 변경이 있는 경우
                 int nextImageCnt = nowImageCnt - postUpdateDto.getDeleteImageUrl().size(); // 삭제 작업만 진행했을 때의 이미지 개수
 
-
-                for (MultipartFile postImage : postImages) { // 추가할 이미지 개수
-                    if (postImage != null && !postImage.isEmpty()) validImageCnt++;
+                if (postImages != null) {
+                    for (MultipartFile postImage : postImages) { // 추가할 이미지 개수
+                        if (postImage != null && !postImage.isEmpty()) validImageCnt++;
+                    }
                 }
+                if (imageUploadIds != null) validImageCnt += imageUploadIds.size(); // 이어 올리기로 추가할 이미지 개수
                 if (nextImageCnt + validImageCnt > 3) // 최종 이미지 개수
                     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                             .body(Map.of("error", "CONDITION_NOT_MET", "message", "이미지는 최대 3장까지 업로드 가능합니다."));
@@ -308,6 +328,9 @@ public class PostController {
         } catch (AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "FORBIDDEN", "message", e.getMessage()));
+        } catch (ImageProcessingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "IMAGE_PROCESSING_BUSY", "message", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", "CONDITION_NOT_MET", "message", e.getMessage()));
@@ -1,6 +1,6 @@
 package com.solucitation.midpoint_backend.domain.community_board.api;
 
-import com.solucitation.midpoint_backend.domain.community_board.dto.PostResponseDto;
+import com.solucitation.midpoint_backend.domain.community_board.dto.PostPageResponseDto;
 import com.solucitation.midpoint_backend.domain.community_board.service.PostService;
 import com.solucitation.midpoint_backend.domain.member.entity.Member;
 import com.solucitation.midpoint_backend.domain.member.service.MemberService;
@@ -27,17 +27,24 @@ public class SearhController {
     private final MemberService memberService;
 
     /**
-     * 게시글을 목적별로 검색합니다. 이때 목적이 여러 개일 경우 OR 조건으로 검색한 결과를 반환합니다.
+     * 게시글을 목적별로 검색합니다. 이때 목적이 여러 개일 경우 match 가 any 면 OR 조건, all 이면 AND 조건으로 검색한 결과를
+     * 최신순으로 한 페이지씩 반환합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 가져오며, nextCursor 가 null 이면 마지막 페이지입니다.
      *
      * @param authentication 인증 정보
      * @param purposes 해시태그 ID 리스트
+     * @param match any(기본값) 또는 all
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 posts.feed.max-page-size)
      * @return
-     *          검색 성공 시 200 ok와 게시글 목록을 반환합니다.
-     *          해시태그 관련 오류가 발생할 경우 400 BAD REQUEST 와 함께 에러 메시지를 반환합니다.
+     *          검색 성공 시 200 ok와 게시글 목록, 다음 페이지 커서를 반환합니다.
+     *          해시태그 관련 오류가 발생하거나 match, 커서, 페이지 크기가 잘못된 경우 400 BAD REQUEST 와 함께 에러 메시지를 반환합니다.
      *          기타 사유로 오류가 발생할 경우 500 INTERNAL_SERVER_ERROR 와 에러 메시지를 반환합니다.
      */
     @GetMapping("/purpose")
-    public ResponseEntity<?> searchByPurpose(Authentication authentication, @RequestParam("purpose") List<Long> purposes) {
+    public ResponseEntity<?> searchByPurpose(Authentication authentication, @RequestParam("purpose") List<Long> purposes,
+                                             @RequestParam(defaultValue = "any") String match,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size) {
         try {
             Member member = null;
 
@@ -45,8 +52,11 @@ public class SearhController {
                 String memberEmail = authentication.getName();
                 member = memberService.getMemberByEmail(memberEmail);
             }
-            List<PostResponseDto> postResponseDto = postService.getPostByPurpose(member, purposes);
-            return ResponseEntity.ok(postResponseDto);
+            if (!"any".equals(match) && !"all".equals(match)) {
+                throw new IllegalArgumentException("match 는 any 또는 all 이어야 합니다.");
+            }
+            PostPageResponseDto postPage = postService.getPostByPurpose(member, purposes, "all".equals(match), cursor, size);
+            return ResponseEntity.ok(postPage);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", "CONDITION_NOT_MET", "message", e.getMessage()));
@@ -58,17 +68,22 @@ public class SearhController {
 
     /**
      * 게시글을 검색어로 검색합니다.
-     * 검색어가 문장 형태일 경우 공백으로 파싱 후 각각의 단어에 대해 OR 조건으로 검색한 결과를 반환합니다.
+     * 검색어가 문장 형태일 경우 단어로 나눈 뒤 각각의 단어에 대해 OR 조건으로 검색하고, 관련도·최신순으로 한 페이지씩 반환합니다.
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 가져오며, nextCursor 가 null 이면 마지막 페이지입니다.
      *
      * @param authentication 인증 정보
      * @param query 검색어
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 posts.feed.max-page-size)
      * @return
-     *          검색 성공 시 200 ok와 게시글 목록을 반환합니다.
-     *          검색어를 입력하지 않거나 공백으로만 구성된 경우 400 BAD REQUEST 와 함께 에러 메시지를 반환합니다.
+     *          검색 성공 시 200 ok와 게시글 목록, 다음 페이지 커서를 반환합니다.
+     *          검색어를 입력하지 않거나 공백으로만 구성된 경우, 커서나 페이지 크기가 잘못된 경우 400 BAD REQUEST 와 함께 에러 메시지를 반환합니다.
      *          기타 사유로 오류가 발생할 경우 500 INTERNAL_SERVER_ERROR 와 에러 메시지를 반환합니다.
      */
     @GetMapping("/query")
-    public ResponseEntity<?> searchByQuery(Authentication authentication, @RequestParam("query") String query) {
+    public ResponseEntity<?> searchByQuery(Authentication authentication, @RequestParam("query") String query,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "20") int size) {
         try {
             Member member = null;
 
@@ -76,8 +91,8 @@ public class SearhController {
                 String memberEmail = authentication.getName();
                 member = memberService.getMemberByEmail(memberEmail);
             }
-            List<PostResponseDto> postResponseDto = postService.getPostByQuery(member, query);
-            return ResponseEntity.ok(postResponseDto);
+            PostPageResponseDto postPage = postService.getPostByQuery(member, query, cursor, size);
+            return ResponseEntity.ok(postPage);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", "CONDITION_NOT_MET", "message", e.getMessage()));
@@ -0,0 +1,30 @@
+package com.solucitation.midpoint_backend.domain.community_board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록의 다음 페이지 위치입니다. 직전 페이지 마지막 게시글의 (createDate, postId) 를 담습니다.
+ * 클라이언트에는 내용을 해석하지 않도록 URL-safe Base64 문자열로 내려줍니다.
+ */
+public record PostCursor(LocalDateTime createDate, Long postId) {
+
+    public String encode() {
+        String raw = createDate + "_" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -17,7 +17,8 @@ public class PostDetailDto { // 게시글 상세 조회에 사용하는 DTO
     private String content;
     private LocalDateTime createDate;
     private List<Long> postHashtags;
-    private List<String> images;
+    private List<String> images; // 대표 이미지 URL, 게시글 수정 시 deleteImageUrl 에 넣는 값입니다.
+    private List<String> displayImages; // 화면에 보일 중간 크기 이미지 URL (images 와 같은 순서)
     private int likeCnt;
     private Boolean likes = false;
 }
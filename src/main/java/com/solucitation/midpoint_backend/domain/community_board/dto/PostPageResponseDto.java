@@ -0,0 +1,15 @@
+package com.solucitation.midpoint_backend.domain.community_board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPageResponseDto { // 게시글 목록 한 페이지와 다음 페이지 커서를 담는 DTO
+    private List<PostResponseDto> posts;
+    private String nextCursor; // 마지막 페이지라면 null
+}
@@ -23,6 +23,8 @@ public class PostRequestDto { // 게시글 작성 시 사용하는 DTO
 
     private List<Long> postHashtag;
 
+    private List<String> imageUploadIds; // 이어 올리기(/api/uploads)로 올린 이미지, postImages 뒤에 이 순서대로 붙습니다.
+
     public void validatePostHashtags() {
         if (postHashtag == null || postHashtag.size() != 2 || postHashtag.get(0).equals(postHashtag.get(1))) {
             throw new IllegalArgumentException("서로 다른 두 개의 해시태그를 선택해야 합니다.");
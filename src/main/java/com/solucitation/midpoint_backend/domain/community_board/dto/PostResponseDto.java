@@ -43,7 +43,7 @@ public class PostResponseDto { // 게시글 정보를 게시글 전체 리스트
 
 
             // 첫 번째 이미지의 URL을 설정
-            this.firstImageUrl = sortedImages.get(0).getImageUrl();
+            this.firstImageUrl = sortedImages.get(0).getThumbnailUrlOrOriginal();
         }
 
         this.hashtags = post.getPostHashtags().stream()
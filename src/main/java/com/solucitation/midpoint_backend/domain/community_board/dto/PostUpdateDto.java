@@ -21,6 +21,8 @@ public class PostUpdateDto {  // 게시글 수정 시 사용하는 DTO
 
     private List<String> deleteImageUrl = new ArrayList<>();
 
+    private List<String> imageUploadIds = new ArrayList<>(); // 이어 올리기(/api/uploads)로 올린 추가 이미지, postImages 뒤에 이 순서대로 붙습니다.
+
     public void validate(int exist, int add) {
         if (postHashtag != null)  {
             if (postHashtag.size() != 2 || postHashtag.get(0).equals(postHashtag.get(1))) {
@@ -26,6 +26,13 @@ public class Image {
     @Column(nullable = false, name="image_url")
     private String imageUrl;
 
+    // 크기별 이미지 URL. 변환 기능 이전에 올린 이미지는 null 입니다.
+    @Column(name="medium_url")
+    private String mediumUrl;
+
+    @Column(name="thumbnail_url")
+    private String thumbnailUrl;
+
     @CreationTimestamp
     @Column(nullable = false, name="create_date", updatable = false)
     private LocalDateTime createDate;
@@ -51,4 +58,12 @@ public class Image {
         this.createDate = createDate;
         this.updateDate = updateDate;
     }
+
+    public String getMediumUrlOrOriginal() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
+
+    public String getThumbnailUrlOrOriginal() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
 }
\ No newline at end of file
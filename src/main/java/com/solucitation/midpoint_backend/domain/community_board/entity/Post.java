@@ -21,7 +21,10 @@ import static jakarta.persistence.FetchType.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name="post")
+@Table(name="post", indexes = {
+        @Index(name="idx_post_create_date_id", columnList="create_date DESC, post_id DESC"), // 게시글 목록 커서 페이지네이션용
+        @Index(name="idx_post_update_date", columnList="update_date") // 검색 인덱스 갱신용
+})
 public class Post {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,8 +28,23 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     @Query("DELETE FROM Image i WHERE i.imageUrl = :imageUrl AND i.post.id = :postId")
     void deleteImageByImageUrlAndPostId(@Param("imageUrl") String imageUrl, @Param("postId") Long postId);
 
+    // 게시글 목록에 필요한 여러 게시글의 이미지 URL 과 순서를 한 번에 가져옵니다.
+    @Query("SELECT i.post.id AS postId, i.imageUrl AS imageUrl, i.thumbnailUrl AS thumbnailUrl, i.order AS imageOrder FROM Image i " +
+            "WHERE i.post.id IN :postIds ORDER BY i.id")
+    List<PostImage> findPostImages(@Param("postIds") Collection<Long> postIds);
+
     @Modifying
     @Query("UPDATE Image i SET i.member.id = :newMemberId WHERE i.member.id = :currentMemberId")
     void updateMemberForImages(@Param("currentMemberId") Long currentMemberId, @Param("newMemberId") Long newMemberId);
 
+    interface PostImage {
+        Long getPostId();
+
+        String getImageUrl();
+
+        String getThumbnailUrl();
+
+        Integer getImageOrder();
+    }
+
 }
@@ -8,6 +8,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface LikesRepository extends JpaRepository<Likes, Long> {
     // 게시글의 좋아요 개수를 반환
@@ -18,6 +21,35 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     @Query("SELECT CASE WHEN COUNT(l) > 0 THEN TRUE ELSE FALSE END FROM Likes l WHERE l.post.id = :postId AND l.member.email= :email AND l.isLike = true")
     boolean isMemberLikesPostByEmail(@Param("postId") Long postId, @Param("email") String email);
 
+    // 여러 게시글에 좋아요를 누른 (게시글 번호, 회원 번호) 목록을 반환
+    @Query("SELECT l.post.id AS postId, l.member.id AS memberId FROM Likes l WHERE l.post.id IN :postIds AND l.isLike = true")
+    List<PostLike> findPostLikes(@Param("postIds") Collection<Long> postIds);
+
+    // 여러 게시글의 좋아요 개수를 반환 (좋아요 개수 대사용)
+    @Query("SELECT l.post.id AS postId, COUNT(l) AS likeCount FROM Likes l WHERE l.post.id IN :postIds AND l.isLike = true GROUP BY l.post.id")
+    List<PostLikeCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 해당 게시글에 좋아요를 누른 회원 중 주어진 회원 번호만 반환
+    @Query("SELECT l.member.id FROM Likes l WHERE l.post.id = :postId AND l.member.id IN :memberIds")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId, @Param("memberIds") Collection<Long> memberIds);
+
+    // 회원이 좋아요를 누른 게시글 번호를 반환 (회원 탈퇴 시 Redis 좋아요 집합 정리용)
+    @Query("SELECT l.post.id FROM Likes l WHERE l.member.id = :memberId AND l.isLike = true")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 좋아요 일괄 반영 전에 아직 존재하는 게시글 번호만 반환
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds")
+    List<Long> findExistingPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 일괄 반영 전에 아직 존재하는 회원 번호만 반환
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :memberIds")
+    List<Long> findExistingMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    // 좋아요 일괄 취소
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.post.id = :postId AND l.member.id IN :memberIds")
+    void deleteByPostIdAndMemberIds(@Param("postId") Long postId, @Param("memberIds") Collection<Long> memberIds);
+
     @Transactional // 좋아요 취소
     @Modifying
     @Query("DELETE FROM Likes l WHERE l.member.email = :memberEmail AND l.post.id = :postId")
@@ -30,5 +62,16 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     @Modifying
     @Query("DELETE FROM Likes l WHERE l.member.id = :memberId")
     void deleteByMemberId(@Param("memberId") Long memberId);
-}
 
+    interface PostLike {
+        Long getPostId();
+
+        Long getMemberId();
+    }
+
+    interface PostLikeCount {
+        Long getPostId();
+
+        Long getLikeCount();
+    }
+}
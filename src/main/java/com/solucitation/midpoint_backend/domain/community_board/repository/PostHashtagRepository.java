@@ -2,8 +2,27 @@ package com.solucitation.midpoint_backend.domain.community_board.repository;
 
 import com.solucitation.midpoint_backend.domain.community_board.entity.PostHashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
+    // 게시글 목록에 필요한 여러 게시글의 해시태그 번호를 한 번에 가져옵니다.
+    @Query("SELECT ph.post.id AS postId, ph.hashtag.id AS hashtagId FROM PostHashtag ph " +
+            "WHERE ph.post.id IN :postIds ORDER BY ph.id")
+    List<PostHashtagId> findHashtagIds(@Param("postIds") Collection<Long> postIds);
+
+    // 해시태그별 게시글 비트맵을 만들기 위해 모든 (게시글, 해시태그) 쌍을 가져옵니다.
+    @Query("SELECT ph.post.id AS postId, ph.hashtag.id AS hashtagId FROM PostHashtag ph")
+    List<PostHashtagId> findAllHashtagIds();
+
+    interface PostHashtagId {
+        Long getPostId();
+
+        Long getHashtagId();
+    }
 }
@@ -1,6 +1,7 @@
 package com.solucitation.midpoint_backend.domain.community_board.repository;
 
 import com.solucitation.midpoint_backend.domain.community_board.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,7 +9,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Transactional(readOnly = true)
 @Repository
@@ -21,9 +24,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p JOIN FETCH p.postHashtags WHERE p.id = :postId")
     Post findPostWithPostHashtagsById(@Param("postId") Long postId);
 
-    // Post 엔티티와 각 게시글에 연결된 images와 postHashtags를 함께 가져옵니다.
-    @Query("SELECT p FROM Post p ORDER BY p.createDate desc ")
-    List<Post> findAllPostWithImagesAndPostHashtags();
+    // 게시글 목록의 첫 페이지를 게시일 내림차순(같으면 게시글 번호 내림차순)으로 가져옵니다.
+    @Query("SELECT p FROM Post p ORDER BY p.createDate DESC, p.id DESC")
+    List<Post> findFeed(Pageable pageable);
+
+    // 커서 (createDate, postId) 다음부터 한 페이지를 가져옵니다. (create_date, post_id) 인덱스를 범위 조회합니다.
+    @Query("SELECT p FROM Post p " +
+            "WHERE (p.createDate, p.id) < (:createDate, :postId) " +
+            "ORDER BY p.createDate DESC, p.id DESC")
+    List<Post> findFeedAfter(@Param("createDate") LocalDateTime createDate, @Param("postId") Long postId, Pageable pageable);
 
     // 해시태그 리스트 원소 중 하나 이상을 포함하는 게시글을 게시일 내림차순으로 모두 가져옵니다.
     @Query("SELECT DISTINCT p FROM Post p " +
@@ -40,6 +49,24 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "ORDER BY p.createDate DESC")
     List<Post> findAllPostByQuery(@Param("query") String query);
 
+    // 게시글 번호 afterId 다음부터 검색 인덱스에 넣을 필드만 번호 순으로 가져옵니다.
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content, p.createDate AS createDate, p.updateDate AS updateDate " +
+            "FROM Post p WHERE p.id > :afterId ORDER BY p.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // since 이후 작성되거나 수정된 게시글을 검색 인덱스용으로 가져옵니다. (update_date 는 작성할 때도 채워집니다.)
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content, p.createDate AS createDate, p.updateDate AS updateDate " +
+            "FROM Post p WHERE p.updateDate > :since")
+    List<SearchDocument> findSearchDocumentsUpdatedAfter(@Param("since") LocalDateTime since);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content, p.createDate AS createDate, p.updateDate AS updateDate " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<SearchDocument> findSearchDocument(@Param("postId") Long postId);
+
+    // 삭제된 게시글을 검색 인덱스에서 빼기 위해 남아 있는 게시글 번호를 모두 가져옵니다.
+    @Query("SELECT p.id FROM Post p")
+    List<Long> findAllIds();
+
     // 특정한 작성자가 작성한 게시글을 모두 가져옵니다.
     List<Post> findByMemberIdOrderByCreateDateDesc(Long memberId);
 
@@ -47,4 +74,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Modifying
     @Query("UPDATE Post p SET p.member.id = :newMemberId WHERE p.member.id = :currentMemberId")
     void updateMemberForPosts(@Param("currentMemberId") Long currentMemberId, @Param("newMemberId") Long newMemberId);
+
+    interface SearchDocument {
+        Long getId();
+        String getTitle();
+        String getContent();
+        LocalDateTime getCreateDate();
+        LocalDateTime getUpdateDate();
+    }
 }
@@ -0,0 +1,66 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.entity.Hashtag;
+import com.solucitation.midpoint_backend.domain.community_board.repository.HashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 해시태그 번호 → 이름 사전입니다. 해시태그는 import.sql 로 넣은 고정 목록이므로 한 번 읽어 메모리에 두고,
+ * 모르는 번호가 들어오면 (새 해시태그가 추가됐을 수 있으므로) posts.hashtags.reload-interval 에 한 번까지만 다시 읽습니다.
+ */
+@Slf4j
+@Component
+public class HashtagDictionary {
+
+    private final HashtagRepository hashtagRepository;
+    private final long reloadIntervalNanos;
+
+    private volatile Map<Long, String> names;
+    private volatile long loadedAt;
+
+    public HashtagDictionary(HashtagRepository hashtagRepository,
+                             @Value("${posts.hashtags.reload-interval:1m}") Duration reloadInterval) {
+        this.hashtagRepository = hashtagRepository;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+    }
+
+    public boolean contains(Long hashtagId) {
+        if (hashtagId == null) {
+            return false;
+        }
+        Map<Long, String> current = names;
+        if (current == null || !current.containsKey(hashtagId) && System.nanoTime() - loadedAt > reloadIntervalNanos) {
+            current = reload();
+        }
+        return current.containsKey(hashtagId);
+    }
+
+    /**
+     * @throws IllegalArgumentException 존재하지 않는 해시태그가 있는 경우
+     */
+    public void validate(Collection<Long> hashtagIds) {
+        for (Long hashtagId : hashtagIds) {
+            if (!contains(hashtagId)) {
+                throw new IllegalArgumentException("해당 해시태그는 존재하지 않습니다.");
+            }
+        }
+    }
+
+    private synchronized Map<Long, String> reload() {
+        Map<Long, String> loaded = new HashMap<>();
+        for (Hashtag hashtag : hashtagRepository.findAll()) {
+            loaded.put(hashtag.getId(), hashtag.getName());
+        }
+        names = Map.copyOf(loaded);
+        loadedAt = System.nanoTime();
+        log.debug("해시태그 사전 로드: {}개", loaded.size());
+        return names;
+    }
+}
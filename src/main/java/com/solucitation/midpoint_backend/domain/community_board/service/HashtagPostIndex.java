@@ -0,0 +1,165 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.repository.PostHashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그별로 그 해시태그가 달린 게시글 번호를 압축 비트맵(PostIdBitmap)으로 들고 있는 인덱스입니다.
+ * 목적별 검색은 비트맵 합집합·교집합과 게시글 번호 내림차순 페이지 추출로 끝나고, DB 에서는 한 페이지의 게시글만 읽습니다.
+ * 이 서버의 변경은 커밋 직후 PostChangedEvent 로 반영하고, 다른 서버의 변경까지 맞추기 위해
+ * posts.hashtag-index.rebuild-interval 마다 post_hashtag 전체로 다시 만듭니다. (게시글당 해시태그가 두 개뿐이라 가볍습니다.)
+ */
+@Slf4j
+@Component
+public class HashtagPostIndex {
+
+    private final PostHashtagRepository postHashtagRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, PostIdBitmap> bitmaps;
+    // 다시 만드는 동안 들어온 변경입니다. 새 인덱스로 바꿀 때 한 번 더 반영합니다.
+    private List<Map.Entry<Long, List<Long>>> changesDuringRebuild;
+
+    public HashtagPostIndex(PostHashtagRepository postHashtagRepository,
+                            @Value("${posts.hashtag-index.enabled:true}") boolean enabled) {
+        this.postHashtagRepository = postHashtagRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 인덱스를 만들기 전이거나 꺼져 있으면 false 이며, 이때는 DB 조인으로 대신합니다.
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return enabled && bitmaps != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해시태그 조건에 맞는 게시글 번호를 큰 것(최신 글)부터 찾습니다.
+     *
+     * @param hashtagIds 해시태그 번호 목록
+     * @param matchAll true 면 모든 해시태그가 달린 게시글, false 면 하나 이상 달린 게시글
+     * @param beforePostId 이 번호보다 작은 게시글만 찾습니다, 첫 페이지라면 null
+     * @param limit 반환할 최대 개수
+     * @return 게시글 번호 목록 (내림차순)
+     */
+    public List<Long> find(Collection<Long> hashtagIds, boolean matchAll, Long beforePostId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<PostIdBitmap> selected = new ArrayList<>();
+            for (Long hashtagId : new LinkedHashSet<>(hashtagIds)) {
+                PostIdBitmap bitmap = bitmaps.get(hashtagId);
+                if (bitmap != null) {
+                    selected.add(bitmap);
+                } else if (matchAll) {
+                    return List.of();
+                }
+            }
+            PostIdBitmap matched = matchAll ? PostIdBitmap.and(selected) : PostIdBitmap.or(selected);
+
+            List<Long> postIds = new ArrayList<>(limit);
+            for (long postId : matched.descending(beforePostId, limit)) {
+                postIds.add(postId);
+            }
+            return postIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${posts.hashtag-index.rebuild-interval:PT10M}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<Long, PostIdBitmap> built = new HashMap<>();
+            List<PostHashtagRepository.PostHashtagId> postHashtags = postHashtagRepository.findAllHashtagIds();
+            for (PostHashtagRepository.PostHashtagId postHashtag : postHashtags) {
+                built.computeIfAbsent(postHashtag.getHashtagId(), id -> new PostIdBitmap()).add(postHashtag.getPostId());
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, List<Long>> change : changesDuringRebuild) {
+                    apply(built, change.getKey(), change.getValue());
+                }
+                bitmaps = built;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("해시태그 인덱스 생성: 해시태그 {}개, 게시글-해시태그 {}건, {}ms",
+                    built.size(), postHashtags.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // DB 를 읽지 못해도 이미 만든 인덱스로 계속 응답합니다.
+            log.warn("해시태그 인덱스 생성 실패: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시글의 현재 해시태그를 읽어 비트맵을 맞춥니다. 삭제된 게시글은 모든 비트맵에서 뺍니다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Long> hashtagIds = postHashtagRepository.findHashtagIds(List.of(event.postId())).stream()
+                    .map(PostHashtagRepository.PostHashtagId::getHashtagId)
+                    .toList();
+
+            lock.writeLock().lock();
+            try {
+                if (bitmaps != null) {
+                    apply(bitmaps, event.postId(), hashtagIds);
+                }
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.add(Map.entry(event.postId(), hashtagIds));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("게시글 {} 해시태그 인덱스 반영 실패: {}", event.postId(), e.getMessage());
+        }
+    }
+
+    private static void apply(Map<Long, PostIdBitmap> bitmaps, Long postId, List<Long> hashtagIds) {
+        for (Map.Entry<Long, PostIdBitmap> entry : bitmaps.entrySet()) {
+            if (!hashtagIds.contains(entry.getKey())) {
+                entry.getValue().remove(postId);
+            }
+        }
+        for (Long hashtagId : hashtagIds) {
+            bitmaps.computeIfAbsent(hashtagId, id -> new PostIdBitmap()).add(postId);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.repository.LikesRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 게시글 좋아요 상태를 Redis 에 보관합니다.
+ * 게시글마다 좋아요를 누른 회원 번호 집합(likes:post:{postId})을 두고, 개수는 SCARD 로 바로 읽으므로 COUNT 쿼리를 하지 않습니다.
+ * 좋아요 토글은 Lua 스크립트 하나로 집합 변경과 반영 대기 목록(likes:pending) 기록을 원자적으로 처리하고,
+ * DB 반영은 LikeWriteBehind 가 모아서 합니다. 집합은 게시글을 처음 볼 때 likes 테이블에서 한 번 채웁니다.
+ * 채운 게시글은 마지막으로 읽거나 토글한 시각과 함께 likes:loaded-at 에 두고, 오래 쓰이지 않은 게시글의 집합은 evictIdle 로 지웁니다.
+ */
+@Component
+public class LikeCounter {
+
+    static final String PENDING_KEY = "likes:pending";
+    static final String FLUSHING_KEY = "likes:pending:flushing";
+    private static final String LOADED_KEY = "likes:loaded-at";
+    private static final String LOCK_KEY = "likes:flush-lock";
+    private static final String POST_KEY_PREFIX = "likes:post:";
+
+    // 눌려 있으면 취소하고, 아니면 누릅니다. 결과 상태를 반영 대기 목록에 덮어써서 같은 회원의 연속 토글은 한 건으로 합쳐집니다.
+    // 사용 시각도 함께 갱신해, 반영 대기 중인 게시글이 정리 대상이 되지 않게 합니다.
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[3], 'XX', ARGV[3], ARGV[4]) " +
+            "local liked = 1 " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('SREM', KEYS[1], ARGV[1]) liked = 0 " +
+            "else " +
+            "  redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "end " +
+            "redis.call('HSET', KEYS[2], ARGV[2], liked) " +
+            "return liked", Long.class);
+
+    // 아직 채우지 않은 게시글일 때만 DB 에서 읽은 회원 번호로 집합을 채웁니다. 동시에 채우려 해도 한 번만 반영됩니다.
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZSCORE', KEYS[2], ARGV[1]) then return 0 end " +
+            "for i = 3, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 그사이 다시 쓰이지 않았을 때만 게시글의 집합과 사용 기록을 함께 지웁니다.
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local usedAt = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if usedAt and tonumber(usedAt) < tonumber(ARGV[2]) then " +
+            "  redis.call('ZREM', KEYS[1], ARGV[1]) redis.call('DEL', KEYS[2]) return 1 " +
+            "end " +
+            "return 0", Long.class);
+
+    // DB 에 반영되지 않은 변경이 없을 때만 집합을 DB 상태로 바꿉니다. (대사 작업용)
+    private static final RedisScript<Long> RELOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 or redis.call('EXISTS', KEYS[3]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 1, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikesRepository likesRepository;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public LikeCounter(@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                       LikesRepository likesRepository) {
+        this.redisTemplate = redisTemplate;
+        this.likesRepository = likesRepository;
+    }
+
+    /**
+     * 좋아요를 누르거나 취소합니다.
+     *
+     * @return 변경 후 좋아요 상태 (true: 누름, false: 취소)
+     */
+    public boolean toggle(Long postId, Long memberId) {
+        ensureLoaded(List.of(postId));
+        Long liked = redisTemplate.execute(TOGGLE_SCRIPT, List.of(postKey(postId), PENDING_KEY, LOADED_KEY),
+                memberId.toString(), postId + ":" + memberId, now(), postId.toString());
+        return liked != null && liked == 1L;
+    }
+
+    public int count(Long postId) {
+        ensureLoaded(List.of(postId));
+        Long count = redisTemplate.opsForSet().size(postKey(postId));
+        return count == null ? 0 : count.intValue();
+    }
+
+    public boolean isLiked(Long postId, Long memberId) {
+        ensureLoaded(List.of(postId));
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(postKey(postId), memberId.toString()));
+    }
+
+    /**
+     * @return 주어진 게시글 중 회원이 좋아요를 누른 게시글 번호
+     */
+    public Set<Long> likedPostIds(List<Long> postIds, Long memberId) {
+        ensureLoaded(postIds);
+        byte[] member = bytes(memberId.toString());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.setCommands().sIsMember(bytes(postKey(postId)), member);
+            }
+            return null;
+        });
+
+        Set<Long> liked = new HashSet<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                liked.add(postIds.get(i));
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 삭제된 게시글의 좋아요 집합을 지웁니다.
+     */
+    public void evict(Long postId) {
+        redisTemplate.delete(postKey(postId));
+        redisTemplate.opsForZSet().remove(LOADED_KEY, postId.toString());
+    }
+
+    /**
+     * 탈퇴한 회원을 게시글 좋아요 집합에서 뺍니다. DB 에는 없고 반영 대기 목록에만 있는 좋아요도 함께 찾아 뺍니다.
+     * 집합을 통째로 지우면 다른 회원의 반영 대기 중인 좋아요까지 사라지므로 evict 대신 회원만 뺍니다.
+     * 트랜잭션 안에서 호출하면, 커밋 전에 likes 테이블에서 다시 채운 집합에 회원이 남지 않도록 커밋 직후에 뺍니다.
+     *
+     * @param postIds likes 테이블에서 회원이 좋아요를 누른 게시글 번호
+     */
+    public void removeMember(Long memberId, Collection<Long> postIds) {
+        List<Long> likedPostIds = List.copyOf(postIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeMemberNow(memberId, likedPostIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeMemberNow(memberId, likedPostIds);
+            }
+        });
+    }
+
+    private void removeMemberNow(Long memberId, List<Long> likedPostIds) {
+        Set<Long> postIds = new HashSet<>(likedPostIds);
+        String suffix = ":" + memberId;
+        for (String key : List.of(PENDING_KEY, FLUSHING_KEY)) {
+            for (Object field : redisTemplate.opsForHash().keys(key)) {
+                String pending = (String) field;
+                if (pending.endsWith(suffix)) {
+                    postIds.add(Long.valueOf(pending.substring(0, pending.length() - suffix.length())));
+                }
+            }
+        }
+        if (postIds.isEmpty()) {
+            return;
+        }
+        byte[] member = bytes(memberId.toString());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.setCommands().sRem(bytes(postKey(postId)), member);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 아직 Redis 에 채우지 않은 게시글의 좋아요 회원 목록을 한 번의 쿼리로 읽어 채웁니다.
+     * 이미 채운 게시글은 사용 시각을 먼저 갱신해, 읽는 도중에 evictIdle 이 집합을 지우지 못하게 합니다.
+     */
+    private void ensureLoaded(List<Long> postIds) {
+        byte[] loadedKey = bytes(LOADED_KEY);
+        double usedAt = System.currentTimeMillis();
+        List<Object> loaded = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                byte[] member = bytes(postId.toString());
+                connection.zSetCommands().zAdd(loadedKey, usedAt, member, RedisZSetCommands.ZAddArgs.ifExists());
+                connection.zSetCommands().zScore(loadedKey, member);
+            }
+            return null;
+        });
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (loaded.get(2 * i + 1) == null) {
+                missing.add(postIds.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<String>> members = likedMembers(missing);
+        for (Long postId : missing) {
+            List<String> args = new ArrayList<>();
+            args.add(postId.toString());
+            args.add(now());
+            args.addAll(members.getOrDefault(postId, List.of()));
+            redisTemplate.execute(LOAD_SCRIPT, List.of(postKey(postId), LOADED_KEY), args.toArray());
+        }
+    }
+
+    /**
+     * Redis 에 채워 둔 게시글 번호를 모두 반환합니다. (대사 작업용)
+     */
+    Set<Long> loadedPostIds() {
+        Set<String> members = redisTemplate.opsForZSet().range(LOADED_KEY, 0, -1);
+        Set<Long> postIds = new HashSet<>();
+        if (members != null) {
+            members.forEach(member -> postIds.add(Long.valueOf(member)));
+        }
+        return postIds;
+    }
+
+    /**
+     * idleTtl 동안 읽거나 토글하지 않은 게시글의 집합을 지웁니다. 다시 읽히면 likes 테이블에서 다시 채웁니다.
+     * 토글하면 사용 시각이 갱신되므로, 반영 대기 중인 변경이 있는 게시글은 지워지지 않습니다.
+     *
+     * @return 지운 게시글 수
+     */
+    int evictIdle(Duration idleTtl, int batchSize) {
+        long cutoff = System.currentTimeMillis() - idleTtl.toMillis();
+        int evicted = 0;
+        while (true) {
+            Set<String> idle = redisTemplate.opsForZSet().rangeByScore(LOADED_KEY, 0, cutoff, 0, batchSize);
+            if (idle == null || idle.isEmpty()) {
+                return evicted;
+            }
+            int evictedInBatch = 0;
+            for (String postId : idle) {
+                Long result = redisTemplate.execute(EVICT_SCRIPT, List.of(LOADED_KEY, postKey(Long.valueOf(postId))),
+                        postId, Long.toString(cutoff));
+                if (result != null && result == 1L) {
+                    evictedInBatch++;
+                }
+            }
+            evicted += evictedInBatch;
+            if (evictedInBatch == 0) { // 모두 그사이 다시 쓰였습니다.
+                return evicted;
+            }
+        }
+    }
+
+    /**
+     * @return 게시글 번호별 Redis 집합 크기 (postIds 순서)
+     */
+    List<Long> counts(List<Long> postIds) {
+        List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.setCommands().sCard(bytes(postKey(postId)));
+            }
+            return null;
+        });
+        return sizes.stream().map(size -> size == null ? 0L : (Long) size).toList();
+    }
+
+    /**
+     * DB 에 반영되지 않은 변경이 없으면 게시글의 집합을 likes 테이블 상태로 다시 채웁니다.
+     *
+     * @return 다시 채웠으면 true
+     */
+    boolean reload(Long postId, List<String> memberIds) {
+        Long reloaded = redisTemplate.execute(RELOAD_SCRIPT, List.of(postKey(postId), PENDING_KEY, FLUSHING_KEY),
+                memberIds.toArray());
+        return reloaded != null && reloaded == 1L;
+    }
+
+    Map<Long, List<String>> likedMembers(Collection<Long> postIds) {
+        Map<Long, List<String>> members = new HashMap<>();
+        for (LikesRepository.PostLike like : likesRepository.findPostLikes(postIds)) {
+            members.computeIfAbsent(like.getPostId(), postId -> new ArrayList<>()).add(like.getMemberId().toString());
+        }
+        return members;
+    }
+
+    /**
+     * 반영 대기 목록을 처리 중 목록으로 옮기고 그 내용을 반환합니다.
+     * 이전 처리가 끝나지 않아 처리 중 목록이 남아 있으면 그것을 먼저 다시 반환합니다.
+     *
+     * @return "postId:memberId" → "1"(누름) 또는 "0"(취소)
+     */
+    Map<String, String> drainPending() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                return Map.of();
+            }
+            Boolean renamed = redisTemplate.renameIfAbsent(PENDING_KEY, FLUSHING_KEY);
+            if (!Boolean.TRUE.equals(renamed)) {
+                return Map.of();
+            }
+        }
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+        Map<String, String> pending = new HashMap<>();
+        entries.forEach((field, value) -> pending.put((String) field, (String) value));
+        return pending;
+    }
+
+    void completeDrain() {
+        redisTemplate.delete(FLUSHING_KEY);
+    }
+
+    /**
+     * 여러 서버가 같은 변경을 동시에 반영하지 않도록 Redis 락을 잡습니다.
+     */
+    boolean tryLock(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, instanceId, ttl));
+    }
+
+    void unlock() {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), instanceId);
+    }
+
+    private static String now() {
+        return Long.toString(System.currentTimeMillis());
+    }
+
+    private static String postKey(Long postId) {
+        return POST_KEY_PREFIX + postId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 에 모인 좋아요 변경을 주기적으로 likes 테이블에 반영하고(write-behind),
+ * 하루 한 번 오래 쓰이지 않은 게시글의 집합을 Redis 에서 지우고, 남은 게시글의 좋아요 개수를 likes 테이블과 맞춰 봅니다(reconciliation).
+ * 여러 서버에서 동시에 돌지 않도록 두 작업 모두 Redis 락을 잡은 서버만 실행합니다.
+ */
+@Slf4j
+@Component
+public class LikeWriteBehind {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final LikeCounter likeCounter;
+    private final LikesService likesService;
+    private final Duration lockTtl;
+    private final Duration idleTtl;
+
+    public LikeWriteBehind(LikeCounter likeCounter, LikesService likesService,
+                           @Value("${likes.write-behind.lock-ttl:5m}") Duration lockTtl,
+                           @Value("${likes.idle-ttl:7d}") Duration idleTtl) {
+        this.likeCounter = likeCounter;
+        this.likesService = likesService;
+        this.lockTtl = lockTtl;
+        this.idleTtl = idleTtl;
+    }
+
+    @Scheduled(fixedDelayString = "${likes.write-behind.interval:1s}")
+    public void flush() {
+        if (!likeCounter.tryLock(lockTtl)) {
+            return;
+        }
+        try {
+            flushPending();
+        } catch (Exception e) {
+            // 처리 중 목록은 지우지 않았으므로 다음 주기에 같은 변경을 다시 반영합니다.
+            log.error("좋아요 변경 반영 실패: {}", e.getMessage(), e);
+        } finally {
+            likeCounter.unlock();
+        }
+    }
+
+    /**
+     * 남은 변경을 먼저 반영하고 likes.idle-ttl 동안 쓰이지 않은 게시글의 집합을 지운 뒤,
+     * Redis 에 남은 게시글의 좋아요 개수를 likes 테이블과 비교해 다르면 다시 채웁니다.
+     * 반영 대기 중인 변경이 있는 동안에는 다시 채우지 않고 다음 대사로 미룹니다.
+     */
+    @Scheduled(cron = "${likes.reconcile.cron:0 30 4 * * *}", zone = "${likes.reconcile.zone:Asia/Seoul}")
+    public void reconcile() {
+        if (!likeCounter.tryLock(lockTtl)) {
+            return;
+        }
+        try {
+            flushPending();
+            int evicted = likeCounter.evictIdle(idleTtl, RECONCILE_BATCH_SIZE);
+
+            List<Long> postIds = new ArrayList<>(likeCounter.loadedPostIds());
+            int corrected = 0;
+            for (int from = 0; from < postIds.size(); from += RECONCILE_BATCH_SIZE) {
+                corrected += reconcile(postIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, postIds.size())));
+            }
+            log.info("좋아요 개수 대사 완료: 게시글 {}개 정리, {}개 중 {}개 보정", evicted, postIds.size(), corrected);
+        } catch (Exception e) {
+            log.error("좋아요 개수 대사 실패: {}", e.getMessage(), e);
+        } finally {
+            likeCounter.unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<String, String> pending = likeCounter.drainPending();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<Long>> likedMembers = new HashMap<>();
+        Map<Long, Set<Long>> unlikedMembers = new HashMap<>();
+        pending.forEach((field, liked) -> {
+            int separator = field.indexOf(':');
+            Long postId = Long.valueOf(field.substring(0, separator));
+            Long memberId = Long.valueOf(field.substring(separator + 1));
+            Map<Long, Set<Long>> target = "1".equals(liked) ? likedMembers : unlikedMembers;
+            target.computeIfAbsent(postId, id -> new HashSet<>()).add(memberId);
+        });
+
+        int applied = likesService.applyChanges(likedMembers, unlikedMembers);
+        likeCounter.completeDrain();
+        log.debug("좋아요 변경 {}건 중 {}건 반영", pending.size(), applied);
+    }
+
+    private int reconcile(List<Long> postIds) {
+        Map<Long, Long> dbCounts = new HashMap<>();
+        likesService.countByPostIds(postIds).forEach(count -> dbCounts.put(count.getPostId(), count.getLikeCount()));
+        List<Long> redisCounts = likeCounter.counts(postIds);
+
+        List<Long> mismatched = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (!redisCounts.get(i).equals(dbCounts.getOrDefault(postIds.get(i), 0L))) {
+                mismatched.add(postIds.get(i));
+            }
+        }
+        if (mismatched.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<String>> members = likeCounter.likedMembers(mismatched);
+        int corrected = 0;
+        for (Long postId : mismatched) {
+            if (likeCounter.reload(postId, members.getOrDefault(postId, List.of()))) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+}
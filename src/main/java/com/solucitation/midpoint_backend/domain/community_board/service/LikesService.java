@@ -1,17 +1,83 @@
 package com.solucitation.midpoint_backend.domain.community_board.service;
 
+import com.solucitation.midpoint_backend.domain.community_board.entity.Likes;
+import com.solucitation.midpoint_backend.domain.community_board.entity.Post;
 import com.solucitation.midpoint_backend.domain.community_board.repository.LikesRepository;
+import com.solucitation.midpoint_backend.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 public class LikesService {
     private final LikesRepository likesRepository;
+    private final LikeCounter likeCounter;
+    private final EntityManager entityManager;
 
-    @Transactional(readOnly = true)
     public int countLikesByPostId(Long postId) {
-        return likesRepository.countByPostIdAndIsLiked(postId);
+        return likeCounter.count(postId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LikesRepository.PostLikeCount> countByPostIds(Collection<Long> postIds) {
+        return likesRepository.countByPostIds(postIds);
+    }
+
+    /**
+     * Redis 에서 모은 좋아요 변경을 한 트랜잭션으로 likes 테이블에 반영합니다.
+     * 변경은 (게시글, 회원) 별 최종 상태이므로 여러 번 반영해도 결과가 같습니다.
+     * 그 사이 삭제된 게시글이나 탈퇴한 회원의 변경은 버립니다.
+     *
+     * @param likedMembers 게시글 번호 → 좋아요를 누른 회원 번호
+     * @param unlikedMembers 게시글 번호 → 좋아요를 취소한 회원 번호
+     * @return 반영한 변경 수
+     */
+    @Transactional
+    public int applyChanges(Map<Long, Set<Long>> likedMembers, Map<Long, Set<Long>> unlikedMembers) {
+        Set<Long> postIds = new HashSet<>(likedMembers.keySet());
+        postIds.addAll(unlikedMembers.keySet());
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> existingPostIds = new HashSet<>(likesRepository.findExistingPostIds(postIds));
+
+        Set<Long> memberIds = new HashSet<>();
+        likedMembers.values().forEach(memberIds::addAll);
+        Set<Long> existingMemberIds = memberIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(likesRepository.findExistingMemberIds(memberIds));
+
+        int applied = 0;
+        for (Map.Entry<Long, Set<Long>> entry : unlikedMembers.entrySet()) {
+            if (existingPostIds.contains(entry.getKey())) {
+                likesRepository.deleteByPostIdAndMemberIds(entry.getKey(), entry.getValue());
+                applied += entry.getValue().size();
+            }
+        }
+
+        List<Likes> inserts = new ArrayList<>();
+        for (Map.Entry<Long, Set<Long>> entry : likedMembers.entrySet()) {
+            Long postId = entry.getKey();
+            if (!existingPostIds.contains(postId)) {
+                continue;
+            }
+            Set<Long> newMemberIds = new HashSet<>(entry.getValue());
+            newMemberIds.retainAll(existingMemberIds);
+            if (newMemberIds.isEmpty()) {
+                continue;
+            }
+            likesRepository.findMemberIdsByPostId(postId, newMemberIds).forEach(newMemberIds::remove); // 이미 반영된 좋아요는 건너뜁니다.
+
+            Post post = entityManager.getReference(Post.class, postId);
+            for (Long memberId : newMemberIds) {
+                inserts.add(new Likes(post, entityManager.getReference(Member.class, memberId)));
+            }
+        }
+        likesRepository.saveAll(inserts);
+        return applied + inserts.size();
     }
 }
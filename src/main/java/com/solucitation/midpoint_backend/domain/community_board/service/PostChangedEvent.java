@@ -0,0 +1,9 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+/**
+ * 게시글이 생성·수정·삭제됐음을 알리는 이벤트입니다. 트랜잭션이 커밋된 뒤 검색 인덱스 등 파생 데이터를 갱신하는 데 씁니다.
+ *
+ * @param postId 변경된 게시글 번호
+ */
+public record PostChangedEvent(Long postId) {
+}
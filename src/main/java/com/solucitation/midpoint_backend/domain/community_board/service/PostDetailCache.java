@@ -0,0 +1,212 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.solucitation.midpoint_backend.domain.member.service.MemberProfileChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 화면에서 보는 사람과 무관한 부분(작성자 프로필, 제목, 본문, 해시태그, 이미지)을 캐시합니다.
+ * 좋아요 개수와 보는 사람의 좋아요 여부는 LikeCounter 에서 매번 읽어 덮어쓰므로 좋아요가 바뀌어도 무효화할 필요가 없습니다.
+ * 1차는 프로세스 내 Caffeine 캐시, 2차는 선택적으로 여러 서버가 공유하는 Redis 캐시입니다.
+ * 게시글 수정·삭제(PostChangedEvent)와 작성자 프로필 변경(MemberProfileChangedEvent) 시 커밋 직후 해당 게시글만 지우며,
+ * Redis 를 쓰면 posts:detail:invalidate 채널로 다른 서버의 로컬 캐시도 지웁니다.
+ * 지운 직후에는 잠시 무효화 표시를 남겨, 무효화 전에 DB 를 읽은 요청이 옛 내용을 Redis 에 다시 쓰지 못하게 합니다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String KEY_PREFIX = "posts:detail:";
+    private static final String MEMBER_KEY_PREFIX = "posts:detail:member:";
+    private static final String CHANNEL = "posts:detail:invalidate";
+    private static final String INVALIDATED = "-";
+
+    private final Cache<Long, PostDetail> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Duration invalidationHold;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public PostDetailCache(@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${posts.detail-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${posts.detail-cache.ttl:1m}") Duration localTtl,
+                           @Value("${posts.detail-cache.redis.enabled:false}") boolean redisEnabled,
+                           @Value("${posts.detail-cache.redis.ttl:1h}") Duration redisTtl,
+                           @Value("${posts.detail-cache.redis.invalidation-hold:10s}") Duration invalidationHold) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+        this.invalidationHold = invalidationHold;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "posts.detail");
+
+        this.redisHits = Counter.builder("posts.detail.cache.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("posts.detail.cache.redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrors = Counter.builder("posts.detail.cache.redis").tag("result", "error").register(meterRegistry);
+
+        if (redisEnabled) {
+            listenerContainer.addMessageListener((message, pattern) -> {
+                String postId = new String(message.getBody(), StandardCharsets.UTF_8);
+                localCache.invalidate(Long.valueOf(postId));
+            }, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * 캐시된 상세 정보를 반환하고, 없으면 loader 로 읽어 채웁니다.
+     * 같은 서버에서 같은 게시글을 동시에 읽으면 loader 는 한 번만 실행됩니다.
+     */
+    public PostDetail get(Long postId, Supplier<PostDetail> loader) {
+        return localCache.get(postId, id -> {
+            PostDetail cached = getRedis(id);
+            if (cached != null) {
+                return cached;
+            }
+            PostDetail loaded = loader.get();
+            putRedis(id, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 게시글이 수정·삭제되면 커밋 직후 캐시에서 지웁니다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(List.of(event.postId()));
+    }
+
+    /**
+     * 작성자 닉네임·프로필 이미지가 바뀌거나 탈퇴하면 그 회원이 쓴 게시글 중 캐시된 것을 지웁니다.
+     * 프로필 수정은 트랜잭션 밖에서 일어날 수 있으므로 트랜잭션이 없으면 바로 실행합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        if (!redisEnabled) {
+            localCache.asMap().values().removeIf(detail -> event.memberId().equals(detail.writerId()));
+            return;
+        }
+        try {
+            Set<String> postIds = redisTemplate.opsForSet().members(memberKey(event.memberId()));
+            redisTemplate.delete(memberKey(event.memberId()));
+            if (postIds != null && !postIds.isEmpty()) {
+                invalidate(postIds.stream().map(Long::valueOf).toList());
+            }
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("게시글 상세 캐시 무효화 실패 (회원 {}): {}", event.memberId(), e.getMessage());
+        }
+        // 로컬에만 남은 항목도 지웁니다.
+        localCache.asMap().values().removeIf(detail -> event.memberId().equals(detail.writerId()));
+    }
+
+    private void invalidate(List<Long> postIds) {
+        localCache.invalidateAll(postIds);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            for (Long postId : postIds) {
+                redisTemplate.opsForValue().set(key(postId), INVALIDATED, invalidationHold);
+                redisTemplate.convertAndSend(CHANNEL, postId.toString());
+            }
+        } catch (Exception e) {
+            // Redis 에 남은 항목은 redis.ttl 이 지나면 사라집니다.
+            redisErrors.increment();
+            log.warn("게시글 상세 캐시 무효화 실패 {}: {}", postIds, e.getMessage());
+        }
+    }
+
+    private PostDetail getRedis(Long postId) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(key(postId));
+            if (json == null || INVALIDATED.equals(json)) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, PostDetail.class);
+        } catch (Exception e) {
+            // Redis 장애 시에는 캐시 없이 DB 에서 읽습니다.
+            redisErrors.increment();
+            log.warn("게시글 상세 캐시 조회 실패 {}: {}", postId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRedis(Long postId, PostDetail detail) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            // 무효화 표시가 남아 있으면 쓰지 않습니다.
+            Boolean stored = redisTemplate.opsForValue()
+                    .setIfAbsent(key(postId), objectMapper.writeValueAsString(detail), redisTtl);
+            if (Boolean.TRUE.equals(stored) && detail.writerId() != null) {
+                redisTemplate.opsForSet().add(memberKey(detail.writerId()), postId.toString());
+                redisTemplate.expire(memberKey(detail.writerId()), redisTtl);
+            }
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("게시글 상세 캐시 저장 실패 {}: {}", postId, e.getMessage());
+        }
+    }
+
+    private static String key(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    private static String memberKey(Long memberId) {
+        return MEMBER_KEY_PREFIX + memberId;
+    }
+
+    /**
+     * 게시글 상세 정보 중 보는 사람과 무관한 부분입니다.
+     */
+    public record PostDetail(Long writerId,
+                             String nickname,
+                             String profileImageUrl,
+                             String title,
+                             String content,
+                             LocalDateTime createDate,
+                             List<Long> postHashtags,
+                             List<String> images,
+                             List<String> displayImages) {
+    }
+}
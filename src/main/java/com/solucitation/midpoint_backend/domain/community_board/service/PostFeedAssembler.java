@@ -0,0 +1,81 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.dto.PostResponseDto;
+import com.solucitation.midpoint_backend.domain.community_board.entity.Post;
+import com.solucitation.midpoint_backend.domain.community_board.repository.ImageRepository;
+import com.solucitation.midpoint_backend.domain.community_board.repository.PostHashtagRepository;
+import com.solucitation.midpoint_backend.domain.member.entity.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 목록을 PostResponseDto 목록으로 만듭니다.
+ * 게시글마다 images, postHashtags 를 지연 로딩하고 좋아요 여부를 따로 묻는 대신,
+ * 이미지·해시태그는 각각 게시글 번호 IN 쿼리 한 번으로 가져오고, 좋아요 여부는 LikeCounter 에서 한 번에 확인해 조립합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFeedAssembler {
+
+    private final ImageRepository imageRepository;
+    private final PostHashtagRepository postHashtagRepository;
+    private final LikeCounter likeCounter;
+
+    /**
+     * @param posts 목록에 보일 게시글 (순서 유지)
+     * @param viewer 게시글을 보는 사람 정보, 로그인하지 않았다면 null
+     * @return 게시글 리스트에 보일 게시글 정보 리스트
+     */
+    public List<PostResponseDto> assemble(List<Post> posts, Member viewer) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        // 게시글별로 order 가 가장 작은 이미지를 대표 이미지로 씁니다. (order 가 없는 이미지는 가장 뒤로 봅니다.)
+        Map<Long, ImageRepository.PostImage> firstImages = new HashMap<>();
+        for (ImageRepository.PostImage image : imageRepository.findPostImages(postIds)) {
+            ImageRepository.PostImage current = firstImages.get(image.getPostId());
+            if (current == null || orderOf(image) < orderOf(current)) {
+                firstImages.put(image.getPostId(), image);
+            }
+        }
+
+        Map<Long, List<Long>> hashtags = new HashMap<>();
+        for (PostHashtagRepository.PostHashtagId postHashtag : postHashtagRepository.findHashtagIds(postIds)) {
+            hashtags.computeIfAbsent(postHashtag.getPostId(), postId -> new ArrayList<>()).add(postHashtag.getHashtagId());
+        }
+
+        Set<Long> likedPostIds = viewer == null
+                ? Set.of()
+                : likeCounter.likedPostIds(postIds, viewer.getId());
+
+        List<PostResponseDto> postDtos = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            ImageRepository.PostImage firstImage = firstImages.get(post.getId());
+            postDtos.add(new PostResponseDto(
+                    post.getId(),
+                    firstImage == null ? null : thumbnailUrlOf(firstImage),
+                    post.getTitle(),
+                    hashtags.getOrDefault(post.getId(), new ArrayList<>()),
+                    likedPostIds.contains(post.getId())
+            ));
+        }
+        return postDtos;
+    }
+
+    // 카드에는 작은 이미지면 충분합니다. 크기별 이미지가 없는 예전 이미지는 원본을 씁니다.
+    private static String thumbnailUrlOf(ImageRepository.PostImage image) {
+        return image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getImageUrl();
+    }
+
+    private static int orderOf(ImageRepository.PostImage image) {
+        return image.getImageOrder() != null ? image.getImageOrder() : Integer.MAX_VALUE;
+    }
+}
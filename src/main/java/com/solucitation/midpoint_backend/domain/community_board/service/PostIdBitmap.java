@@ -0,0 +1,394 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 번호 집합을 담는 압축 비트맵입니다. (Roaring 방식)
+ * 번호의 상위 비트로 65536개 단위의 구간을 나누고, 구간마다 원소가 4096개 이하이면 정렬된 char 배열,
+ * 그보다 많으면 65536비트 비트맵에 담습니다. 어느 쪽이든 원소 하나에 16비트 이하만 쓰며, 합집합·교집합은 구간끼리 계산합니다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 잡습니다.
+ */
+final class PostIdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private int[] keys = new int[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    void add(long postId) {
+        int key = highBits(postId);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            containers[index] = containers[index].add((char) postId);
+            return;
+        }
+        insert(-index - 1, key, new ArrayContainer().add((char) postId));
+    }
+
+    void remove(long postId) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(postId));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) postId);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return 주어진 비트맵 중 하나 이상에 들어 있는 번호
+     */
+    static PostIdBitmap or(List<PostIdBitmap> bitmaps) {
+        PostIdBitmap result = new PostIdBitmap();
+        for (PostIdBitmap bitmap : bitmaps) {
+            PostIdBitmap merged = new PostIdBitmap();
+            int i = 0;
+            int j = 0;
+            while (i < result.size || j < bitmap.size) {
+                if (j == bitmap.size || i < result.size && result.keys[i] < bitmap.keys[j]) {
+                    merged.append(result.keys[i], result.containers[i++]);
+                } else if (i == result.size || bitmap.keys[j] < result.keys[i]) {
+                    merged.append(bitmap.keys[j], bitmap.containers[j++].copy());
+                } else {
+                    merged.append(result.keys[i], result.containers[i++].or(bitmap.containers[j++]));
+                }
+            }
+            result = merged;
+        }
+        return result;
+    }
+
+    /**
+     * @return 주어진 비트맵 모두에 들어 있는 번호 (작은 비트맵부터 교집합을 구합니다)
+     */
+    static PostIdBitmap and(List<PostIdBitmap> bitmaps) {
+        PostIdBitmap[] sorted = bitmaps.toArray(new PostIdBitmap[0]);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.cardinality(), b.cardinality()));
+
+        PostIdBitmap result = sorted.length == 0 ? new PostIdBitmap() : sorted[0];
+        for (int k = 1; k < sorted.length && result.size > 0; k++) {
+            PostIdBitmap bitmap = sorted[k];
+            PostIdBitmap intersected = new PostIdBitmap();
+            int i = 0;
+            int j = 0;
+            while (i < result.size && j < bitmap.size) {
+                if (result.keys[i] < bitmap.keys[j]) {
+                    i++;
+                } else if (bitmap.keys[j] < result.keys[i]) {
+                    j++;
+                } else {
+                    Container container = result.containers[i++].and(bitmap.containers[j++]);
+                    if (container.cardinality() > 0) {
+                        intersected.append(result.keys[i - 1], container);
+                    }
+                }
+            }
+            result = intersected;
+        }
+        return result;
+    }
+
+    /**
+     * beforePostId 보다 작은 번호를 큰 것부터 최대 limit 개 반환합니다.
+     *
+     * @param beforePostId 이 번호보다 작은 번호만 반환합니다, null 이면 처음부터
+     */
+    long[] descending(Long beforePostId, int limit) {
+        long[] result = new long[limit];
+        int count = 0;
+        int index = size - 1;
+        int lowExclusive = 0x10000;
+        if (beforePostId != null) {
+            int key = highBits(beforePostId);
+            int found = Arrays.binarySearch(keys, 0, size, key);
+            index = found >= 0 ? found : -found - 2;
+            if (found >= 0) {
+                lowExclusive = (char) beforePostId.longValue();
+            }
+        }
+        for (; index >= 0 && count < limit; index--) {
+            count = containers[index].fillDescending((long) keys[index] << 16, lowExclusive, result, count, limit);
+            lowExclusive = 0x10000;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void append(int key, Container container) {
+        insert(size, key, container);
+    }
+
+    private void insert(int index, int key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private static int highBits(long postId) {
+        if (postId < 0 || postId >>> 16 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("비트맵에 담을 수 없는 게시글 번호입니다: " + postId);
+        }
+        return (int) (postId >>> 16);
+    }
+
+    /**
+     * 한 구간(하위 16비트)의 원소 집합입니다. 변경 연산은 형태가 바뀔 수 있으므로 결과 컨테이너를 반환합니다.
+     */
+    private abstract static class Container {
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        abstract Container or(Container other);
+
+        abstract Container and(Container other);
+
+        abstract Container copy();
+
+        /**
+         * lowExclusive 보다 작은 원소를 큰 것부터 out[count..limit) 에 채우고 새 개수를 반환합니다.
+         */
+        abstract int fillDescending(long high, int lowExclusive, long[] out, int count, int limit);
+    }
+
+    private static final class ArrayContainer extends Container {
+        char[] values = new char[4];
+        int cardinality;
+
+        @Override
+        Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+            }
+            index = -index - 1;
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_MAX) {
+                return toBitmap().or(array);
+            }
+            ArrayContainer merged = new ArrayContainer();
+            merged.values = new char[cardinality + array.cardinality];
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                char next;
+                if (j == array.cardinality || i < cardinality && values[i] < array.values[j]) {
+                    next = values[i++];
+                } else if (i == cardinality || array.values[j] < values[i]) {
+                    next = array.values[j++];
+                } else {
+                    next = values[i++];
+                    j++;
+                }
+                merged.values[merged.cardinality++] = next;
+            }
+            return merged;
+        }
+
+        @Override
+        Container and(Container other) {
+            ArrayContainer intersected = new ArrayContainer();
+            intersected.values = new char[Math.max(1, Math.min(cardinality, other.cardinality()))];
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    intersected.values[intersected.cardinality++] = values[i];
+                }
+            }
+            return intersected;
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(1, cardinality));
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        int fillDescending(long high, int lowExclusive, long[] out, int count, int limit) {
+            int index = cardinality - 1;
+            if (lowExclusive <= 0xFFFF) {
+                int found = Arrays.binarySearch(values, 0, cardinality, (char) lowExclusive);
+                index = found >= 0 ? found - 1 : -found - 2;
+            }
+            for (; index >= 0 && count < limit; index--) {
+                out[count++] = high | values[index];
+            }
+            return count;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        final long[] words = new long[1024];
+        int cardinality;
+
+        @Override
+        Container add(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before | 1L << low;
+            if (before != words[low >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before & ~(1L << low);
+            if (before != words[low >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & 1L << low) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer merged = (BitmapContainer) copy();
+            if (other instanceof BitmapContainer bitmap) {
+                merged.cardinality = 0;
+                for (int i = 0; i < words.length; i++) {
+                    merged.words[i] |= bitmap.words[i];
+                    merged.cardinality += Long.bitCount(merged.words[i]);
+                }
+            } else {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    merged.add(array.values[i]);
+                }
+            }
+            return merged;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            BitmapContainer intersected = new BitmapContainer();
+            for (int i = 0; i < words.length; i++) {
+                intersected.words[i] = words[i] & bitmap.words[i];
+                intersected.cardinality += Long.bitCount(intersected.words[i]);
+            }
+            return intersected.cardinality <= ARRAY_MAX ? intersected.toArray() : intersected;
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, words.length);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        int fillDescending(long high, int lowExclusive, long[] out, int count, int limit) {
+            for (int low = lowExclusive - 1; low >= 0 && count < limit; ) {
+                long word = words[low >>> 6] & (-1L >>> (63 - (low & 63)));
+                if (word == 0) {
+                    low = (low & ~63) - 1;
+                    continue;
+                }
+                int bit = 63 - Long.numberOfLeadingZeros(word);
+                int value = (low & ~63) | bit;
+                out[count++] = high | value;
+                low = value - 1;
+            }
+            return count;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(1, cardinality)];
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.cardinality++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,545 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목·본문을 음절 bigram 으로 나눠 담는 메모리 역색인입니다.
+ * 한국어는 조사가 붙어 띄어쓰기 단위가 검색어와 잘 맞지 않으므로, 단어를 두 글자씩 겹쳐 자른 토큰으로 색인하고
+ * 검색어 단어의 토큰을 모두 가진 게시글을 그 단어가 들어 있는 게시글로 봅니다. (한 글자 단어는 한 글자 토큰으로 찾습니다.)
+ * 점수는 단어마다 제목에 있으면 2점, 본문에 있으면 1점을 더한 뒤 최신 글일수록 최대 (1 + recency-weight) 배까지 가중합니다.
+ * 포스팅 목록은 문서 번호 차이를 가변 길이 바이트로 저장해 메모리를 줄이고, 게시글이 바뀌면 예전 문서는 지운 것으로 표시하고 새 문서를 붙입니다.
+ * 인덱스는 시작할 때 전체를 만들고, 이 서버의 변경은 커밋 직후 이벤트로, 다른 서버의 변경은 posts.search.refresh-interval 마다
+ * update_date 기준으로 가져와 반영합니다. 다른 서버에서 지운 게시글은 검색 결과를 DB 에서 읽을 때 없는 것으로 드러나면 바로 빼고,
+ * 그 밖의 것은 posts.search.reconcile-interval 마다 전체 게시글 번호와 맞춰 지웁니다. 지운 문서가 많아지면 전체를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final float TITLE_WEIGHT = 2f;
+    private static final float CONTENT_WEIGHT = 1f;
+    private static final int MAX_QUERY_WORDS = 10;
+    private static final int UNIGRAM = 0xFFFF;
+    private static final double LN2 = Math.log(2);
+
+    private final PostRepository postRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final float recencyWeight;
+    private final double recencyHalfLifeMillis;
+    private final Duration refreshOverlap;
+    private final Duration reconcileInterval;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Segment segment;
+    private LocalDateTime watermark;
+    private long reconciledAt;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${posts.search.enabled:true}") boolean enabled,
+                           @Value("${posts.search.batch-size:2000}") int batchSize,
+                           @Value("${posts.search.recency-weight:0.5}") float recencyWeight,
+                           @Value("${posts.search.recency-half-life:30d}") Duration recencyHalfLife,
+                           @Value("${posts.search.refresh-overlap:1m}") Duration refreshOverlap,
+                           @Value("${posts.search.reconcile-interval:1h}") Duration reconcileInterval) {
+        this.postRepository = postRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeMillis = recencyHalfLife.toMillis();
+        this.refreshOverlap = refreshOverlap;
+        this.reconcileInterval = reconcileInterval;
+
+        Gauge.builder("posts.search.documents", this, index -> index.segment == null ? 0 : index.segment.liveCount())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인덱스를 만들기 전이거나 꺼져 있으면 false 이며, 이때는 DB 검색으로 대신합니다.
+     */
+    public boolean isReady() {
+        return enabled && segment != null;
+    }
+
+    /**
+     * 검색어의 단어 중 하나 이상이 들어 있는 게시글을 점수 순으로 찾습니다.
+     *
+     * @param query 검색어 (공백이나 문장부호로 단어를 나눕니다)
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 게시글 번호 목록 (점수 내림차순)
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            float[] scores = new float[current.docCount];
+            int[] matched = new int[current.docCount];
+            int matchedCount = 0;
+            for (String word : words) {
+                int[] tokens = tokens(word);
+                for (int doc : current.title.intersect(tokens)) {
+                    if (scores[doc] == 0) {
+                        matched[matchedCount++] = doc;
+                    }
+                    scores[doc] += TITLE_WEIGHT;
+                }
+                for (int doc : current.content.intersect(tokens)) {
+                    if (scores[doc] == 0) {
+                        matched[matchedCount++] = doc;
+                    }
+                    scores[doc] += CONTENT_WEIGHT;
+                }
+            }
+
+            // 상위 32비트에 점수, 하위 32비트에 문서 번호를 넣어 기본형 비교만으로 점수 순서를 정합니다.
+            // 필요한 것은 앞쪽 offset + limit 개뿐이므로 그만큼만 최소 힙에 남깁니다.
+            long now = System.currentTimeMillis();
+            int wanted = (int) Math.min((long) offset + limit, matchedCount);
+            long[] heap = new long[wanted];
+            int heapSize = 0;
+            for (int i = 0; i < matchedCount && wanted > 0; i++) {
+                int doc = matched[i];
+                if (current.deleted.get(doc)) {
+                    continue;
+                }
+                double age = Math.max(0, now - current.createdAt[doc]);
+                float score = scores[doc] * (float) (1 + recencyWeight * Math.exp(-LN2 * age / recencyHalfLifeMillis));
+                long key = (long) Float.floatToIntBits(score) << 32 | doc;
+                if (heapSize < wanted) {
+                    heap[heapSize] = key;
+                    siftUp(heap, heapSize++);
+                } else if (key > heap[0]) {
+                    heap[0] = key;
+                    siftDown(heap, heapSize);
+                }
+            }
+            Arrays.sort(heap, 0, heapSize);
+
+            List<Long> postIds = new ArrayList<>(Math.max(0, heapSize - offset));
+            for (int i = heapSize - 1 - offset; i >= 0; i--) {
+                postIds.add(current.postIds[(int) heap[i]]);
+            }
+            return postIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < size) {
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    /**
+     * 처음에는 전체 인덱스를 만들고, 이후에는 마지막 갱신 이후 수정된 게시글을 반영합니다.
+     * 삭제된 게시글은 reconcile-interval 이 지났을 때만 전체 게시글 번호와 비교해 찾습니다.
+     */
+    @Scheduled(fixedDelayString = "${posts.search.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Segment current = segment;
+            if (current == null || current.deletedCount() > current.liveCount() / 4) {
+                rebuild();
+            } else {
+                catchUp();
+            }
+        } catch (Exception e) {
+            // DB 를 읽지 못해도 이미 만든 인덱스로 계속 응답합니다.
+            log.warn("게시글 검색 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서버에서 생긴 변경은 다음 갱신을 기다리지 않고 커밋 직후 반영합니다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        try {
+            Optional<PostRepository.SearchDocument> document = postRepository.findSearchDocument(event.postId());
+            if (document.isPresent()) {
+                upsert(document.get());
+            } else {
+                remove(event.postId());
+            }
+        } catch (Exception e) {
+            log.warn("게시글 {} 검색 인덱스 반영 실패: {}", event.postId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 결과로 찾은 게시글이 DB 에 없으면 다른 서버에서 지운 것이므로 인덱스에서도 뺍니다.
+     */
+    public void forget(Collection<Long> postIds) {
+        if (!isReady() || postIds.isEmpty()) {
+            return;
+        }
+        postIds.forEach(this::remove);
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime rebuildStartedAt = LocalDateTime.now().minus(refreshOverlap);
+
+        Segment built = new Segment();
+        long lastId = 0;
+        List<PostRepository.SearchDocument> documents;
+        do {
+            documents = postRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, batchSize));
+            for (PostRepository.SearchDocument document : documents) {
+                built.add(document);
+                lastId = document.getId();
+            }
+        } while (documents.size() == batchSize);
+
+        lock.writeLock().lock();
+        try {
+            segment = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 다시 만드는 동안 바뀐 게시글은 이어지는 갱신에서 반영합니다. 지운 게시글은 새 인덱스에 이미 없습니다.
+        watermark = rebuildStartedAt;
+        reconciledAt = startedAt;
+        catchUp();
+        log.info("게시글 검색 인덱스 생성: 게시글 {}개, 토큰 {}개, {}ms",
+                built.liveCount(), built.title.size() + built.content.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void catchUp() {
+        LocalDateTime since = watermark;
+        LocalDateTime next = LocalDateTime.now().minus(refreshOverlap);
+        for (PostRepository.SearchDocument document : postRepository.findSearchDocumentsUpdatedAfter(since)) {
+            upsert(document);
+        }
+        watermark = next;
+
+        if (System.currentTimeMillis() - reconciledAt >= reconcileInterval.toMillis()) {
+            reconcileDeletes();
+        }
+    }
+
+    private void reconcileDeletes() {
+        long startedAt = System.currentTimeMillis();
+        Set<Long> existing = new HashSet<>(postRepository.findAllIds());
+        List<Long> removed = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // 번호를 읽은 뒤 이벤트로 들어온 새 게시글은 목록에 없으므로 지우지 않습니다.
+            long readAt = startedAt - refreshOverlap.toMillis();
+            for (Map.Entry<Long, Integer> entry : segment.docOfPost.entrySet()) {
+                if (!existing.contains(entry.getKey()) && segment.updatedAt[entry.getValue()] < readAt) {
+                    removed.add(entry.getKey());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        removed.forEach(this::remove);
+        reconciledAt = startedAt;
+        log.debug("게시글 검색 인덱스 삭제 대사: {}개 제거", removed.size());
+    }
+
+    private void upsert(PostRepository.SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Segment current = segment;
+            Integer doc = current.docOfPost.get(document.getId());
+            if (doc != null && current.updatedAt[doc] == epochMillis(document.getUpdateDate())) {
+                return;
+            }
+            current.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 단어로 나눕니다. (중복 제거, 최대 10개)
+     */
+    static List<String> words(String query) {
+        List<String> words = new ArrayList<>(new LinkedHashSet<>(split(query)));
+        return words.subList(0, Math.min(words.size(), MAX_QUERY_WORDS));
+    }
+
+    /**
+     * 단어를 두 글자씩 겹쳐 자른 토큰입니다. 한 글자 단어는 그 글자 하나를 토큰으로 씁니다. (두 글자를 int 하나에 담습니다)
+     */
+    static int[] tokens(String word) {
+        if (word.length() == 1) {
+            return new int[]{word.charAt(0) << 16 | UNIGRAM};
+        }
+        int[] tokens = new int[word.length() - 1];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = word.charAt(i) << 16 | word.charAt(i + 1);
+        }
+        return tokens;
+    }
+
+    // 문서에 들어 있는 서로 다른 토큰입니다. 한 글자 검색을 위해 글자 하나짜리 토큰도 함께 넣습니다.
+    private static int[] documentTokens(String text) {
+        String normalized = normalize(text);
+        int[] tokens = new int[normalized.length() * 2];
+        int count = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            tokens[count++] = c << 16 | UNIGRAM;
+            if (i + 1 < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i + 1))) {
+                tokens[count++] = c << 16 | normalized.charAt(i + 1);
+            }
+        }
+        Arrays.sort(tokens, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || tokens[distinct - 1] != tokens[i]) {
+                tokens[distinct++] = tokens[i];
+            }
+        }
+        return Arrays.copyOf(tokens, distinct);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // NFKC 정규화·소문자 변환 후 글자·숫자가 아닌 문자를 기준으로 나눕니다.
+    private static List<String> split(String text) {
+        String normalized = normalize(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 문서 배열과 제목·본문 포스팅 목록입니다. 문서 번호는 넣은 순서대로 0부터 붙습니다.
+     */
+    private static final class Segment {
+        final Postings title = new Postings();
+        final Postings content = new Postings();
+        final Map<Long, Integer> docOfPost = new HashMap<>();
+        final BitSet deleted = new BitSet();
+        long[] postIds = new long[1024];
+        long[] createdAt = new long[1024];
+        long[] updatedAt = new long[1024];
+        int docCount;
+
+        void add(PostRepository.SearchDocument document) {
+            remove(document.getId());
+            if (docCount == postIds.length) {
+                postIds = Arrays.copyOf(postIds, docCount * 2);
+                createdAt = Arrays.copyOf(createdAt, docCount * 2);
+                updatedAt = Arrays.copyOf(updatedAt, docCount * 2);
+            }
+            int doc = docCount++;
+            postIds[doc] = document.getId();
+            createdAt[doc] = epochMillis(document.getCreateDate());
+            updatedAt[doc] = epochMillis(document.getUpdateDate());
+            docOfPost.put(document.getId(), doc);
+            title.add(doc, documentTokens(document.getTitle()));
+            content.add(doc, documentTokens(document.getContent()));
+        }
+
+        void remove(Long postId) {
+            Integer doc = docOfPost.remove(postId);
+            if (doc != null) {
+                deleted.set(doc);
+            }
+        }
+
+        int liveCount() {
+            return docOfPost.size();
+        }
+
+        int deletedCount() {
+            return deleted.cardinality();
+        }
+    }
+
+    /**
+     * 토큰 → 문서 번호 목록입니다. 문서 번호는 늘어나는 순서로만 붙으므로 이전 번호와의 차이를 가변 길이 바이트로 저장합니다.
+     */
+    private static final class Postings {
+        private final Map<Integer, PostingList> lists = new HashMap<>();
+
+        void add(int doc, int[] tokens) {
+            for (int token : tokens) {
+                lists.computeIfAbsent(token, key -> new PostingList()).add(doc);
+            }
+        }
+
+        int size() {
+            return lists.size();
+        }
+
+        /**
+         * 모든 토큰을 가진 문서 번호를 오름차순으로 반환합니다. 가장 짧은 목록부터 교집합을 구합니다.
+         */
+        int[] intersect(int[] tokens) {
+            PostingList[] candidates = new PostingList[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                candidates[i] = lists.get(tokens[i]);
+                if (candidates[i] == null) {
+                    return new int[0];
+                }
+            }
+            Arrays.sort(candidates, Comparator.comparingInt(list -> list.count));
+
+            int[] docs = candidates[0].decode();
+            int size = docs.length;
+            for (int i = 1; i < candidates.length && size > 0; i++) {
+                size = candidates[i].retain(docs, size);
+            }
+            return Arrays.copyOf(docs, size);
+        }
+    }
+
+    private static final class PostingList {
+        byte[] data = new byte[4];
+        int length;
+        int count;
+        int lastDoc = -1;
+
+        void add(int doc) {
+            if (doc == lastDoc) {
+                return;
+            }
+            int delta = doc - lastDoc;
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while (delta >= 0x80) {
+                data[length++] = (byte) (delta & 0x7F | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            lastDoc = doc;
+            count++;
+        }
+
+        int[] decode() {
+            int[] docs = new int[count];
+            int doc = -1;
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                doc += delta;
+                docs[i] = doc;
+            }
+            return docs;
+        }
+
+        /**
+         * docs[0..size) 중 이 목록에도 있는 문서만 앞으로 모으고 그 개수를 반환합니다.
+         */
+        int retain(int[] docs, int size) {
+            int kept = 0;
+            int doc = -1;
+            int position = 0;
+            int decoded = 0;
+            for (int i = 0; i < size; i++) {
+                while (doc < docs[i] && decoded < count) {
+                    int delta = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = data[position++];
+                        delta |= (b & 0x7F) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    doc += delta;
+                    decoded++;
+                }
+                if (doc == docs[i]) {
+                    docs[kept++] = docs[i];
+                } else if (doc < docs[i]) {
+                    break;
+                }
+            }
+            return kept;
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.solucitation.midpoint_backend.domain.community_board.service;
 import com.solucitation.midpoint_backend.domain.community_board.dto.*;
 import com.solucitation.midpoint_backend.domain.community_board.entity.*;
 import com.solucitation.midpoint_backend.domain.community_board.repository.*;
+import com.solucitation.midpoint_backend.domain.file.exception.ImageProcessingBusyException;
+import com.solucitation.midpoint_backend.domain.file.service.ResumableUploadService;
 import com.solucitation.midpoint_backend.domain.file.service.S3Service;
+import com.solucitation.midpoint_backend.domain.file.service.UploadPurpose;
 import com.solucitation.midpoint_backend.domain.member.dto.MemberProfileResponseDto;
 import com.solucitation.midpoint_backend.domain.member.entity.Member;
 import com.solucitation.midpoint_backend.domain.member.service.MemberService;
@@ -11,10 +14,13 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -31,48 +37,87 @@ public class PostService {
     private final LikesRepository likesRepository;
     private final HashtagRepository hashtagRepository;
     private final S3Service s3Service;
+    private final ResumableUploadService resumableUploadService;
     private final ImageRepository imageRepository;
     private final MemberService memberService;
     private final PostHashtagRepository postHashtagsRepository;
+    private final PostFeedAssembler postFeedAssembler;
+    private final LikeCounter likeCounter;
+    private final PostSearchIndex postSearchIndex;
+    private final HashtagDictionary hashtagDictionary;
+    private final HashtagPostIndex hashtagPostIndex;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${posts.feed.max-page-size:50}")
+    private int maxPageSize;
+
     /**
      * 특정 게시글을 상세조회 합니다.
+     * 보는 사람과 무관한 부분은 PostDetailCache 에서 읽고(없으면 DB 에서 읽어 채웁니다), 좋아요 개수와 좋아요 여부만 매번 LikeCounter 에서 읽습니다.
+     * 캐시 적중 시에는 DB 트랜잭션을 열지 않도록 DB 를 읽는 부분만 트랜잭션으로 감쌉니다.
      *
      * @param postId 게시글 번호
      * @param read_member 게시글을 보는 사람 정보
      * @return 게시글 상세정보 데이터
      */
-    @Transactional(readOnly = true)
     public PostDetailDto getPostById(Long postId, Member read_member) {
+        PostDetailCache.PostDetail detail = postDetailCache.get(postId,
+                () -> transactionTemplate.execute(status -> loadPostDetail(postId)));
+
+        int likeCnt = likeCounter.count(postId);
+
+        boolean likes = false; // 게시글을 보는 사람이 로그인하지 않은 상태라면 좋아요는 누르지 않은 상태로 반환합니다.
+        if (read_member != null) { // 게시글을 보는 사람이 로그인된 상태라면 좋아요 여부를 확인해 반환합니다.
+            likes = likeCounter.isLiked(postId, read_member.getId());
+        }
+
+        return new PostDetailDto(
+                detail.nickname(),
+                detail.profileImageUrl(),
+                detail.title(),
+                detail.content(),
+                detail.createDate(),
+                detail.postHashtags(),
+                detail.images(),
+                detail.displayImages() != null ? detail.displayImages() : detail.images(), // 변환 기능 이전에 캐시된 값에는 없습니다.
+                likeCnt,
+                likes
+        );
+    }
+
+    private PostDetailCache.PostDetail loadPostDetail(Long postId) {
         Post post = postRepository.findById(postId).orElseThrow(EntityNotFoundException::new);
         String memberEmail = post.getMember().getEmail();
 
         MemberProfileResponseDto memberProfileResponseDto = memberService.getMemberProfile(memberEmail);
 
-        List<String> images = post.getImages().stream() // 이미지가 순서대로 나오게 합니다.
+        List<Image> sortedImages = post.getImages().stream() // 이미지가 순서대로 나오게 합니다.
                 .sorted(Comparator.comparingInt(Image::getOrder)) // order 값에 따라 정렬
-                .map(Image::getImageUrl) // 이미지 URL 추출
+                .toList();
+        List<String> images = sortedImages.stream()
+                .map(Image::getImageUrl) // 이미지 URL 추출 (게시글 수정 시 삭제할 이미지를 가리키는 값입니다)
                 .toList(); // 리스트로 변환
+        List<String> displayImages = sortedImages.stream()
+                .map(Image::getMediumUrlOrOriginal) // 화면에 보일 중간 크기 이미지 URL
+                .toList();
 
         List<Long> hashtags = post.getPostHashtags().stream()
                 .map(postHashtag -> postHashtag.getHashtag().getId())
                 .toList();
 
-        int likeCnt = likesRepository.countByPostIdAndIsLiked(postId);
-
-        boolean likes = false; // 게시글을 보는 사람이 로그인하지 않은 상태라면 좋아요는 누르지 않은 상태로 반환합니다.
-        if (read_member != null) { // 게시글을 보는 사람이 로그인된 상태라면 좋아요 여부를 확인해 반환합니다.
-            likes = likesRepository.isMemberLikesPostByEmail(post.getId(), read_member.getEmail());
-        }
-
         String defaultProfileImageUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, "ap-northeast-2", "profile-images/default_image.png"); // 여기에 기본 이미지 URL을 넣으세요.
-        String writerProfileImages = Optional.ofNullable(memberProfileResponseDto.getProfileImageUrl())
+        // 작성자 프로필은 작게 보이므로 작은 이미지를 씁니다.
+        String writerProfileImages = imageRepository.findByMemberIdAndPostIsNull(post.getMember().getId())
+                .map(Image::getThumbnailUrlOrOriginal)
                 .orElse(defaultProfileImageUrl);
 
-        return new PostDetailDto(
+        return new PostDetailCache.PostDetail(
+                post.getMember().getId(),
                 memberProfileResponseDto.getNickname(),
                 writerProfileImages,
                 post.getTitle(),
@@ -80,8 +125,7 @@ public class PostService {
                 post.getCreateDate(),
                 hashtags,
                 images,
-                likeCnt,
-                likes
+                displayImages
         );
     }
 
@@ -97,51 +141,56 @@ public class PostService {
     }
 
     /**
-     * 모든 게시글을 가져옵니다.
+     * 게시글 목록을 최신순으로 한 페이지씩 가져옵니다.
+     * 직전 페이지 마지막 게시글의 (createDate, postId) 다음부터 읽으므로, 게시글 수가 늘어도 한 페이지를 읽는 비용은 같습니다.
      *
      * @param member 게시글을 보는 사람 정보
-     * @return 게시글 리스트에 보일 게시글 정보 리스트
+     * @param cursor 직전 응답의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기, posts.feed.max-page-size 를 넘으면 최대값으로 줄입니다.
+     * @return 게시글 리스트에 보일 게시글 정보와 다음 페이지 커서
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getAllPosts(Member member) {
-        List<Post> posts = postRepository.findAllPostWithImagesAndPostHashtags();
-
-        return posts.stream()
-                .map(post -> {
-                    PostResponseDto postDto = new PostResponseDto(post); // postDto의 likes는 false로 초기화되어 있습니다.
-                    if (member != null) {  // 로그인된 사용자에 대해 사용자가 해당 게시글에 좋아요를 눌렀는지 확인합니다.
-                        postDto.setLikes(likesRepository.isMemberLikesPostByEmail(post.getId(), member.getEmail()));
-                    }
+    public PostPageResponseDto getPosts(Member member, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+
+        // 다음 페이지가 있는지 알기 위해 한 개를 더 가져옵니다.
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFeed(pageRequest);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            posts = postRepository.findFeedAfter(after.createDate(), after.postId(), pageRequest);
+        }
 
-                    return postDto;
-                })
-                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            Post last = posts.get(pageSize - 1);
+            nextCursor = new PostCursor(last.getCreateDate(), last.getId()).encode();
+        }
+
+        return new PostPageResponseDto(postFeedAssembler.assemble(posts, member), nextCursor);
     }
 
     /**
      * 좋아요를 누르거나 취소합니다
+     * 상태는 LikeCounter 가 Redis 에서 원자적으로 바꾸고, likes 테이블에는 LikeWriteBehind 가 모아서 반영합니다.
      *
      * @param memberEmail 로그인된 사용자 정보
      * @param postId 게시글 번호
      * @return 최종적으로 변화된 상태를 true or false로 반환합니다.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public Boolean changeLikes(String memberEmail,  Long postId) {
-        boolean existingLike = likesRepository.isMemberLikesPostByEmail(postId, memberEmail);
-
-        if (existingLike) { // 좋아요를 누른 상태라면 DB에서 해당 데이터를 삭제하여 좋아요를 취소합니다.
-            likesRepository.deleteByMemberEmailAndPostId(memberEmail, postId);
-            return false;
-        } else {  // 좋아요를 누르지 않은 상태라면 DB에 해당 데이터를 추가하여 좋아요를 표시합니다.
-            Member member = memberService.getMemberByEmail(memberEmail);
-            Optional<Post> post = postRepository.findById(postId);
-            if (member != null && post.isPresent()) {
-                Likes likes = new Likes(post.get(), member);
-                likesRepository.save(likes);
-                return true;
-            }
+        Member member = memberService.getMemberByEmail(memberEmail);
+        if (member == null || !postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("좋아요 상태를 변경하는 중 오류가 발생하였습니다.");
         }
-        throw new IllegalArgumentException("좋아요 상태를 변경하는 중 오류가 발생하였습니다.");
+        return likeCounter.toggle(postId, member.getId());
     }
 
     /**
@@ -168,9 +217,10 @@ public class PostService {
                 .build();
 
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
 
         postHashtags = addHashtags(post, postRequestDto.getPostHashtag()); // 해시태그 정보 저장
-        images = addImages(post, member, postImages); // 이미지 정보 저장
+        images = addImages(post, member, postImages, postRequestDto.getImageUploadIds()); // 이미지 정보 저장
 
         try {
             log.info("게시글 등록 성공");
@@ -185,23 +235,30 @@ public class PostService {
      * @param post 게시글
      * @param member 사용자
      * @param postImages 저장할 이미지 파일 리스트
+     * @param imageUploadIds 이어 올리기로 올린 이미지 세션 ID 리스트, 파일 뒤에 붙습니다
      * @return 성공적으로 저장된 이미지 리스트
      */
     @Transactional
-    public List<Image> addImages(Post post, Member member,  List<MultipartFile> postImages) {
+    public List<Image> addImages(Post post, Member member, List<MultipartFile> postImages, List<String> imageUploadIds) {
         List<Image> images = new ArrayList<>(); // 게시글에 추가된 이미지를 저장할 리스트
-        if (!postImages.isEmpty()) {
+        List<MultipartFile> uploadImages = postImages != null ? postImages : List.of();
+        for (MultipartFile postImage : uploadImages) {
+            if (postImage.isEmpty()) {
+                log.error("게시글 이미지 업로드 실패");
+                throw new RuntimeException("이미지가 존재하지 않습니다.");
+            }
+        }
+        if (!uploadImages.isEmpty() || imageUploadIds != null && !imageUploadIds.isEmpty()) {
             try {
-                int cnt = 1; // 이미지 순서를 지정해 이미지를 추가한 순서대로 옯바르게 보일 수 있도록 합니다.
-                for (MultipartFile postImage : postImages) {
-                    if (postImage.isEmpty()) {
-                        log.error("게시글 이미지 업로드 실패");
-                        throw new RuntimeException("이미지가 존재하지 않습니다.");
-                    }
-                    String postImageUrl = s3Service.upload("post-images", postImage.getOriginalFilename(), postImage);
+                List<S3Service.UploadedImage> postImageUrls = uploadPostImages(member, uploadImages, imageUploadIds);
 
+                int cnt = 1; // 이미지 순서를 지정해 이미지를 추가한 순서대로 옯바르게 보일 수 있도록 합니다.
+                for (S3Service.UploadedImage postImageUrl : postImageUrls) {
                     Image image = Image.builder()
-                            .imageUrl(postImageUrl).member(member).post(post).order(cnt).build();
+                            .imageUrl(postImageUrl.url())
+                            .mediumUrl(postImageUrl.mediumUrl())
+                            .thumbnailUrl(postImageUrl.thumbnailUrl())
+                            .member(member).post(post).order(cnt).build();
                     imageRepository.save(image);
                     images.add(image);
                     cnt++;
@@ -223,10 +280,10 @@ public class PostService {
      */
     @Transactional
     public List<PostHashtag> addHashtags(Post post, List<Long> hashtags) {
+        hashtagDictionary.validate(hashtags);
         List<PostHashtag> postHashtags = new ArrayList<>();
         for (Long tagId : hashtags) {
-            Hashtag hashtag = hashtagRepository.findById(tagId)
-                    .orElseThrow(() -> new IllegalArgumentException("해당 해시태그는 존재하지 않습니다."));
+            Hashtag hashtag = hashtagRepository.getReferenceById(tagId); // 존재 여부는 사전으로 확인했으므로 조회하지 않습니다.
             PostHashtag postHashtag = new PostHashtag(post, hashtag);
             postHashtagsRepository.save(postHashtag);
             postHashtags.add(postHashtag);
@@ -244,15 +301,7 @@ public class PostService {
     @Transactional(readOnly = true)
     public List<PostResponseDto> getMyAllPosts(Member member) {
         List<Post> posts = postRepository.findByMemberIdOrderByCreateDateDesc(member.getId());
-        return posts.stream()
-                .map(post -> {
-                    PostResponseDto postDto = new PostResponseDto(post);
-                    if (member != null) { // 일반적인 접근에서는 NULL 이 될 수 없지만, 기타 경로로 호출될 경우를 고려합니다.
-                        postDto.setLikes(likesRepository.isMemberLikesPostByEmail(post.getId(), member.getEmail()));
-                    }
-                    return postDto;
-                })
-                .collect(Collectors.toList());
+        return postFeedAssembler.assemble(posts, member);
     }
 
     /**
@@ -267,76 +316,153 @@ public class PostService {
         Optional<Post> post = postRepository.findById(postId); // 해당 멤버가 게시글 작성자인지 확인힙니다.
         if (post.isPresent() && post.get().getMember().getId().equals(member.getId())) {
             likesRepository.deleteByPostId(postId);
+            likeCounter.evict(postId);
             deleteImages(post.get().getImages()); // s3에 저장된 이미지 삭제
             postRepository.deleteById(postId);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
         }
         else
             throw new AccessDeniedException("해당 게시글을 삭제할 권한이 없습니다. 본인이 작성한 글만 삭제할 수 있습니다.");
     }
 
     /**
-     * 해시태그를 이용하여 게시글을 검색하고 결과를 반환합니다.
+     * 해시태그를 이용하여 게시글을 검색하고 결과를 최신순으로 한 페이지씩 반환합니다.
+     * 해시태그 인덱스에서 조건에 맞는 게시글 번호를 찾고 한 페이지만 DB 에서 읽습니다.
+     * 게시글 번호는 작성 순서대로 붙으므로 번호 내림차순이 곧 최신순이며, 커서는 직전 페이지 마지막 게시글 번호입니다.
      *
      * @param member 사용자
      * @param purposes 해시태그 리스트
-     * @return 게시글 리스트에 보일 게시글 데이터 리스트
+     * @param matchAll true 면 모든 해시태그가 달린 게시글, false 면 하나 이상 달린 게시글
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기 (최대 posts.feed.max-page-size)
+     * @return 게시글 리스트에 보일 게시글 데이터와 다음 페이지 커서
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getPostByPurpose(Member member, List<Long> purposes) {
+    public PostPageResponseDto getPostByPurpose(Member member, List<Long> purposes, boolean matchAll, String cursor, int size) {
         if (purposes.isEmpty()) {
             throw new IllegalArgumentException("최소 하나 이상의 해시태그를 선택해야 합니다.");
         }
-        for (Long tagId : purposes) { // 해시태그 유효성 검사
-            Hashtag hashtag = hashtagRepository.findById(tagId)
-                    .orElseThrow(() -> new IllegalArgumentException("해당 해시태그는 존재하지 않습니다."));
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        hashtagDictionary.validate(purposes); // 해시태그 유효성 검사
+        int pageSize = Math.min(size, maxPageSize);
+        Long beforePostId = purposeCursor(cursor);
+
+        List<Post> posts;
+        if (hashtagPostIndex.isReady()) {
+            // 다음 페이지가 있는지 알기 위해 한 건 더 찾습니다.
+            List<Long> postIds = hashtagPostIndex.find(purposes, matchAll, beforePostId, pageSize + 1);
+            Map<Long, Post> found = new HashMap<>();
+            postRepository.findAllById(postIds).forEach(post -> found.put(post.getId(), post));
+            posts = postIds.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+        } else {
+            posts = postRepository.findAllPostByPurpose(purposes).stream()
+                    .filter(post -> beforePostId == null || post.getId() < beforePostId)
+                    .sorted(Comparator.comparing(Post::getId).reversed())
+                    .collect(Collectors.toList());
+            if (matchAll && !posts.isEmpty()) {
+                Map<Long, Set<Long>> hashtags = new HashMap<>();
+                postHashtagsRepository.findHashtagIds(posts.stream().map(Post::getId).toList()).forEach(postHashtag ->
+                        hashtags.computeIfAbsent(postHashtag.getPostId(), postId -> new HashSet<>()).add(postHashtag.getHashtagId()));
+                posts = posts.stream()
+                        .filter(post -> hashtags.getOrDefault(post.getId(), Set.of()).containsAll(purposes))
+                        .collect(Collectors.toList());
+            }
+            posts = posts.subList(0, Math.min(posts.size(), pageSize + 1));
         }
-        List<Post> posts = postRepository.findAllPostByPurpose(purposes);
 
-        return posts.stream()
-                .map(post -> {
-                    PostResponseDto postDto = new PostResponseDto(post);
-                    if (member != null) {
-                        postDto.setLikes(likesRepository.isMemberLikesPostByEmail(post.getId(), member.getEmail()));
-                    }
-                    return postDto;
-                })
-                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            nextCursor = String.valueOf(posts.get(pageSize - 1).getId());
+        }
+        return new PostPageResponseDto(postFeedAssembler.assemble(posts, member), nextCursor);
+    }
+
+    // 목적별 검색 커서는 직전 페이지 마지막 게시글 번호입니다.
+    private static Long purposeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            long postId = Long.parseLong(cursor);
+            if (postId < 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return postId;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 
     /**
      * 검색어를 이용한 게시글 검색 결과를 반환합니다.
+     * 검색 인덱스에서 검색어의 단어 중 하나 이상이 들어 있는 게시글을 관련도·최신순으로 찾고, 한 페이지만 DB 에서 읽습니다.
+     * 인덱스를 아직 만들지 못했다면 단어별 LIKE 검색으로 대신합니다.
+     *
      * @param member 사용자
      * @param query 검색어 (문장)
-     * @return 게시글 리스트에 보일 게시글 데이터 리스트
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지라면 null
+     * @param size 페이지 크기 (최대 posts.feed.max-page-size)
+     * @return 게시글 리스트에 보일 게시글 데이터와 다음 페이지 커서
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getPostByQuery(Member member, String query) {
+    public PostPageResponseDto getPostByQuery(Member member, String query, String cursor, int size) {
         if (query.isEmpty() || query.isBlank()) {
             throw new IllegalArgumentException("검색어를 입력해주세요.");
         }
-        String[] words = query.split("\\s+"); // 문자열일 경우 공백을 기준으로 파싱합니다.
-
-        Set<Post> resultSet = wordsToPosts(words);
-
-        // Set을 List로 변환하고 postId를 기준으로 내림차순 정렬합니다.
-        List<Post> sortedPosts = resultSet.stream()
-                .sorted(Comparator.comparing(Post::getId).reversed())
-                .collect(Collectors.toList());
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+        int offset = searchOffset(cursor);
+
+        List<Post> posts;
+        if (postSearchIndex.isReady()) {
+            // 다음 페이지가 있는지 알기 위해 한 건 더 찾습니다.
+            List<Long> postIds = postSearchIndex.search(query, offset, pageSize + 1);
+            Map<Long, Post> found = new HashMap<>();
+            postRepository.findAllById(postIds).forEach(post -> found.put(post.getId(), post));
+            posts = postIds.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+            if (posts.size() < postIds.size()) {
+                postSearchIndex.forget(postIds.stream().filter(id -> !found.containsKey(id)).toList());
+            }
+        } else {
+            String[] words = query.split("\\s+"); // 문자열일 경우 공백을 기준으로 파싱합니다.
+            posts = wordsToPosts(words).stream()
+                    .sorted(Comparator.comparing(Post::getId).reversed())
+                    .skip(offset)
+                    .limit(pageSize + 1)
+                    .collect(Collectors.toList());
+        }
 
-        List<PostResponseDto> postResponseDtos = sortedPosts.stream()
-                .map(post -> {
-                    PostResponseDto postDto = new PostResponseDto(post);
-                    if (member != null) {
-                        postDto.setLikes(likesRepository.isMemberLikesPostByEmail(post.getId(), member.getEmail()));
-                    }
-                    return postDto;
-                }).collect(Collectors.toList());
+        String nextCursor = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            nextCursor = String.valueOf(offset + pageSize);
+        }
+        return new PostPageResponseDto(postFeedAssembler.assemble(posts, member), nextCursor);
+    }
 
-        return postResponseDtos;
+    // 검색 결과 커서는 건너뛸 결과 수입니다.
+    private static int searchOffset(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 
     /**
-     * 검색어를 이용해 검색한 결과를 반환합니다.
+     * 검색어를 이용해 검색한 결과를 반환합니다. (검색 인덱스가 준비되기 전에만 씁니다.)
      *
      * @param words 단어 리스트
      * @return 검색 결과로 조회된 게시글 리스트
@@ -405,8 +531,9 @@ public class PostService {
                 deleteIdx = deleteImagesWithUrl(postUpdateDto.getDeleteImageUrl(), postId);
             }
 
-            if (postImages != null && !postImages.isEmpty()) {
-                newImages = addForUpdateImages(post, member, postImages, deleteIdx);
+            if (postImages != null && !postImages.isEmpty()
+                    || postUpdateDto.getImageUploadIds() != null && !postUpdateDto.getImageUploadIds().isEmpty()) {
+                newImages = addForUpdateImages(post, member, postImages, postUpdateDto.getImageUploadIds(), deleteIdx);
                 if (newImages != null && !newImages.isEmpty()) {
                     existImages.addAll(newImages);
                 }
@@ -422,6 +549,7 @@ public class PostService {
                     .build();
 
             postRepository.save(post);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
         } catch (Exception e) {
             // 트랜잭션 롤백
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -435,23 +563,26 @@ public class PostService {
      * @param post 게시글
      * @param member 사용자
      * @param postImages 추가할 이미지
+     * @param imageUploadIds 이어 올리기로 올린 추가 이미지 세션 ID 리스트, 파일 뒤에 붙습니다
      * @param deleteId 추가할 이미지가 대입될 이미지 순서 리스트
      * @return 추가된 이미지 리스트
      */
     @Transactional
-    protected List<Image> addForUpdateImages(Post post, Member member, List<MultipartFile> postImages, List<Integer> deleteId) {
+    protected List<Image> addForUpdateImages(Post post, Member member, List<MultipartFile> postImages,
+                                             List<String> imageUploadIds, List<Integer> deleteId) {
         List<Image> images = new ArrayList<>();
 
         int idx = 0;
 
-        if (!postImages.isEmpty()) {
-            try {
-                for (MultipartFile postImage : postImages) {
-                    if (postImage.isEmpty())  // 사용자가 이미지 변경을 요청하지 않음
-                        continue;
+        List<MultipartFile> uploadImages = (postImages != null ? postImages : List.<MultipartFile>of()).stream()
+                .filter(postImage -> !postImage.isEmpty()) // 비어 있는 파일은 사용자가 이미지 변경을 요청하지 않은 것입니다.
+                .toList();
 
-                    String postImageUrl = s3Service.upload("post-images", postImage.getOriginalFilename(), postImage);
+        if (!uploadImages.isEmpty() || imageUploadIds != null && !imageUploadIds.isEmpty()) {
+            try {
+                List<S3Service.UploadedImage> postImageUrls = uploadPostImages(member, uploadImages, imageUploadIds);
 
+                for (S3Service.UploadedImage postImageUrl : postImageUrls) {
                     int order;
                     if (!deleteId.isEmpty() && idx < deleteId.size()) {
                         order = deleteId.get(idx);
@@ -460,7 +591,10 @@ public class PostService {
                     }
 
                     Image image = Image.builder()
-                            .imageUrl(postImageUrl).member(member).post(post)
+                            .imageUrl(postImageUrl.url())
+                            .mediumUrl(postImageUrl.mediumUrl())
+                            .thumbnailUrl(postImageUrl.thumbnailUrl())
+                            .member(member).post(post)
                             .order(order)
                             .build();
 
@@ -476,6 +610,43 @@ public class PostService {
         return images;
     }
 
+    /**
+     * 이미지 파일을 크기별 JPEG 로 바꿔 동시에 업로드하고, 이어 올리기로 미리 올린 이미지를 가져와 같은 방식으로 바꾼 뒤 그 뒤에 붙입니다.
+     * 업로드나 변환이 실패하거나 게시글 저장이 롤백되면 이어 올리기 업로드를 돌려놓아, 파일을 다시 올리지 않고 같은 업로드 ID 로 다시 시도할 수 있습니다.
+     * 이어 올리기 원본은 게시글 저장이 커밋된 뒤에 지웁니다.
+     *
+     * @return 이미지 URL 리스트 (파일, 이어 올리기 순서)
+     * @throws IllegalArgumentException 사용할 수 없는 이어 올리기 세션이거나 이미지 해상도가 너무 큰 경우
+     * @throws ImageProcessingBusyException 이미지 처리 대기열이 가득 찬 경우
+     */
+    private List<S3Service.UploadedImage> uploadPostImages(Member member, List<MultipartFile> postImages, List<String> imageUploadIds) throws IOException {
+        List<String> uploadedUrls = imageUploadIds != null && !imageUploadIds.isEmpty()
+                ? resumableUploadService.claim(member.getId(), UploadPurpose.POST, imageUploadIds)
+                : List.of();
+        try {
+            List<S3Service.UploadedImage> postImageUrls = new ArrayList<>(postImages.isEmpty()
+                    ? List.of()
+                    : s3Service.uploadImages("post-images", postImages)); // 이미지를 동시에 변환해 업로드합니다.
+            try {
+                postImageUrls.addAll(s3Service.normalizeStoredImages("post-images", uploadedUrls));
+            } catch (IOException | RuntimeException e) {
+                postImageUrls.forEach(image -> s3Service.delete(image.url()));
+                throw e;
+            }
+            // 게시글 저장이 롤백되면 올린 이미지도 지웁니다.
+            s3Service.deleteOnRollback(postImageUrls.stream().map(S3Service.UploadedImage::url).toList());
+            if (!uploadedUrls.isEmpty()) {
+                resumableUploadService.finishOnCommit(imageUploadIds);
+            }
+            return postImageUrls;
+        } catch (IOException | RuntimeException e) {
+            if (!uploadedUrls.isEmpty()) {
+                resumableUploadService.release(imageUploadIds);
+            }
+            throw e;
+        }
+    }
+
     /**
      * 게시글 수정 시 최종적으로 이미지 순서를 정리하는 함수
      * 이를 통해 이미지 순서는 1~3 사이임을 보장합니다.
@@ -1,6 +1,7 @@
 package com.solucitation.midpoint_backend.domain.email.service;
 
 import com.solucitation.midpoint_backend.domain.email.dto.EmailMessage;
+import com.solucitation.midpoint_backend.global.util.PlatformThreadOffloader;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class EmailService {
 
     private final JavaMailSender javaMailSender;
     private final SpringTemplateEngine templateEngine;
+    private final PlatformThreadOffloader platformThreadOffloader;
     private final SecureRandom secureRandom = new SecureRandom();
     private final Map<String, VerificationCode> verificationCodes = new ConcurrentHashMap<>();
     private final Map<String, Boolean> verifiedEmails = new ConcurrentHashMap<>();
@@ -49,7 +51,8 @@ public class EmailService {
             mimeMessageHelper.setTo(emailMessage.getTo()); // 받는 사람
             mimeMessageHelper.setSubject(emailMessage.getSubject()); // 메일 제목
             mimeMessageHelper.setText(setContext(code, type), true); // 메일 본문: setText(setContext(인증코드, html파일명), HTML 여부)
-            javaMailSender.send(mimeMessage);
+            // SMTPTransport 는 synchronized 안에서 소켓 I/O 를 하므로 가상 스레드에서는 플랫폼 스레드로 넘겨 보냅니다.
+            platformThreadOffloader.run(() -> javaMailSender.send(mimeMessage));
 
             log.info("인증코드가 성공적으로 전송되었습니다. 이메일: {}", emailMessage.getTo());
         } catch (MessagingException e) {
@@ -0,0 +1,142 @@
+package com.solucitation.midpoint_backend.domain.file.controller;
+
+import com.amazonaws.services.s3.model.PartETag;
+import com.solucitation.midpoint_backend.domain.file.dto.UploadSessionRequestDto;
+import com.solucitation.midpoint_backend.domain.file.service.ResumableUploadService;
+import com.solucitation.midpoint_backend.domain.member.dto.ValidationErrorResponse;
+import com.solucitation.midpoint_backend.domain.member.entity.Member;
+import com.solucitation.midpoint_backend.domain.member.service.MemberService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 큰 이미지를 조각으로 나눠 올리는 이어 올리기 API.
+ * 1. POST /api/uploads 로 세션을 시작하고 조각 크기와 개수를 받습니다.
+ * 2. PUT /api/uploads/{uploadId}/parts/{partNumber} 로 조각을 보냅니다. 실패한 조각만 다시 보내면 됩니다.
+ * 3. 연결이 끊겼다면 GET /api/uploads/{uploadId} 로 올라간 조각을 확인하고 나머지만 보냅니다.
+ * 4. POST /api/uploads/{uploadId}/complete 로 마친 뒤, 받은 uploadId 를 게시글 작성·수정이나 프로필 수정 요청에 넣습니다.
+ * 조각 크기(기본 5MB, s3.multipart.part-size) 이하인 파일은 조각 하나로 올라가므로, 끊기면 처음부터 다시 보내야 합니다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads")
+public class ResumableUploadController {
+    private final ResumableUploadService resumableUploadService;
+    private final MemberService memberService;
+    private final Validator validator;
+
+    /**
+     * 이어 올리기 세션을 시작합니다.
+     *
+     * @param request 업로드 용도(post, profile), 파일 이름, Content-Type, 파일 크기
+     * @return 성공 시 201 Created 와 세션 정보를 반환합니다. partCount 가 1 이면 조각 하나 크기 이하라 이어 올릴 수 없습니다.
+     *         용도가 잘못됐거나, 이미지가 아니거나, 크기 제한을 넘으면 400 BAD REQUEST 에러를 반환합니다.
+     */
+    @PostMapping("")
+    public ResponseEntity<?> createUpload(Authentication authentication, @RequestBody UploadSessionRequestDto request) {
+        Set<ConstraintViolation<UploadSessionRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            List<ValidationErrorResponse.FieldError> fieldErrors = violations.stream()
+                    .map(violation -> new ValidationErrorResponse.FieldError(violation.getPropertyPath().toString(), violation.getMessage()))
+                    .toList();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ValidationErrorResponse(fieldErrors));
+        }
+        return handle(() -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(resumableUploadService.create(getMemberId(authentication), request)));
+    }
+
+    /**
+     * 조각 하나를 올립니다. 요청 본문이 조각 내용이며 Content-Length 가 필요합니다.
+     *
+     * @return 성공 시 200 OK 와 조각 번호, ETag 를 반환합니다.
+     *         조각 번호나 크기가 맞지 않으면 400 BAD REQUEST, 세션이 없거나 만료됐으면 404 Not Found 에러를 반환합니다.
+     */
+    @PutMapping(value = "/{uploadId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> uploadPart(Authentication authentication,
+                                        @PathVariable String uploadId,
+                                        @PathVariable int partNumber,
+                                        HttpServletRequest httpRequest) {
+        long length = httpRequest.getContentLengthLong();
+        if (length < 0) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED)
+                    .body(Map.of("error", "LENGTH_REQUIRED", "message", "조각 업로드에는 Content-Length 가 필요합니다."));
+        }
+        return handle(() -> {
+            // 요청 본문을 메모리에 모으지 않고 S3 로 그대로 흘려보냅니다.
+            try (InputStream inputStream = httpRequest.getInputStream()) {
+                PartETag partETag = resumableUploadService.uploadPart(getMemberId(authentication), uploadId, partNumber, inputStream, length);
+                return ResponseEntity.ok(Map.of("partNumber", partETag.getPartNumber(), "eTag", partETag.getETag()));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("조각을 읽는 중 연결이 끊어졌습니다. 다시 보내 주세요.");
+            }
+        });
+    }
+
+    /**
+     * 올라간 조각 목록과 진행률을 조회합니다.
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<?> getUpload(Authentication authentication, @PathVariable String uploadId) {
+        return handle(() -> ResponseEntity.ok(resumableUploadService.getStatus(getMemberId(authentication), uploadId)));
+    }
+
+    /**
+     * 이어 올리기를 마칩니다.
+     *
+     * @return 성공 시 200 OK 와 파일 URL 을 포함한 세션 정보를 반환합니다.
+     *         아직 올라가지 않은 조각이 있으면 400 BAD REQUEST 에러를 반환합니다.
+     */
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> completeUpload(Authentication authentication, @PathVariable String uploadId) {
+        return handle(() -> ResponseEntity.ok(resumableUploadService.complete(getMemberId(authentication), uploadId)));
+    }
+
+    /**
+     * 이어 올리기를 취소하고 올라간 조각을 지웁니다.
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<?> abortUpload(Authentication authentication, @PathVariable String uploadId) {
+        return handle(() -> {
+            resumableUploadService.abort(getMemberId(authentication), uploadId);
+            return ResponseEntity.ok(Map.of("message", "업로드를 취소했습니다."));
+        });
+    }
+
+    private Long getMemberId(Authentication authentication) {
+        Member member = memberService.getMemberByEmail(authentication.getName());
+        return member.getId();
+    }
+
+    private ResponseEntity<?> handle(Supplier<ResponseEntity<?>> action) {
+        try {
+            return action.get();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "UPLOAD_NOT_FOUND", "message", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "CONDITION_NOT_MET", "message", e.getMessage()));
+        } catch (Exception e) {
+            log.error("이어 올리기 처리 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage() != null ? e.getMessage() : "UPLOAD_FAILED", "message", "업로드 처리 중 오류가 발생하였습니다."));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.solucitation.midpoint_backend.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequestDto { // 이어 올리기 시작 시 사용하는 DTO
+    @NotBlank(message = "업로드 용도는 비워둘 수 없습니다.")
+    private String purpose; // post 또는 profile
+
+    @NotBlank(message = "파일 이름은 비워둘 수 없습니다.")
+    private String fileName;
+
+    @NotBlank(message = "Content-Type 은 비워둘 수 없습니다.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 비워둘 수 없습니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long size;
+}
@@ -0,0 +1,20 @@
+package com.solucitation.midpoint_backend.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UploadSessionResponseDto { // 이어 올리기 진행 상태를 담는 DTO
+    private String uploadId;
+    private String purpose;
+    private long size;
+    private long partSize; // 마지막 조각을 제외한 모든 조각은 이 크기여야 합니다.
+    private int partCount; // 1 이면 파일이 조각 하나 크기 이하라 이어 올릴 수 없고, 끊기면 조각 1 을 처음부터 다시 보내야 합니다.
+    private List<Integer> uploadedParts; // 이미 올라간 조각 번호, 이어 올릴 때는 여기 없는 조각만 보내면 됩니다.
+    private long uploadedBytes;
+    private boolean completed;
+    private String url; // 완료 전에는 null
+}
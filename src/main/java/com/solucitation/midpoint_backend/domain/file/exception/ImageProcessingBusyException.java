@@ -0,0 +1,11 @@
+package com.solucitation.midpoint_backend.domain.file.exception;
+
+/**
+ * 이미지 처리 대기열이 가득 차 이미지를 변환하지 못했을 때 던집니다.
+ * 잠시 뒤 같은 요청을 다시 보내면 처리될 수 있으므로 503 Service Unavailable 로 응답합니다.
+ */
+public class ImageProcessingBusyException extends RuntimeException {
+    public ImageProcessingBusyException(String message) {
+        super(message);
+    }
+}
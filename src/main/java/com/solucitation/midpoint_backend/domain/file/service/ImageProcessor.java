@@ -0,0 +1,291 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.solucitation.midpoint_backend.domain.file.exception.ImageProcessingBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.color.ColorSpace;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 올라온 이미지를 S3 에 저장하기 전에 정규화합니다.
+ * EXIF 방향대로 돌린 뒤 ImageVariant 크기별로 줄이고, EXIF·GPS 같은 메타데이터 없이 JPEG 로 다시 인코딩합니다.
+ * 디코딩한 이미지는 픽셀당 4바이트를 차지하므로(12MP 사진이면 약 48MB) image.processing.threads 크기의 전용 스레드 풀에서만 처리해 동시 메모리 사용량을 제한합니다.
+ * ImageIO 가 읽지 못하는 형식(HEIC, CMYK JPEG 등)은 메타데이터를 지운 채 저장할 수 없으므로 IllegalArgumentException 으로 거절합니다.
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private final ThreadPoolExecutor processingExecutor;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImageProcessor(@Value("${image.processing.threads:4}") int threads,
+                          @Value("${image.processing.queue-capacity:32}") int queueCapacity,
+                          @Value("${image.processing.jpeg-quality:0.82}") float jpegQuality,
+                          @Value("${image.processing.max-pixels:50000000}") long maxPixels) {
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        int poolSize = Math.max(1, Math.min(threads, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger sequence = new AtomicInteger();
+        // 요청 스레드가 대신 처리하면 메모리 제한이 무너지므로, 큐가 차면 바로 거절합니다.
+        this.processingExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.processingExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 전용 스레드 풀에서 이미지를 정규화합니다.
+     *
+     * @param source 이미지 내용
+     * @return 크기별 JPEG. 읽을 수 없는 형식이거나 해상도가 너무 크면 IllegalArgumentException 으로,
+     *         처리 대기열이 가득 찼으면 ImageProcessingBusyException 으로 실패한 future 를 반환해, 함께 올린 다른 이미지를 정리할 수 있게 합니다.
+     */
+    public CompletableFuture<Map<ImageVariant, byte[]>> process(InputStreamSource source) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (InputStream inputStream = source.getInputStream()) {
+                    return normalize(inputStream.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, processingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new ImageProcessingBusyException("이미지 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."));
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 읽을 수 없는 형식이거나 해상도가 image.processing.max-pixels 를 넘는 경우
+     */
+    Map<ImageVariant, byte[]> normalize(byte[] original) throws IOException {
+        BufferedImage image = decode(original);
+        if (image == null) {
+            // 원본을 그대로 저장하면 EXIF 의 GPS 좌표 같은 정보가 공개되므로 받지 않습니다.
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. JPEG, PNG, GIF, BMP 이미지를 올려 주세요.");
+        }
+        int orientation = ExifOrientation.read(original);
+
+        // 큰 크기부터 만들고, 작은 크기는 바로 앞 크기에서 줄여 계산량을 줄입니다.
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        BufferedImage previous = null;
+        for (ImageVariant variant : new ImageVariant[]{ImageVariant.LARGE, ImageVariant.MEDIUM, ImageVariant.THUMBNAIL}) {
+            BufferedImage resized = previous == null
+                    ? orient(resize(image, ExifOrientation.swapsAxes(orientation) ? image.getHeight() : image.getWidth(), variant.maxWidth()), orientation)
+                    : resize(previous, previous.getWidth(), variant.maxWidth());
+            variants.put(variant, encode(resized));
+            previous = resized;
+        }
+        return variants;
+    }
+
+    private BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true); // 메타데이터는 읽지 않습니다.
+                // 디코딩 전에 해상도를 확인해 압축 폭탄 이미지로 메모리가 바닥나지 않게 합니다.
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+                }
+                BufferedImage image = reader.read(0);
+                // JDK 18 부터 CMYK JPEG 도 읽히지만, ICC 프로파일 없이 RGB 로 옮기면 색이 틀어지므로 받지 않습니다.
+                return image.getColorModel().getColorSpace().getType() == ColorSpace.TYPE_CMYK ? null : image;
+            } catch (IOException e) {
+                // 손상된 파일이나 ImageIO 가 지원하지 않는 변형입니다.
+                log.warn("이미지를 읽을 수 없습니다: {}", e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 폭이 maxWidth 를 넘으면 비율을 유지해 줄입니다. 한 번에 절반 넘게 줄이면 계단 현상이 생기므로 절반씩 나눠 줄입니다.
+     *
+     * @param displayWidth EXIF 방향을 적용한 뒤의 폭 (90도 회전된 사진이면 원본 높이)
+     */
+    private static BufferedImage resize(BufferedImage image, int displayWidth, int maxWidth) {
+        double scale = Math.min(1.0, (double) maxWidth / displayWidth);
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, width, height, new AffineTransform(), width, height);
+        } while (current.getWidth() > targetWidth || current.getHeight() > targetHeight);
+        return current;
+    }
+
+    // EXIF 방향(1~8)대로 돌리거나 뒤집습니다. 메타데이터를 지우므로 픽셀 자체를 돌려 둬야 합니다.
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00·x + m01·y + m02, y' = m10·x + m11·y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = ExifOrientation.swapsAxes(orientation);
+        return draw(image, w, h, transform, swap ? h : w, swap ? w : h);
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height, AffineTransform transform,
+                                      int canvasWidth, int canvasHeight) {
+        BufferedImage result = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG 에는 알파 채널이 없으므로 투명한 부분은 흰색으로 채웁니다.
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, canvasWidth, canvasHeight);
+            graphics.transform(transform);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            JPEGImageWriteParam param = new JPEGImageWriteParam(null);
+            param.setCompressionMode(JPEGImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setOptimizeHuffmanTables(true);
+            // 메타데이터를 넘기지 않으므로 EXIF(촬영 위치, 기기 정보 등)는 저장되지 않습니다.
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        processingExecutor.shutdown();
+    }
+
+    /**
+     * JPEG 의 EXIF(APP1) 세그먼트에서 방향 태그(0x0112)만 읽습니다.
+     */
+    static final class ExifOrientation {
+
+        private ExifOrientation() {
+        }
+
+        static boolean swapsAxes(int orientation) {
+            return orientation >= 5 && orientation <= 8;
+        }
+
+        /**
+         * @return 1~8, 방향 정보가 없거나 JPEG 가 아니면 1
+         */
+        static int read(byte[] jpeg) {
+            if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+                return 1;
+            }
+            int offset = 2;
+            while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+                int marker = jpeg[offset + 1] & 0xFF;
+                int length = u16(jpeg, offset + 2, true);
+                if (marker == 0xDA || length < 2) { // 영상 데이터가 시작되면 더 볼 메타데이터가 없습니다.
+                    return 1;
+                }
+                if (marker == 0xE1 && length >= 8 && offset + 2 + length <= jpeg.length
+                        && jpeg[offset + 4] == 'E' && jpeg[offset + 5] == 'x' && jpeg[offset + 6] == 'i' && jpeg[offset + 7] == 'f') {
+                    return readTiff(jpeg, offset + 10, offset + 2 + length);
+                }
+                offset += 2 + length;
+            }
+            return 1;
+        }
+
+        private static int readTiff(byte[] data, int tiff, int end) {
+            if (tiff + 8 > end) {
+                return 1;
+            }
+            boolean bigEndian = data[tiff] == 'M';
+            long ifd = tiff + u32(data, tiff + 4, bigEndian);
+            if (ifd + 2 > end) {
+                return 1;
+            }
+            int entries = u16(data, (int) ifd, bigEndian);
+            for (int i = 0; i < entries; i++) {
+                int entry = (int) ifd + 2 + i * 12;
+                if (entry + 12 > end) {
+                    return 1;
+                }
+                if (u16(data, entry, bigEndian) == 0x0112) {
+                    int orientation = u16(data, entry + 8, bigEndian);
+                    return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                }
+            }
+            return 1;
+        }
+
+        private static int u16(byte[] data, int offset, boolean bigEndian) {
+            int a = data[offset] & 0xFF;
+            int b = data[offset + 1] & 0xFF;
+            return bigEndian ? a << 8 | b : b << 8 | a;
+        }
+
+        private static long u32(byte[] data, int offset, boolean bigEndian) {
+            long high = u16(data, bigEndian ? offset : offset + 2, bigEndian);
+            long low = u16(data, bigEndian ? offset + 2 : offset, bigEndian);
+            return high << 16 | low;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+/**
+ * 게시글·프로필 이미지를 올릴 때 함께 만드는 크기별 이미지입니다.
+ * LARGE 는 원래 파일 이름(S3 키)에 저장하고, 나머지는 같은 이름 뒤에 접미사를 붙여 저장합니다.
+ */
+public enum ImageVariant {
+
+    THUMBNAIL(400, "_w400"), // 게시글 목록 카드, 작성자 프로필
+    MEDIUM(1080, "_w1080"),  // 게시글 상세 화면
+    LARGE(1920, "");         // 확대해서 볼 때 쓰는 대표 이미지
+
+    private final int maxWidth;
+    private final String keySuffix;
+
+    ImageVariant(int maxWidth, String keySuffix) {
+        this.maxWidth = maxWidth;
+        this.keySuffix = keySuffix;
+    }
+
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * @param key 대표 이미지의 S3 키 (.jpg 로 끝납니다)
+     * @return 이 크기의 S3 키
+     */
+    String keyOf(String key) {
+        if (keySuffix.isEmpty()) {
+            return key;
+        }
+        return key.substring(0, key.length() - ".jpg".length()) + keySuffix + ".jpg";
+    }
+}
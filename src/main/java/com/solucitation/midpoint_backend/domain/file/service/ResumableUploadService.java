@@ -0,0 +1,367 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartSummary;
+import com.solucitation.midpoint_backend.domain.file.dto.UploadSessionRequestDto;
+import com.solucitation.midpoint_backend.domain.file.dto.UploadSessionResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 게시글·프로필 이미지를 클라이언트가 조각으로 나눠 보내는 이어 올리기 세션을 관리합니다.
+ * 세션을 시작하면 S3 멀티파트 업로드를 열고, 클라이언트는 조각을 순서와 상관없이 보내며 실패한 조각만 다시 보냅니다.
+ * 어떤 조각이 올라갔는지는 S3 의 조각 목록을 기준으로 하므로 연결이 끊기거나 다른 서버로 요청이 가도 이어서 올릴 수 있습니다.
+ * 세션 정보는 Redis(uploads:session:{uploadId})에 uploads.session-ttl 동안 두고,
+ * 완료된 파일은 uploads.claim-ttl 안에 게시글·프로필에 쓰이지 않으면 S3 에서 지웁니다.
+ */
+@Slf4j
+@Service
+public class ResumableUploadService {
+
+    private static final String SESSION_KEY_PREFIX = "uploads:session:";
+    private static final String COMPLETED_KEY = "uploads:completed";
+    private static final String UPLOADING = "UPLOADING";
+    private static final String COMPLETED = "COMPLETED";
+
+    private final S3Service s3Service;
+    private final S3MultipartUploader multipartUploader;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long maxSize;
+    private final Duration sessionTtl;
+    private final Duration claimTtl;
+
+    public ResumableUploadService(S3Service s3Service,
+                                  S3MultipartUploader multipartUploader,
+                                  @Qualifier("cacheRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                  @Value("${uploads.max-size:50MB}") DataSize maxSize,
+                                  @Value("${uploads.session-ttl:24h}") Duration sessionTtl,
+                                  @Value("${uploads.claim-ttl:1h}") Duration claimTtl) {
+        this.s3Service = s3Service;
+        this.multipartUploader = multipartUploader;
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize.toBytes();
+        this.sessionTtl = sessionTtl;
+        this.claimTtl = claimTtl;
+    }
+
+    /**
+     * 이어 올리기 세션을 시작합니다.
+     *
+     * @throws IllegalArgumentException 용도가 잘못됐거나, 이미지가 아니거나, 크기 제한을 넘는 경우
+     */
+    public UploadSessionResponseDto create(Long memberId, UploadSessionRequestDto request) {
+        UploadPurpose purpose = UploadPurpose.from(request.getPurpose());
+        if (!request.getContentType().startsWith("image/")) {
+            throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
+        }
+        if (request.getSize() > maxSize) {
+            throw new IllegalArgumentException("파일은 최대 " + DataSize.ofBytes(maxSize).toMegabytes() + "MB 까지 업로드할 수 있습니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        String key = purpose.getDirName() + "/" + s3Service.generateUniqueFilename(request.getFileName());
+        long partSize = multipartUploader.partSizeFor(request.getSize());
+        String s3UploadId = multipartUploader.initiate(key, request.getContentType());
+
+        Session session = new Session(uploadId, memberId, purpose, key, s3UploadId, request.getSize(), partSize, UPLOADING, null);
+        redisTemplate.opsForHash().putAll(sessionKey(uploadId), session.toHash());
+        redisTemplate.expire(sessionKey(uploadId), sessionTtl);
+        return toResponse(session, List.of());
+    }
+
+    /**
+     * 조각 하나를 받아 S3 에 그대로 흘려보냅니다. 같은 조각을 다시 보내면 덮어씁니다.
+     *
+     * @param inputStream 요청 본문
+     * @param length      요청 본문 크기 (Content-Length)
+     * @throws IllegalArgumentException 조각 번호나 크기가 세션과 맞지 않는 경우
+     */
+    public PartETag uploadPart(Long memberId, String uploadId, int partNumber, InputStream inputStream, long length) {
+        Session session = getSession(memberId, uploadId);
+        if (COMPLETED.equals(session.status())) {
+            throw new IllegalArgumentException("이미 완료된 업로드입니다.");
+        }
+        if (partNumber < 1 || partNumber > session.partCount()) {
+            throw new IllegalArgumentException("조각 번호는 1부터 " + session.partCount() + " 사이여야 합니다.");
+        }
+        if (length != session.expectedPartSize(partNumber)) {
+            throw new IllegalArgumentException(partNumber + "번 조각의 크기는 " + session.expectedPartSize(partNumber) + " 바이트여야 합니다.");
+        }
+        return multipartUploader.uploadPart(session.key(), session.s3UploadId(), partNumber, inputStream, length);
+    }
+
+    /**
+     * 올라간 조각과 진행률을 반환합니다. 연결이 끊긴 클라이언트는 이 목록에 없는 조각만 다시 보냅니다.
+     */
+    public UploadSessionResponseDto getStatus(Long memberId, String uploadId) {
+        Session session = getSession(memberId, uploadId);
+        if (COMPLETED.equals(session.status())) {
+            return toResponse(session, List.of());
+        }
+        return toResponse(session, multipartUploader.listParts(session.key(), session.s3UploadId()));
+    }
+
+    /**
+     * 모든 조각이 올라갔으면 S3 에서 하나의 파일로 합칩니다. 이미 완료된 세션이면 그대로 반환합니다.
+     *
+     * @throws IllegalArgumentException 아직 올라가지 않았거나 크기가 맞지 않는 조각이 있는 경우
+     */
+    public UploadSessionResponseDto complete(Long memberId, String uploadId) {
+        Session session = getSession(memberId, uploadId);
+        if (COMPLETED.equals(session.status())) {
+            return toResponse(session, List.of());
+        }
+
+        Map<Integer, PartSummary> uploaded = new HashMap<>();
+        for (PartSummary part : multipartUploader.listParts(session.key(), session.s3UploadId())) {
+            uploaded.put(part.getPartNumber(), part);
+        }
+        List<Integer> missing = new ArrayList<>();
+        List<PartETag> partETags = new ArrayList<>(session.partCount());
+        for (int partNumber = 1; partNumber <= session.partCount(); partNumber++) {
+            PartSummary part = uploaded.get(partNumber);
+            if (part == null || part.getSize() != session.expectedPartSize(partNumber)) {
+                missing.add(partNumber);
+            } else {
+                partETags.add(new PartETag(partNumber, part.getETag()));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("아직 올라가지 않은 조각이 있습니다: " + missing);
+        }
+
+        multipartUploader.complete(session.key(), session.s3UploadId(), partETags);
+        String url = s3Service.generateS3Url(session.key());
+        redisTemplate.opsForHash().putAll(sessionKey(uploadId), Map.of("status", COMPLETED, "url", url));
+        // 쓰이지 않은 파일을 정리할 때 URL 이 필요하므로 세션은 claim-ttl 보다 오래 둡니다.
+        redisTemplate.expire(sessionKey(uploadId), sessionTtl);
+        redisTemplate.opsForZSet().add(COMPLETED_KEY, uploadId, System.currentTimeMillis());
+        return toResponse(new Session(session.uploadId(), session.memberId(), session.purpose(), session.key(),
+                session.s3UploadId(), session.size(), session.partSize(), COMPLETED, url), List.of());
+    }
+
+    /**
+     * 이어 올리기를 그만두고 S3 에 올라간 조각이나 파일을 지웁니다.
+     */
+    public void abort(Long memberId, String uploadId) {
+        Session session = getSession(memberId, uploadId);
+        redisTemplate.delete(sessionKey(uploadId));
+        if (COMPLETED.equals(session.status())) {
+            Long removed = redisTemplate.opsForZSet().remove(COMPLETED_KEY, uploadId);
+            if (removed != null && removed > 0) {
+                s3Service.delete(session.url());
+            }
+        } else {
+            multipartUploader.abort(session.key(), session.s3UploadId());
+        }
+    }
+
+    /**
+     * 완료된 업로드를 게시글·프로필에 쓰겠다고 표시하고 파일 URL 을 반환합니다. 한 업로드는 한 번만 쓸 수 있습니다.
+     * 정리 목록에서만 빼고 세션과 원본 파일은 그대로 두므로, 변환이나 저장이 실패하면 release 로 돌려놓아 같은 업로드 ID 로 다시 시도할 수 있습니다.
+     * 성공하면 finishOnCommit 으로 원본과 세션을 정리합니다.
+     *
+     * @param uploadIds 이어 올리기 세션 ID 리스트
+     * @return 파일 URL 리스트 (uploadIds 순서)
+     * @throws IllegalArgumentException 본인의 완료된 업로드가 아니거나, 용도가 다르거나, 이미 쓰였거나 만료된 경우
+     */
+    public List<String> claim(Long memberId, UploadPurpose purpose, List<String> uploadIds) {
+        if (new HashSet<>(uploadIds).size() != uploadIds.size()) {
+            throw new IllegalArgumentException("같은 업로드를 두 번 사용할 수 없습니다.");
+        }
+        List<Session> sessions = new ArrayList<>();
+        for (String uploadId : uploadIds) {
+            Session session = findSession(uploadId);
+            if (session == null || !session.memberId().equals(memberId)
+                    || session.purpose() != purpose || !COMPLETED.equals(session.status())) {
+                throw new IllegalArgumentException("사용할 수 없는 업로드입니다: " + uploadId);
+            }
+            sessions.add(session);
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (Session session : sessions) {
+            // 정리 작업과 동시에 실행돼도 목록에서 먼저 지운 쪽만 파일을 가져갑니다.
+            Long removed = redisTemplate.opsForZSet().remove(COMPLETED_KEY, session.uploadId());
+            if (removed == null || removed == 0) {
+                // 앞에서 가져간 업로드는 다시 쓸 수 있도록 돌려놓습니다.
+                release(uploadIds.subList(0, urls.size()));
+                throw new IllegalArgumentException("사용할 수 없는 업로드입니다: " + session.uploadId());
+            }
+            urls.add(session.url());
+        }
+        return urls;
+    }
+
+    /**
+     * 가져간 업로드를 다시 쓸 수 있게 돌려놓습니다. 돌려놓은 업로드는 이때부터 uploads.claim-ttl 안에 다시 쓰이지 않으면 지웁니다.
+     */
+    public void release(List<String> uploadIds) {
+        long now = System.currentTimeMillis();
+        for (String uploadId : uploadIds) {
+            try {
+                redisTemplate.opsForZSet().add(COMPLETED_KEY, uploadId, now);
+                // 정리할 때 URL 이 필요하므로 세션도 다시 늘려 둡니다.
+                redisTemplate.expire(sessionKey(uploadId), sessionTtl);
+            } catch (Exception e) {
+                // 돌려놓지 못한 업로드는 세션이 만료될 때까지 남으므로 로그로 남깁니다.
+                log.warn("이어 올리기 업로드 반환 실패 {}: {}", uploadId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 가져간 업로드를 다 쓴 것으로 처리합니다. 현재 트랜잭션이 커밋되면 원본 파일과 세션을 지우고, 롤백되면 release 로 돌려놓습니다.
+     * 트랜잭션 밖에서 호출하면 바로 지웁니다.
+     */
+    public void finishOnCommit(List<String> uploadIds) {
+        if (uploadIds.isEmpty()) {
+            return;
+        }
+        List<String> finished = List.copyOf(uploadIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            finish(finished);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    finish(finished);
+                } else {
+                    release(finished);
+                }
+            }
+        });
+    }
+
+    private void finish(List<String> uploadIds) {
+        for (String uploadId : uploadIds) {
+            try {
+                Session session = findSession(uploadId);
+                if (session != null && session.url() != null) {
+                    s3Service.delete(session.url());
+                }
+                redisTemplate.delete(sessionKey(uploadId));
+            } catch (Exception e) {
+                log.warn("이어 올리기 원본 파일 정리 실패 {}: {}", uploadId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 끝나지 않은 채 uploads.session-ttl 이 지난 멀티파트 업로드를 중단하고,
+     * 완료됐지만 uploads.claim-ttl 안에 쓰이지 않은 파일을 지웁니다. 서버 여러 대에서 동시에 실행돼도 안전합니다.
+     */
+    @Scheduled(fixedDelayString = "${uploads.sweep-interval:PT1H}")
+    public void sweep() {
+        for (UploadPurpose purpose : UploadPurpose.values()) {
+            try {
+                int aborted = multipartUploader.abortStaleUploads(purpose.getDirName() + "/", sessionTtl);
+                if (aborted > 0) {
+                    log.info("끝나지 않은 S3 멀티파트 업로드 {}건 중단 ({})", aborted, purpose.getDirName());
+                }
+            } catch (Exception e) {
+                log.warn("S3 멀티파트 업로드 정리 실패 ({}): {}", purpose.getDirName(), e.getMessage());
+            }
+        }
+
+        try {
+            long cutoff = System.currentTimeMillis() - claimTtl.toMillis();
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(COMPLETED_KEY, 0, cutoff);
+            if (expired == null) {
+                return;
+            }
+            for (String uploadId : expired) {
+                Session session = findSession(uploadId);
+                Long removed = redisTemplate.opsForZSet().remove(COMPLETED_KEY, uploadId);
+                if (removed != null && removed > 0 && session != null) {
+                    s3Service.delete(session.url());
+                    redisTemplate.delete(sessionKey(uploadId));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("쓰이지 않은 업로드 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Session getSession(Long memberId, String uploadId) {
+        Session session = findSession(uploadId);
+        // 다른 회원의 세션은 존재 여부도 알리지 않습니다.
+        if (session == null || !session.memberId().equals(memberId)) {
+            throw new EntityNotFoundException("해당 업로드가 존재하지 않거나 만료되었습니다.");
+        }
+        return session;
+    }
+
+    private Session findSession(String uploadId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(sessionKey(uploadId));
+        return hash == null || hash.isEmpty() ? null : Session.fromHash(uploadId, hash);
+    }
+
+    private static UploadSessionResponseDto toResponse(Session session, List<PartSummary> parts) {
+        List<Integer> uploadedParts = new ArrayList<>();
+        long uploadedBytes = 0;
+        for (PartSummary part : parts) {
+            uploadedParts.add(part.getPartNumber());
+            uploadedBytes += part.getSize();
+        }
+        Collections.sort(uploadedParts);
+        boolean completed = COMPLETED.equals(session.status());
+        return new UploadSessionResponseDto(session.uploadId(), session.purpose().name().toLowerCase(),
+                session.size(), session.partSize(), session.partCount(), uploadedParts,
+                completed ? session.size() : uploadedBytes, completed, session.url());
+    }
+
+    private static String sessionKey(String uploadId) {
+        return SESSION_KEY_PREFIX + uploadId;
+    }
+
+    private record Session(String uploadId, Long memberId, UploadPurpose purpose, String key, String s3UploadId,
+                           long size, long partSize, String status, String url) {
+
+        int partCount() {
+            return S3MultipartUploader.partCount(size, partSize);
+        }
+
+        long expectedPartSize(int partNumber) {
+            return partNumber < partCount() ? partSize : size - partSize * (partCount() - 1);
+        }
+
+        Map<String, String> toHash() {
+            Map<String, String> hash = new HashMap<>();
+            hash.put("memberId", memberId.toString());
+            hash.put("purpose", purpose.name());
+            hash.put("key", key);
+            hash.put("s3UploadId", s3UploadId);
+            hash.put("size", Long.toString(size));
+            hash.put("partSize", Long.toString(partSize));
+            hash.put("status", status);
+            return hash;
+        }
+
+        static Session fromHash(String uploadId, Map<Object, Object> hash) {
+            return new Session(uploadId,
+                    Long.valueOf((String) hash.get("memberId")),
+                    UploadPurpose.valueOf((String) hash.get("purpose")),
+                    (String) hash.get("key"),
+                    (String) hash.get("s3UploadId"),
+                    Long.parseLong((String) hash.get("size")),
+                    Long.parseLong((String) hash.get("partSize")),
+                    (String) hash.get("status"),
+                    (String) hash.get("url"));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * 큰 파일을 S3 멀티파트 업로드로 올립니다.
+ * 파일을 s3.multipart.part-size 단위 조각으로 나눠 조각 전용 스레드 풀에서 동시에 올리고, 실패한 조각만 s3.multipart.part-attempts 까지 다시 올립니다.
+ * 끝내 실패하면 멀티파트 업로드를 중단(abort)해 S3 에 조각이 남지 않게 하며,
+ * 서버가 중간에 죽어 남은 업로드는 abortStaleUploads 로 정리합니다.
+ * 클라이언트가 조각을 직접 보내는 이어 올리기(ResumableUploadService)도 이 클래스로 S3 에 접근합니다.
+ * 조각 크기가 곧 이어 올리기의 재전송 단위이므로 기본값은 S3 최소값(5MB)입니다. 한 조각 이하인 파일은 조각이 하나뿐이라 이어 올릴 수 없습니다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    // S3 는 마지막 조각을 제외하고 5MB 보다 작은 조각을 받지 않으며, 조각은 최대 10000개입니다.
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    static final int MAX_PARTS = 10_000;
+
+    private final AmazonS3 amazonS3;
+    private final ThreadPoolExecutor partExecutor;
+    private final long partSize;
+    private final int partAttempts;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Value("${s3.multipart.part-size:5MB}") DataSize partSize,
+                               @Value("${s3.multipart.threads:8}") int partThreads,
+                               @Value("${s3.multipart.queue-capacity:64}") int partQueueCapacity,
+                               @Value("${s3.multipart.part-attempts:3}") int partAttempts) {
+        this.amazonS3 = amazonS3;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize.toBytes());
+        this.partAttempts = partAttempts;
+        AtomicInteger sequence = new AtomicInteger();
+        // S3Service 의 업로드 스레드 안에서 조각을 기다리므로 같은 풀을 쓰지 않습니다. 큐가 차면 요청 스레드가 직접 올립니다.
+        this.partExecutor = new ThreadPoolExecutor(partThreads, partThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(partQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-part-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.partExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 전체 크기에 맞는 조각 크기를 구합니다. 조각이 10000개를 넘지 않도록 필요하면 설정값보다 키웁니다.
+     */
+    public long partSizeFor(long size) {
+        return Math.max(partSize, (size + MAX_PARTS - 1) / MAX_PARTS);
+    }
+
+    public static int partCount(long size, long partSize) {
+        return (int) Math.max(1, (size + partSize - 1) / partSize);
+    }
+
+    /**
+     * 파일 하나를 조각으로 나눠 동시에 올립니다.
+     * 조각마다 source 에서 입력 스트림을 새로 열어 조각 시작 위치로 건너뛰므로, source 는 여러 번 열 수 있어야 합니다. (MultipartFile 등)
+     *
+     * @param key         S3 버킷 내 파일 이름
+     * @param size        파일 크기
+     * @param contentType Content-Type, 없으면 null
+     * @param source      파일 내용
+     * @param progress    조각 하나가 올라갈 때마다 지금까지 올라간 바이트 수를 받습니다
+     * @throws IOException 파일을 읽거나 업로드하는 중 에러 발생 시
+     */
+    public void upload(String key, long size, String contentType, InputStreamSource source, LongConsumer progress) throws IOException {
+        String uploadId = initiate(key, contentType);
+        long partSize = partSizeFor(size);
+        int partCount = partCount(size, partSize);
+        AtomicLong uploadedBytes = new AtomicLong();
+
+        try {
+            List<CompletableFuture<PartETag>> parts = new ArrayList<>(partCount);
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                long offset = (partNumber - 1) * partSize;
+                long length = Math.min(partSize, size - offset);
+                int number = partNumber;
+                parts.add(CompletableFuture.supplyAsync(() -> {
+                    PartETag partETag = uploadPartWithRetry(key, uploadId, number, source, offset, length);
+                    progress.accept(uploadedBytes.addAndGet(length));
+                    return partETag;
+                }, partExecutor));
+            }
+
+            List<PartETag> partETags = new ArrayList<>(partCount);
+            for (CompletableFuture<PartETag> part : parts) {
+                partETags.add(part.join());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (CompletionException e) {
+            abort(key, uploadId);
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        } catch (RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    private PartETag uploadPartWithRetry(String key, String uploadId, int partNumber,
+                                         InputStreamSource source, long offset, long length) {
+        for (int attempt = 1; ; attempt++) {
+            try (InputStream inputStream = source.getInputStream()) {
+                inputStream.skipNBytes(offset);
+                return uploadPart(key, uploadId, partNumber, inputStream, length);
+            } catch (SdkClientException e) {
+                if (attempt >= partAttempts || !S3Service.isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("S3 조각 업로드 재시도 ({}/{}) {} #{}: {}", attempt, partAttempts, key, partNumber, e.getMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 멀티파트 업로드를 시작합니다. 올라간 파일은 PublicRead 권한을 가집니다.
+     *
+     * @return S3 업로드 ID
+     */
+    public String initiate(String key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        return amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead))
+                .getUploadId();
+    }
+
+    /**
+     * 조각 하나를 올립니다. 같은 번호의 조각을 다시 올리면 S3 에서 덮어씁니다.
+     *
+     * @param inputStream 조각 내용, length 바이트만 읽습니다
+     */
+    public PartETag uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long length) {
+        return amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(length)
+                        .withInputStream(inputStream))
+                .getPartETag();
+    }
+
+    /**
+     * 지금까지 S3 에 올라간 조각 목록입니다. 이어 올리기 상태의 기준이므로 서버 여러 대가 같은 업로드를 나눠 받아도 맞습니다.
+     */
+    public List<PartSummary> listParts(String key, String uploadId) {
+        List<PartSummary> parts = new ArrayList<>();
+        ListPartsRequest request = new ListPartsRequest(bucket, key, uploadId);
+        PartListing listing;
+        do {
+            listing = amazonS3.listParts(request);
+            parts.addAll(listing.getParts());
+            request.setPartNumberMarker(listing.getNextPartNumberMarker());
+        } while (listing.isTruncated());
+        return parts;
+    }
+
+    public void complete(String key, String uploadId, List<PartETag> partETags) {
+        amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+    }
+
+    public void abort(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (Exception e) {
+            // 남은 업로드는 abortStaleUploads 가 나중에 정리합니다.
+            log.warn("S3 멀티파트 업로드 중단 실패 {} ({}): {}", key, uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * prefix 아래에서 olderThan 보다 오래전에 시작해 아직 끝나지 않은 멀티파트 업로드를 중단합니다.
+     * 끝나지 않은 업로드의 조각도 저장 용량으로 과금되므로 주기적으로 호출합니다.
+     *
+     * @return 중단한 업로드 수
+     */
+    public int abortStaleUploads(String prefix, Duration olderThan) {
+        Date cutoff = new Date(System.currentTimeMillis() - olderThan.toMillis());
+        ListMultipartUploadsRequest request = new ListMultipartUploadsRequest(bucket).withPrefix(prefix);
+        int aborted = 0;
+        MultipartUploadListing listing;
+        do {
+            listing = amazonS3.listMultipartUploads(request);
+            for (MultipartUpload upload : listing.getMultipartUploads()) {
+                if (upload.getInitiated().before(cutoff)) {
+                    abort(upload.getKey(), upload.getUploadId());
+                    aborted++;
+                }
+            }
+            request.setKeyMarker(listing.getNextKeyMarker());
+            request.setUploadIdMarker(listing.getNextUploadIdMarker());
+        } while (listing.isTruncated());
+        return aborted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+    }
+}
@@ -1,32 +1,80 @@
 package com.solucitation.midpoint_backend.domain.file.service;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
+import com.solucitation.midpoint_backend.domain.file.exception.ImageProcessingBusyException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Objects;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * AWS S3 관련 작업을 처리하는 서비스 클래스.
+ * MultipartFile 은 로컬 파일로 옮기거나 바이트 배열로 읽지 않고, 크기와 Content-Type 을 지정해 입력 스트림 그대로 S3 에 보냅니다.
+ * 여러 파일은 s3.upload.threads 크기의 업로드 전용 스레드 풀에서 동시에 올립니다.
+ * s3.multipart.threshold 이상인 파일은 S3MultipartUploader 로 조각을 나눠 올려, 실패해도 해당 조각만 다시 올립니다.
+ * 게시글·프로필 이미지는 uploadImages 로 올리며, ImageProcessor 가 만든 크기별 JPEG 를 ImageVariant 의 키에 나눠 저장합니다.
  */
 @Slf4j
 @Service
 public class S3Service {
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader multipartUploader;
+    private final ImageProcessor imageProcessor;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final int uploadAttempts;
+    private final long multipartThreshold;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    public S3Service(AmazonS3 amazonS3) {
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    public S3Service(AmazonS3 amazonS3,
+                     S3MultipartUploader multipartUploader,
+                     ImageProcessor imageProcessor,
+                     @Value("${s3.upload.threads:8}") int uploadThreads,
+                     @Value("${s3.upload.queue-capacity:64}") int uploadQueueCapacity,
+                     @Value("${s3.upload.attempts:2}") int uploadAttempts,
+                     @Value("${s3.multipart.threshold:16MB}") DataSize multipartThreshold) {
         this.amazonS3 = amazonS3;
+        this.multipartUploader = multipartUploader;
+        this.imageProcessor = imageProcessor;
+        this.uploadAttempts = uploadAttempts;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        AtomicInteger sequence = new AtomicInteger();
+        // 큐가 차면 요청 스레드가 직접 올려서 업로드 대기열이 한없이 늘어나지 않게 합니다.
+        this.uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(uploadQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -36,90 +84,279 @@ public class S3Service {
      * @param fileName      원본 파일 이름
      * @param multipartFile 업로드할 MultipartFile
      * @return 업로드된 파일의 S3 URL
-     * @throws IOException 파일 변환 중 에러 발생 시
+     * @throws IOException 파일을 읽거나 업로드하는 중 에러 발생 시
      */
     public String upload(String dirName, String fileName, MultipartFile multipartFile) throws IOException {
-        File uploadFile = convert(multipartFile)
-                .orElseThrow(() -> new IllegalArgumentException("MultipartFile을 File로 전환하는 데 실패했습니다."));
-        return upload(dirName, fileName, uploadFile);
+        String newFileName = dirName + "/" + generateUniqueFilename(fileName);
+        return putS3(multipartFile, newFileName);
     }
 
     /**
-     * 파일을 S3에 업로드하고 URL을 반환합니다.
+     * 여러 파일을 동시에 S3에 업로드합니다. 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던집니다.
      *
-     * @param dirName    S3 버킷 내 디렉토리 이름
-     * @param fileName   원본 파일 이름
-     * @param uploadFile 업로드할 파일
-     * @return 업로드된 파일의 S3 URL
+     * @param dirName        S3 버킷 내 디렉토리 이름
+     * @param multipartFiles 업로드할 MultipartFile 리스트
+     * @return 업로드된 파일의 S3 URL 리스트 (multipartFiles 순서)
+     * @throws IOException 파일을 읽거나 업로드하는 중 에러 발생 시
      */
-    private String upload(String dirName, String fileName, File uploadFile) {
-        String uniqueFileName = generateUniqueFilename(fileName);
-        String newFileName = dirName + "/" + uniqueFileName;
-        String uploadImageUrl = putS3(uploadFile, newFileName);
-        removeNewFile(uploadFile);
-        return uploadImageUrl;
+    public List<String> uploadAll(String dirName, List<MultipartFile> multipartFiles) throws IOException {
+        if (multipartFiles.size() == 1) { // 하나뿐이면 스레드를 넘기지 않고 바로 올립니다.
+            MultipartFile multipartFile = multipartFiles.get(0);
+            return List.of(upload(dirName, multipartFile.getOriginalFilename(), multipartFile));
+        }
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        for (MultipartFile multipartFile : multipartFiles) {
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return upload(dirName, multipartFile.getOriginalFilename(), multipartFile);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, uploadExecutor));
+        }
+
+        return joinAll(uploads, this::delete);
     }
 
     /**
-     * 파일을 S3에 업로드합니다.
+     * 이미지를 크기별 JPEG 로 바꿔 S3에 업로드합니다. 변환은 ImageProcessor 의 스레드 풀에서, 업로드는 업로드 스레드 풀에서 동시에 진행합니다.
+     * 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던집니다.
      *
-     * @param uploadFile 업로드할 파일
-     * @param fileName   S3 버킷 내 파일 이름
+     * @param dirName        S3 버킷 내 디렉토리 이름
+     * @param multipartFiles 업로드할 이미지 리스트
+     * @return 업로드된 이미지의 URL 리스트 (multipartFiles 순서)
+     * @throws IOException              파일을 읽거나 업로드하는 중 에러 발생 시
+     * @throws IllegalArgumentException 읽을 수 없는 형식(HEIC 등)이거나 이미지 해상도가 너무 큰 경우
+     * @throws ImageProcessingBusyException 이미지 처리 대기열이 가득 찬 경우
+     */
+    public List<UploadedImage> uploadImages(String dirName, List<MultipartFile> multipartFiles) throws IOException {
+        List<CompletableFuture<UploadedImage>> uploads = new ArrayList<>();
+        for (MultipartFile multipartFile : multipartFiles) {
+            String fileName = multipartFile.getOriginalFilename();
+            uploads.add(imageProcessor.process(multipartFile).thenCompose(variants ->
+                    putVariants(dirName + "/" + generateUniqueFilename(jpegFileName(fileName)), variants)));
+        }
+        return joinAll(uploads, image -> delete(image.url()));
+    }
+
+    /**
+     * 이미 S3에 원본 그대로 올라간 이미지(이어 올리기로 받은 파일)를 크기별 JPEG 로 바꿔 다시 저장합니다.
+     * 하나라도 실패하면 이미 저장한 JPEG 만 지웁니다. 원본은 지우지 않으므로, 실패한 이어 올리기 업로드를 다시 쓸 수 있습니다.
+     * 원본은 ResumableUploadService 가 게시글·프로필 저장이 끝난 뒤 지웁니다.
+     *
+     * @param dirName S3 버킷 내 디렉토리 이름
+     * @param urls    원본 이미지 URL 리스트
+     * @return 변환된 이미지의 URL 리스트 (urls 순서)
+     * @throws IOException                  파일을 읽거나 업로드하는 중 에러 발생 시
+     * @throws IllegalArgumentException     읽을 수 없는 형식(HEIC 등)이거나 이미지 해상도가 너무 큰 경우
+     * @throws ImageProcessingBusyException 이미지 처리 대기열이 가득 찬 경우
+     */
+    public List<UploadedImage> normalizeStoredImages(String dirName, List<String> urls) throws IOException {
+        List<CompletableFuture<UploadedImage>> uploads = new ArrayList<>();
+        for (String url : urls) {
+            String key = extractFileKey(url);
+            InputStreamSource source = () -> amazonS3.getObject(bucket, key).getObjectContent();
+            uploads.add(imageProcessor.process(source).thenCompose(variants -> {
+                String fileName = key.substring(key.lastIndexOf('/') + 1).replaceFirst("_[0-9a-f-]{36}(\\.[^.]*)?$", "");
+                return putVariants(dirName + "/" + generateUniqueFilename(jpegFileName(fileName)), variants);
+            }));
+        }
+        return joinAll(uploads, image -> delete(image.url()));
+    }
+
+    // 크기별 JPEG 를 동시에 올립니다. 하나라도 실패하면 같은 이미지의 다른 크기도 지웁니다.
+    private CompletableFuture<UploadedImage> putVariants(String key, Map<ImageVariant, byte[]> variants) {
+        List<String> keys = Arrays.stream(ImageVariant.values()).map(variant -> variant.keyOf(key)).toList();
+        CompletableFuture<?>[] puts = Arrays.stream(ImageVariant.values())
+                .map(variant -> CompletableFuture.runAsync(() -> {
+                    byte[] bytes = variants.get(variant);
+                    ObjectMetadata metadata = new ObjectMetadata();
+                    metadata.setContentLength(bytes.length);
+                    metadata.setContentType("image/jpeg");
+                    // 키마다 UUID 가 붙어 내용이 바뀌지 않으므로 브라우저·CDN 이 오래 캐시해도 됩니다.
+                    metadata.setCacheControl("public, max-age=31536000, immutable");
+                    try {
+                        putObject(variant.keyOf(key), metadata, () -> new ByteArrayInputStream(bytes));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, uploadExecutor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(puts).handle((ignored, e) -> {
+            if (e != null) {
+                deleteQuietly(keys);
+                throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+            }
+            log.info("FileName: {} (+{} variants)", key, keys.size() - 1);
+            return new UploadedImage(generateS3Url(key),
+                    generateS3Url(ImageVariant.MEDIUM.keyOf(key)),
+                    generateS3Url(ImageVariant.THUMBNAIL.keyOf(key)));
+        });
+    }
+
+    // 확장자를 .jpg 로 바꿉니다.
+    private static String jpegFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return "image.jpg";
+        }
+        int dotIndex = fileName.lastIndexOf(".");
+        return (dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName) + ".jpg";
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 기다립니다. 하나라도 실패하면 성공한 결과를 cleanup 으로 정리하고 첫 실패를 던집니다.
+     */
+    private <T> List<T> joinAll(List<CompletableFuture<T>> futures, Consumer<T> cleanup) throws IOException {
+        List<T> results = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+        if (failure == null) {
+            return results;
+        }
+
+        results.forEach(result -> {
+            try {
+                cleanup.accept(result);
+            } catch (Exception e) {
+                log.warn("업로드 실패 후 정리 중 S3 파일 삭제 실패: {}", result);
+            }
+        });
+        if (failure instanceof UncheckedIOException uncheckedIOException) {
+            throw uncheckedIOException.getCause();
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new IOException(failure);
+    }
+
+    /**
+     * 입력 스트림을 S3에 업로드합니다.
+     * SDK 는 재시도를 위해 스트림 앞부분만 버퍼에 두므로, 그보다 많이 보낸 뒤 실패하면 스트림을 새로 열어 다시 시도합니다.
+     *
+     * @param multipartFile 업로드할 파일
+     * @param fileName      S3 버킷 내 파일 이름
      * @return 업로드된 파일의 S3 URL
      */
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile)
-                        .withCannedAcl(CannedAccessControlList.PublicRead) // PublicRead 권한으로 업로드
-        );
+    private String putS3(MultipartFile multipartFile, String fileName) throws IOException {
+        if (multipartFile.getSize() >= multipartThreshold) {
+            long size = multipartFile.getSize();
+            multipartUploader.upload(fileName, size, multipartFile.getContentType(), multipartFile,
+                    uploaded -> log.debug("S3 멀티파트 업로드 {}: {}/{} bytes", fileName, uploaded, size));
+            log.info("FileName: {} (multipart)", fileName);
+            return generateS3Url(fileName);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(multipartFile.getSize());
+        if (multipartFile.getContentType() != null) {
+            metadata.setContentType(multipartFile.getContentType());
+        }
+
+        putObject(fileName, metadata, multipartFile);
         log.info("Bucket: {}", bucket);
         log.info("FileName: {}", fileName);
         return generateS3Url(fileName);
     }
-    private String generateS3Url(String fileName) {
-        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, "ap-northeast-2", fileName);
+
+    private void putObject(String fileName, ObjectMetadata metadata, InputStreamSource source) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try (InputStream inputStream = source.getInputStream()) {
+                amazonS3.putObject(
+                        new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                                .withCannedAcl(CannedAccessControlList.PublicRead) // PublicRead 권한으로 업로드
+                );
+                break;
+            } catch (SdkClientException e) {
+                if (attempt >= uploadAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("S3 업로드 재시도 ({}/{}) {}: {}", attempt, uploadAttempts, fileName, e.getMessage());
+            }
+        }
     }
 
     /**
-     * S3에서 파일을 삭제합니다.
-     *
-     * @param fileUrl 삭제할 파일의 URL
+     * 네트워크 오류와 S3 의 5xx·요청 제한 응답만 다시 시도합니다.
+     * 권한 없음이나 잘못된 요청 같은 4xx 는 다시 보내도 같은 결과이므로 바로 실패시킵니다.
      */
-    public void delete(String fileUrl) {
-        String fileKey = extractFileKey(fileUrl);
-        amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileKey));
+    static boolean isRetryable(SdkClientException e) {
+        if (e instanceof AmazonServiceException serviceException) {
+            return RetryUtils.isRetryableServiceException(serviceException)
+                    || RetryUtils.isThrottlingException(serviceException);
+        }
+        return e.isRetryable();
+    }
+
+    String generateS3Url(String fileName) {
+        return urlPrefix() + fileName;
+    }
+
+    // 로컬 S3 대체 서버(cloud.aws.s3.endpoint)를 쓰면 경로 방식 URL 을 씁니다.
+    private String urlPrefix() {
+        if (!endpoint.isEmpty()) {
+            return endpoint.replaceAll("/+$", "") + "/" + bucket + "/";
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/", bucket, "ap-northeast-2");
     }
 
     /**
-     * 업로드 과정에서 생성된 임시 파일을 삭제합니다.
+     * S3에서 파일을 삭제합니다. uploadImages 로 올린 JPEG 이면 크기별 파일도 함께 삭제합니다.
      *
-     * @param targetFile 삭제할 파일
+     * @param fileUrl 삭제할 파일의 URL
      */
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("파일이 삭제되었습니다.");
-        } else {
-            log.info("파일 삭제에 실패했습니다.");
+    public void delete(String fileUrl) {
+        String fileKey = extractFileKey(fileUrl);
+        if (!fileKey.endsWith(".jpg")) {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileKey));
+            return;
         }
+        // 크기별 파일이 없는 예전 JPEG 여도 없는 키 삭제는 성공으로 처리되므로 그대로 한 번에 지웁니다.
+        String[] keys = Arrays.stream(ImageVariant.values()).map(variant -> variant.keyOf(fileKey)).toArray(String[]::new);
+        amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
     }
 
     /**
-     * MultipartFile을 File로 변환합니다.
+     * 현재 트랜잭션이 롤백되면 파일을 지웁니다. 게시글·프로필 저장이 실패했을 때 이미 올린 파일이 남지 않게 합니다.
+     * 트랜잭션 밖에서 호출하면 아무것도 하지 않습니다.
      *
-     * @param file 변환할 MultipartFile
-     * @return 변환된 파일을 포함하는 Optional 객체
-     * @throws IOException 변환 중 에러 발생 시
+     * @param fileUrls 롤백 시 삭제할 파일의 URL 리스트
      */
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        log.info(file.getOriginalFilename());
-        File convertFile = new File(Objects.requireNonNull(file.getOriginalFilename()));
-        if (convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
+    public void deleteOnRollback(List<String> fileUrls) {
+        if (fileUrls.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<String> urls = List.copyOf(fileUrls);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                for (String url : urls) {
+                    try {
+                        delete(url);
+                    } catch (Exception e) {
+                        log.warn("롤백된 업로드 파일 정리 실패 {}: {}", url, e.getMessage());
+                    }
+                }
             }
-            return Optional.of(convertFile);
+        });
+    }
+
+    private void deleteQuietly(List<String> keys) {
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys.toArray(String[]::new)).withQuiet(true));
+        } catch (Exception e) {
+            log.warn("S3 파일 정리 실패: {}", keys);
         }
-        return Optional.empty();
     }
 
     /**
@@ -128,7 +365,7 @@ public class S3Service {
      * @param originalFilename 원본 파일 이름
      * @return 고유한 파일 이름
      */
-    private String generateUniqueFilename(String originalFilename) {
+    String generateUniqueFilename(String originalFilename) {
         String uuid = UUID.randomUUID().toString();
         String extension = "";
         int dotIndex = originalFilename.lastIndexOf(".");
@@ -139,6 +376,11 @@ public class S3Service {
         return originalFilename + "_" + uuid + extension;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     /**
      * 파일 URL에서 파일 키를 추출합니다.
      *
@@ -146,7 +388,12 @@ public class S3Service {
      * @return 파일 키
      */
     private String extractFileKey(String fileUrl) {
-        String prefix = String.format("https://%s.s3.%s.amazonaws.com/", bucket, "ap-northeast-2");
-        return fileUrl.substring(prefix.length());
+        return fileUrl.substring(urlPrefix().length());
+    }
+
+    /**
+     * S3에 올린 이미지의 URL 입니다. url 은 LARGE 크기(대표 이미지)입니다.
+     */
+    public record UploadedImage(String url, String mediumUrl, String thumbnailUrl) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+/**
+ * 이어 올리기로 올릴 수 있는 파일의 용도와 S3 버킷 내 디렉토리입니다.
+ */
+public enum UploadPurpose {
+    POST("post-images"),
+    PROFILE("profile-images");
+
+    private final String dirName;
+
+    UploadPurpose(String dirName) {
+        this.dirName = dirName;
+    }
+
+    public String getDirName() {
+        return dirName;
+    }
+
+    /**
+     * @throws IllegalArgumentException post, profile 이 아닌 경우
+     */
+    public static UploadPurpose from(String value) {
+        if (value != null) {
+            for (UploadPurpose purpose : values()) {
+                if (purpose.name().equalsIgnoreCase(value.trim())) {
+                    return purpose;
+                }
+            }
+        }
+        throw new IllegalArgumentException("업로드 용도는 post 또는 profile 이어야 합니다.");
+    }
+}
@@ -19,4 +19,10 @@ public class PlaceDtoV2 { // 장소 정보 DTO
     private String placeAddress; // 장소의 주소
 
     private String imageUrl; // 장소 이미지
+
+    private Double latitude; // 장소 위도 (선택)
+
+    private Double longitude; // 장소 경도 (선택)
+
+    private String types; // 장소 타입 JSON 배열 문자열 (선택)
 }
\ No newline at end of file
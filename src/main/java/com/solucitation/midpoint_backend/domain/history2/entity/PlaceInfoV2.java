@@ -30,4 +30,14 @@ public class PlaceInfoV2 {
 
     @Column(name="place_image_url", nullable = false, length=1024)
     private String imageUrl;
+
+    // 장소 인덱스(PlaceIndex)에 올릴 좌표와 구글 장소 타입(JSON 배열 문자열)입니다. 예전 행에는 없을 수 있습니다.
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "place_types", length = 1024)
+    private String types;
 }
@@ -1,7 +1,63 @@
 package com.solucitation.midpoint_backend.domain.history2.repository;
 
 import com.solucitation.midpoint_backend.domain.history2.entity.PlaceInfoV2;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PlaceInfoRepositoryV2 extends JpaRepository<PlaceInfoV2, Long> {
+
+    // 좌표가 있는 장소를 afterId 이후부터 id 순으로 가져옵니다. 검색 기록 엔티티는 읽지 않습니다.
+    @Query("select p.id as id, p.placeId as placeId, p.name as name, p.address as address, " +
+            "p.latitude as latitude, p.longitude as longitude, p.types as types, p.imageUrl as imageUrl " +
+            "from PlaceInfoV2 p where p.id > :afterId and p.latitude is not null and p.longitude is not null order by p.id")
+    List<PlaceLocation> findLocatedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // since 이후 검색 기록에 저장된 장소를 동 정보와 함께 최신순으로 가져옵니다.
+    @Query("select h.neighborhood as neighborhood, p.latitude as latitude, p.longitude as longitude, p.types as types " +
+            "from PlaceInfoV2 p join p.searchHistory h " +
+            "where h.searchDate >= :since and p.latitude is not null and p.longitude is not null order by h.searchDate desc")
+    List<PickedPlace> findPickedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // 장소별로 검색 기록에 저장된 횟수를 셉니다.
+    @Query("select p.placeId as placeId, count(p) as picks from PlaceInfoV2 p group by p.placeId")
+    List<PlacePicks> countPicksByPlace();
+
+    interface PlaceLocation {
+        Long getId();
+
+        String getPlaceId();
+
+        String getName();
+
+        String getAddress();
+
+        Double getLatitude();
+
+        Double getLongitude();
+
+        String getTypes();
+
+        String getImageUrl();
+    }
+
+    interface PickedPlace {
+        String getNeighborhood();
+
+        Double getLatitude();
+
+        Double getLongitude();
+
+        String getTypes();
+    }
+
+    interface PlacePicks {
+        String getPlaceId();
+
+        Long getPicks();
+    }
 }
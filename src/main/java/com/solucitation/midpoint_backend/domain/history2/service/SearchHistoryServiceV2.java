@@ -54,6 +54,9 @@ public class SearchHistoryServiceV2 {
                     .placeId(dto.getPlaceId())
                     .address(dto.getPlaceAddress())
                     .imageUrl(imageUrl)
+                    .latitude(dto.getLatitude())
+                    .longitude(dto.getLongitude())
+                    .types(dto.getTypes())
                     .searchHistory(searchHistory) /// 연관관계 설정
                     .build();
             searchHistory.getPlaceList().add(placeInfo);
@@ -79,7 +82,10 @@ public class SearchHistoryServiceV2 {
                                         placeInfo.getPlaceId(),
                                         placeInfo.getName(),
                                         placeInfo.getAddress(),
-                                        placeInfo.getImageUrl()
+                                        placeInfo.getImageUrl(),
+                                        placeInfo.getLatitude(),
+                                        placeInfo.getLongitude(),
+                                        placeInfo.getTypes()
                                 ))
                                 .collect(Collectors.toList())
                 ))
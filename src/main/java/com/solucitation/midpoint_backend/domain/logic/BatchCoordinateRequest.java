@@ -0,0 +1,53 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 여러 그룹의 좌표를 열(column) 단위로 한 번에 받습니다.
+ * 모든 그룹의 좌표를 latitudes/longitudes 에 이어 붙이고, groupSizes[i] 에 i번째 그룹의 좌표 개수를 담습니다.
+ */
+public class BatchCoordinateRequest {
+    @NotNull(message = "그룹 크기 목록은 필수입니다.")
+    @Size(min = 1, max = 100000, message = "그룹의 개수가 1에서 100000 사이여야 합니다.")
+    private int[] groupSizes;
+
+    @NotNull(message = "위도 목록은 필수입니다.")
+    private double[] latitudes;
+
+    @NotNull(message = "경도 목록은 필수입니다.")
+    private double[] longitudes;
+
+    public BatchCoordinateRequest() {
+    }
+
+    public BatchCoordinateRequest(int[] groupSizes, double[] latitudes, double[] longitudes) {
+        this.groupSizes = groupSizes;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    public int[] getGroupSizes() {
+        return groupSizes;
+    }
+
+    public void setGroupSizes(int[] groupSizes) {
+        this.groupSizes = groupSizes;
+    }
+
+    public double[] getLatitudes() {
+        return latitudes;
+    }
+
+    public void setLatitudes(double[] latitudes) {
+        this.latitudes = latitudes;
+    }
+
+    public double[] getLongitudes() {
+        return longitudes;
+    }
+
+    public void setLongitudes(double[] longitudes) {
+        this.longitudes = longitudes;
+    }
+}
@@ -1,39 +1,39 @@
 package com.solucitation.midpoint_backend.domain.logic;
 
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
-import java.util.List;
-
 public class CoordinateRequest {
+    // 좌표를 원시 배열로 받아 점마다 Double 박싱이 일어나지 않도록 합니다.
+    @NotNull(message = "위도 목록은 필수입니다.")
     @Size(min = 2, max = 20, message = "장소의 개수가 2에서 20 사이여야 합니다.")
-    private List<Double> latitudes;
+    private double[] latitudes;
 
+    @NotNull(message = "경도 목록은 필수입니다.")
     @Size(min = 2, max = 20, message = "장소의 개수가 2에서 20 사이여야 합니다.")
-    private List<Double> longitudes;
+    private double[] longitudes;
 
     public CoordinateRequest() {
     }
 
-    public CoordinateRequest(List<Double> latitudes, List<Double> longitudes) {
+    public CoordinateRequest(double[] latitudes, double[] longitudes) {
         this.latitudes = latitudes;
         this.longitudes = longitudes;
     }
 
-    public List<Double> getLatitudes() {
+    public double[] getLatitudes() {
         return latitudes;
     }
 
-    public void setLatitudes(List<Double> latitudes) {
+    public void setLatitudes(double[] latitudes) {
         this.latitudes = latitudes;
     }
 
-    public List<Double> getLongitudes() {
+    public double[] getLongitudes() {
         return longitudes;
     }
 
-    public void setLongitudes(List<Double> longitudes) {
+    public void setLongitudes(double[] longitudes) {
         this.longitudes = longitudes;
     }
 }
-
-
@@ -0,0 +1,80 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 참여자까지의 대원 거리 합이 최소가 되는 지점(기하 중앙값)을 Weiszfeld 반복법으로 구합니다.
+ * 한 명이 멀리 떨어져 있어도 중심이 크게 끌려가지 않아 이동 거리 총합 기준으로 가장 효율적인 지점입니다.
+ */
+@Component
+public class GeometricMedianStrategy implements MidpointStrategy {
+
+    public static final String NAME = "median";
+
+    private static final int MAX_ITERATIONS = 100;
+    // 약 1cm 에 해당하는 각도. 이보다 작게 움직이면 수렴한 것으로 봅니다.
+    private static final double CONVERGENCE_RADIANS = 1e-2 / SphericalPoints.EARTH_RADIUS_METERS;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void calculate(double[] latitudes, double[] longitudes, int from, int to, double[] result, int resultIndex) {
+        SphericalPoints points = SphericalPoints.of(latitudes, longitudes, from, to);
+
+        // 구면 중심에서 출발합니다.
+        double cx = 0;
+        double cy = 0;
+        double cz = 0;
+        for (int i = 0; i < points.size; i++) {
+            cx += points.x[i];
+            cy += points.y[i];
+            cz += points.z[i];
+        }
+        double norm = Math.sqrt(cx * cx + cy * cy + cz * cz);
+        if (norm < 1e-9) {
+            throw new IllegalArgumentException("The midpoint of the given coordinates is undefined.");
+        }
+        cx /= norm;
+        cy /= norm;
+        cz /= norm;
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double nx = 0;
+            double ny = 0;
+            double nz = 0;
+
+            for (int i = 0; i < points.size; i++) {
+                double distance = points.angleTo(i, cx, cy, cz);
+                if (distance < CONVERGENCE_RADIANS) {
+                    // 현재 추정치가 입력 점과 겹치면 가중치가 발산하므로 그 점을 그대로 중앙값으로 사용합니다.
+                    SphericalPoints.write(points.x[i], points.y[i], points.z[i], result, resultIndex);
+                    return;
+                }
+                double weight = 1.0 / distance;
+                nx += points.x[i] * weight;
+                ny += points.y[i] * weight;
+                nz += points.z[i] * weight;
+            }
+
+            // 가중 평균을 다시 단위 구 위로 투영합니다.
+            norm = Math.sqrt(nx * nx + ny * ny + nz * nz);
+            nx /= norm;
+            ny /= norm;
+            nz /= norm;
+
+            double dx = nx - cx;
+            double dy = ny - cy;
+            double dz = nz - cz;
+            cx = nx;
+            cy = ny;
+            cz = nz;
+            if (Math.sqrt(dx * dx + dy * dy + dz * dz) < CONVERGENCE_RADIANS) {
+                break;
+            }
+        }
+        SphericalPoints.write(cx, cy, cz, result, resultIndex);
+    }
+}
@@ -0,0 +1,60 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 열 단위 배열에 담긴 여러 그룹의 중간 지점을 한 번에 계산합니다.
+ * 그룹 수가 임계값보다 많으면 반으로 나눠 fork-join 으로 병렬 처리하고, 결과는 미리 할당한 배열에 바로 씁니다.
+ * 중간 지점이 정의되지 않는 그룹은 NaN 으로 표시합니다.
+ */
+class MidpointBatchTask extends RecursiveAction {
+
+    static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private final MidpointStrategy strategy;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] offsets;
+    private final double[] result;
+    private final int fromGroup;
+    private final int toGroup;
+
+    /**
+     * @param offsets 그룹 경계, i번째 그룹은 [offsets[i], offsets[i + 1])
+     * @param result 그룹 수 * 2 크기의 결과 배열 (위도, 경도 순)
+     */
+    MidpointBatchTask(MidpointStrategy strategy, double[] latitudes, double[] longitudes, int[] offsets,
+                      double[] result, int fromGroup, int toGroup) {
+        this.strategy = strategy;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.offsets = offsets;
+        this.result = result;
+        this.fromGroup = fromGroup;
+        this.toGroup = toGroup;
+    }
+
+    @Override
+    protected void compute() {
+        if (toGroup - fromGroup <= SEQUENTIAL_THRESHOLD) {
+            computeDirectly();
+            return;
+        }
+        int middle = (fromGroup + toGroup) >>> 1;
+        invokeAll(
+                new MidpointBatchTask(strategy, latitudes, longitudes, offsets, result, fromGroup, middle),
+                new MidpointBatchTask(strategy, latitudes, longitudes, offsets, result, middle, toGroup)
+        );
+    }
+
+    void computeDirectly() {
+        for (int group = fromGroup; group < toGroup; group++) {
+            try {
+                strategy.calculate(latitudes, longitudes, offsets[group], offsets[group + 1], result, group * 2);
+            } catch (IllegalArgumentException e) {
+                result[group * 2] = Double.NaN;
+                result[group * 2 + 1] = Double.NaN;
+            }
+        }
+    }
+}
@@ -1,37 +1,83 @@
 package com.solucitation.midpoint_backend.domain.logic;
 
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 @RestController
 public class MidpointController {
 
+    private final MidpointService midpointService;
+    private final TravelTimeMidpointService travelTimeMidpointService;
+
+    public MidpointController(MidpointService midpointService, TravelTimeMidpointService travelTimeMidpointService) {
+        this.midpointService = midpointService;
+        this.travelTimeMidpointService = travelTimeMidpointService;
+    }
+
     @PostMapping("/api/logic")
-    public Coordinate calculateMidpoint(@RequestBody @Valid CoordinateRequest request) {
-        List<Double> latitudes = request.getLatitudes();
-        List<Double> longitudes = request.getLongitudes();
+    public Coordinate calculateMidpoint(
+            @RequestBody @Valid CoordinateRequest request,
+            @RequestParam(defaultValue = MidpointService.DEFAULT_STRATEGY) String strategy // centroid, median, minimax
+    ) {
+        return midpointService.calculate(strategy, request.getLatitudes(), request.getLongitudes());
+    }
 
-        int count = latitudes.size();
-        if (count != longitudes.size()) {
-            throw new IllegalArgumentException("The number of latitudes and longitudes must be the same.");
-        }
+    /**
+     * 여러 그룹의 중간 지점을 한 번에 계산해 그룹 순서대로 한 줄에 하나씩 NDJSON 으로 내려줍니다.
+     * 중간 지점이 정의되지 않는 그룹은 해당 줄에 error 를 담습니다.
+     */
+    @PostMapping(value = "/api/logic/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> calculateMidpoints(
+            @RequestBody @Valid BatchCoordinateRequest request,
+            @RequestParam(defaultValue = MidpointService.DEFAULT_STRATEGY) String strategy // centroid, median, minimax
+    ) {
+        double[] result = midpointService.calculateBatch(strategy, request.getGroupSizes(), request.getLatitudes(), request.getLongitudes());
 
-        double sumLatitude = 0;
-        double sumLongitude = 0;
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            for (int i = 0; i < result.length; i += 2) {
+                if (Double.isNaN(result[i])) {
+                    writer.write("{\"error\":\"The midpoint of the given coordinates is undefined.\"}\n");
+                } else {
+                    writer.write("{\"latitude\":" + result[i] + ",\"longitude\":" + result[i + 1] + "}\n");
+                }
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 
-        for (int i = 0; i < count; i++) {
-            sumLatitude += latitudes.get(i);
-            sumLongitude += longitudes.get(i);
+    @PostMapping("/api/logic/travel-time")
+    public ResponseEntity<?> calculateTravelTimeMidpoint(
+            @RequestBody @Valid CoordinateRequest request,
+            @RequestParam(defaultValue = TravelTimeMidpointService.OBJECTIVE_MINIMAX) String objective // minimax, total
+    ) {
+        // 목적 함수가 유효하지 않으면 400 Bad Request 응답
+        if (!TravelTimeMidpointService.isValidObjective(objective)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid objective: " + objective));
         }
 
-        double avgLatitude = sumLatitude / count;
-        double avgLongitude = sumLongitude / count;
-
-        return new Coordinate(avgLatitude, avgLongitude);
+        try {
+            TravelTimeMidpoint midpoint = travelTimeMidpointService.calculate(objective, request.getLatitudes(), request.getLongitudes());
+            return ResponseEntity.ok(midpoint);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            // 그래프가 없거나 계산 풀이 포화된 경우
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
     }
 }
-
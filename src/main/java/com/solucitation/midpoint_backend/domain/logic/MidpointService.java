@@ -0,0 +1,92 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class MidpointService {
+
+    public static final String DEFAULT_STRATEGY = SphericalCentroidStrategy.NAME;
+
+    private final Map<String, MidpointStrategy> strategies = new HashMap<>();
+
+    public MidpointService(List<MidpointStrategy> strategies) {
+        for (MidpointStrategy strategy : strategies) {
+            this.strategies.put(strategy.getName(), strategy);
+        }
+    }
+
+    /**
+     * 선택한 전략으로 중간 지점을 계산합니다.
+     *
+     * @param strategy 전략 이름 (centroid, median, minimax)
+     * @param latitudes 위도 배열
+     * @param longitudes 경도 배열
+     * @return 중간 지점 좌표
+     */
+    public Coordinate calculate(String strategy, double[] latitudes, double[] longitudes) {
+        MidpointStrategy midpointStrategy = strategies.get(strategy);
+        if (midpointStrategy == null) {
+            throw new IllegalArgumentException("Invalid strategy: " + strategy);
+        }
+        validate(latitudes, longitudes);
+        return midpointStrategy.calculate(latitudes, longitudes);
+    }
+
+    /**
+     * 열 단위로 이어 붙인 여러 그룹의 중간 지점을 한 번에 계산합니다.
+     * 그룹 수가 많으면 공용 fork-join 풀에서 병렬로 계산합니다.
+     *
+     * @param strategy 전략 이름 (centroid, median, minimax)
+     * @param groupSizes 그룹별 좌표 개수
+     * @param latitudes 모든 그룹의 위도를 이어 붙인 배열
+     * @param longitudes 모든 그룹의 경도를 이어 붙인 배열
+     * @return 그룹 수 * 2 크기의 배열, i번째 그룹의 위도와 경도가 [2i], [2i + 1] 에 담깁니다. 중간 지점이 정의되지 않는 그룹은 NaN 입니다.
+     */
+    public double[] calculateBatch(String strategy, int[] groupSizes, double[] latitudes, double[] longitudes) {
+        MidpointStrategy midpointStrategy = strategies.get(strategy);
+        if (midpointStrategy == null) {
+            throw new IllegalArgumentException("Invalid strategy: " + strategy);
+        }
+        validate(latitudes, longitudes);
+
+        int[] offsets = new int[groupSizes.length + 1];
+        for (int group = 0; group < groupSizes.length; group++) {
+            int size = groupSizes[group];
+            if (size < 2 || size > 20) {
+                throw new IllegalArgumentException("장소의 개수가 2에서 20 사이여야 합니다. (group " + group + ")");
+            }
+            offsets[group + 1] = offsets[group] + size;
+        }
+        if (offsets[groupSizes.length] != latitudes.length) {
+            throw new IllegalArgumentException("The sum of group sizes must match the number of coordinates.");
+        }
+
+        double[] result = new double[groupSizes.length * 2];
+        MidpointBatchTask task = new MidpointBatchTask(midpointStrategy, latitudes, longitudes, offsets, result, 0, groupSizes.length);
+        if (groupSizes.length <= MidpointBatchTask.SEQUENTIAL_THRESHOLD) {
+            task.computeDirectly();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return result;
+    }
+
+    private static void validate(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("The number of latitudes and longitudes must be the same.");
+        }
+        if (latitudes.length == 0) {
+            throw new IllegalArgumentException("At least one coordinate is required.");
+        }
+        for (int i = 0; i < latitudes.length; i++) {
+            if (!(latitudes[i] >= -90 && latitudes[i] <= 90) || !(longitudes[i] >= -180 && longitudes[i] <= 180)) {
+                throw new IllegalArgumentException("Invalid coordinate: " + latitudes[i] + ", " + longitudes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+/**
+ * 여러 좌표로부터 하나의 중간 지점을 계산하는 전략입니다.
+ * 구현체는 상태를 갖지 않아야 하며 여러 요청에서 동시에 호출될 수 있습니다.
+ */
+public interface MidpointStrategy {
+
+    /**
+     * /api/logic 의 strategy 파라미터로 사용되는 전략 이름을 반환합니다.
+     *
+     * @return 전략 이름
+     */
+    String getName();
+
+    /**
+     * 중간 지점을 계산합니다. 두 배열의 길이는 같고 2 이상임이 보장됩니다.
+     *
+     * @param latitudes 위도 배열 (도 단위)
+     * @param longitudes 경도 배열 (도 단위)
+     * @return 중간 지점 좌표
+     */
+    default Coordinate calculate(double[] latitudes, double[] longitudes) {
+        double[] result = new double[2];
+        calculate(latitudes, longitudes, 0, latitudes.length, result, 0);
+        return new Coordinate(result[0], result[1]);
+    }
+
+    /**
+     * 배열의 [from, to) 구간을 한 그룹으로 보고 중간 지점을 계산해 result 에 씁니다.
+     * 여러 그룹을 열 단위 배열 하나로 받는 일괄 계산에서 그룹마다 배열을 복사하지 않기 위해 사용합니다.
+     *
+     * @param latitudes 위도 배열 (도 단위)
+     * @param longitudes 경도 배열 (도 단위)
+     * @param from 그룹 시작 인덱스 (포함)
+     * @param to 그룹 끝 인덱스 (제외)
+     * @param result 결과 배열, result[resultIndex] 에 위도, result[resultIndex + 1] 에 경도를 씁니다.
+     * @param resultIndex 결과를 쓸 위치
+     * @throws IllegalArgumentException 중간 지점이 정의되지 않는 경우
+     */
+    void calculate(double[] latitudes, double[] longitudes, int from, int to, double[] result, int resultIndex);
+}
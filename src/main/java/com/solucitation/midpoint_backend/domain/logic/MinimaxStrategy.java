@@ -0,0 +1,127 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 가장 멀리 있는 참여자까지의 대원 거리가 최소가 되는 "가장 공평한" 지점을 구합니다.
+ * 모든 점을 담는 최소 구면 캡(spherical cap)의 중심이 답이며, 최소 외접원과 같은 방식의 증분 알고리즘으로 정확히 계산합니다.
+ * 캡은 경계 위의 점 최대 3개로 결정되므로 참여자 20명 기준 계산량은 무시할 수 있는 수준입니다.
+ */
+@Component
+public class MinimaxStrategy implements MidpointStrategy {
+
+    public static final String NAME = "minimax";
+
+    private static final double EPSILON = 1e-12;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void calculate(double[] latitudes, double[] longitudes, int from, int to, double[] result, int resultIndex) {
+        SphericalPoints points = SphericalPoints.of(latitudes, longitudes, from, to);
+        // cap[0..2] 는 캡 축(단위 벡터), cap[3] 은 경계의 cos(반지름) 입니다.
+        double[] cap = new double[4];
+
+        capOf(points, 0, cap);
+        for (int i = 1; i < points.size; i++) {
+            if (contains(cap, points, i)) {
+                continue;
+            }
+            capOf(points, i, cap);
+            for (int j = 0; j < i; j++) {
+                if (contains(cap, points, j)) {
+                    continue;
+                }
+                capOf(points, i, j, cap);
+                for (int k = 0; k < j; k++) {
+                    if (!contains(cap, points, k)) {
+                        capOf(points, i, j, k, cap);
+                    }
+                }
+            }
+        }
+
+        if (cap[3] <= 0) {
+            // 점들이 한 반구 안에 있지 않으면 공평한 지점이 유일하지 않습니다.
+            throw new IllegalArgumentException("The midpoint of the given coordinates is undefined.");
+        }
+        SphericalPoints.write(cap[0], cap[1], cap[2], result, resultIndex);
+    }
+
+    private static boolean contains(double[] cap, SphericalPoints points, int i) {
+        double dot = cap[0] * points.x[i] + cap[1] * points.y[i] + cap[2] * points.z[i];
+        return dot >= cap[3] - EPSILON;
+    }
+
+    private static void capOf(SphericalPoints points, int a, double[] cap) {
+        cap[0] = points.x[a];
+        cap[1] = points.y[a];
+        cap[2] = points.z[a];
+        cap[3] = 1.0;
+    }
+
+    private static void capOf(SphericalPoints points, int a, int b, double[] cap) {
+        double nx = points.x[a] + points.x[b];
+        double ny = points.y[a] + points.y[b];
+        double nz = points.z[a] + points.z[b];
+        double norm = Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (norm < EPSILON) {
+            throw new IllegalArgumentException("The midpoint of the given coordinates is undefined.");
+        }
+        setCap(points, a, nx / norm, ny / norm, nz / norm, cap);
+    }
+
+    private static void capOf(SphericalPoints points, int a, int b, int c, double[] cap) {
+        // 세 점을 지나는 평면의 법선이 캡의 축입니다.
+        double abx = points.x[b] - points.x[a];
+        double aby = points.y[b] - points.y[a];
+        double abz = points.z[b] - points.z[a];
+        double acx = points.x[c] - points.x[a];
+        double acy = points.y[c] - points.y[a];
+        double acz = points.z[c] - points.z[a];
+        double nx = aby * acz - abz * acy;
+        double ny = abz * acx - abx * acz;
+        double nz = abx * acy - aby * acx;
+        double norm = Math.sqrt(nx * nx + ny * ny + nz * nz);
+
+        if (norm < EPSILON) {
+            // 세 점이 한 대원 위에 있으면 가장 먼 두 점으로 캡을 만듭니다.
+            double ab = dot(points, a, b);
+            double ac = dot(points, a, c);
+            double bc = dot(points, b, c);
+            if (ab <= ac && ab <= bc) {
+                capOf(points, a, b, cap);
+            } else if (ac <= bc) {
+                capOf(points, a, c, cap);
+            } else {
+                capOf(points, b, c, cap);
+            }
+            return;
+        }
+
+        nx /= norm;
+        ny /= norm;
+        nz /= norm;
+        // 법선은 두 방향이 가능하므로 점들이 있는 쪽을 향하도록 맞춥니다.
+        if (nx * points.x[a] + ny * points.y[a] + nz * points.z[a] < 0) {
+            nx = -nx;
+            ny = -ny;
+            nz = -nz;
+        }
+        setCap(points, a, nx, ny, nz, cap);
+    }
+
+    private static void setCap(SphericalPoints points, int boundary, double nx, double ny, double nz, double[] cap) {
+        cap[0] = nx;
+        cap[1] = ny;
+        cap[2] = nz;
+        cap[3] = nx * points.x[boundary] + ny * points.y[boundary] + nz * points.z[boundary];
+    }
+
+    private static double dot(SphericalPoints points, int a, int b) {
+        return points.x[a] * points.x[b] + points.y[a] * points.y[b] + points.z[a] * points.z[b];
+    }
+}
@@ -0,0 +1,40 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 각 좌표를 단위 구 위의 3차원 벡터로 바꿔 평균낸 뒤 다시 구면으로 투영합니다.
+ * 위경도를 그대로 평균내는 방식과 달리 날짜 변경선이나 넓게 퍼진 그룹에서도 올바른 중심을 구합니다.
+ */
+@Component
+public class SphericalCentroidStrategy implements MidpointStrategy {
+
+    public static final String NAME = "centroid";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void calculate(double[] latitudes, double[] longitudes, int from, int to, double[] result, int resultIndex) {
+        double sumX = 0;
+        double sumY = 0;
+        double sumZ = 0;
+
+        for (int i = from; i < to; i++) {
+            double lat = Math.toRadians(latitudes[i]);
+            double lng = Math.toRadians(longitudes[i]);
+            double cosLat = Math.cos(lat);
+            sumX += cosLat * Math.cos(lng);
+            sumY += cosLat * Math.sin(lng);
+            sumZ += Math.sin(lat);
+        }
+
+        // 정반대 지점들처럼 평균 벡터가 0에 가까우면 중심이 정의되지 않습니다.
+        if (sumX * sumX + sumY * sumY + sumZ * sumZ < 1e-18) {
+            throw new IllegalArgumentException("The midpoint of the given coordinates is undefined.");
+        }
+        SphericalPoints.write(sumX, sumY, sumZ, result, resultIndex);
+    }
+}
@@ -0,0 +1,58 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+/**
+ * 위경도 좌표를 단위 구 위의 3차원 벡터로 다루기 위한 도우미입니다.
+ * 모든 좌표는 x, y, z 원시 배열에 담아 점마다 객체를 만들지 않습니다.
+ */
+final class SphericalPoints {
+
+    /** 지구 평균 반지름 (미터) */
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    final int size;
+    final double[] x;
+    final double[] y;
+    final double[] z;
+
+    private SphericalPoints(int size) {
+        this.size = size;
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+    }
+
+    static SphericalPoints of(double[] latitudes, double[] longitudes, int from, int to) {
+        SphericalPoints points = new SphericalPoints(to - from);
+        for (int i = 0; i < points.size; i++) {
+            double lat = Math.toRadians(latitudes[from + i]);
+            double lng = Math.toRadians(longitudes[from + i]);
+            double cosLat = Math.cos(lat);
+            points.x[i] = cosLat * Math.cos(lng);
+            points.y[i] = cosLat * Math.sin(lng);
+            points.z[i] = Math.sin(lat);
+        }
+        return points;
+    }
+
+    /**
+     * 정규화된 벡터 (x, y, z) 와 i번째 점 사이의 중심각(라디안)을 반환합니다.
+     */
+    double angleTo(int i, double cx, double cy, double cz) {
+        // 가까운 점에서 acos 보다 정밀한 atan2(|a x b|, a . b) 를 사용합니다.
+        double crossX = y[i] * cz - z[i] * cy;
+        double crossY = z[i] * cx - x[i] * cz;
+        double crossZ = x[i] * cy - y[i] * cx;
+        double cross = Math.sqrt(crossX * crossX + crossY * crossY + crossZ * crossZ);
+        double dot = x[i] * cx + y[i] * cy + z[i] * cz;
+        return Math.atan2(cross, dot);
+    }
+
+    /**
+     * 3차원 벡터를 위경도 좌표로 되돌려 result[index], result[index + 1] 에 씁니다. 벡터가 정규화되어 있을 필요는 없습니다.
+     */
+    static void write(double cx, double cy, double cz, double[] result, int index) {
+        double hyp = Math.sqrt(cx * cx + cy * cy);
+        result[index] = Math.toDegrees(Math.atan2(cz, hyp));
+        result[index + 1] = Math.toDegrees(Math.atan2(cy, cx));
+    }
+}
@@ -0,0 +1,288 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * OSM/GTFS 추출본으로 만든 도로·지하철 그래프를 CSR(compressed sparse row) 형태로 담습니다.
+ * 파일은 읽기 전용으로 메모리 매핑한 뒤 구간별로 원시 배열에 한 번에 복사해, 탐색 중에는 바이트 순서 변환 없이 배열만 읽습니다.
+ *
+ * <pre>
+ * 파일 형식 (big-endian)
+ *   int   magic        0x4D504752 ("MPGR")
+ *   int   version      1
+ *   int   nodeCount
+ *   int   edgeCount
+ *   int[] latitudes    nodeCount, 마이크로도 (위도 * 1e6)
+ *   int[] longitudes   nodeCount, 마이크로도 (경도 * 1e6)
+ *   int[] offsets      nodeCount + 1, 노드 i 의 간선은 [offsets[i], offsets[i + 1])
+ *   int[] targets      edgeCount, 도착 노드
+ *   int[] seconds      edgeCount, 이동 시간 (초)
+ * </pre>
+ */
+public final class TransitGraph {
+
+    public static final int MAGIC = 0x4D504752;
+    public static final int VERSION = 1;
+
+    // 근처 노드 검색용 격자 크기 (약 1km)
+    private static final double CELL_DEGREES = 0.01;
+    private static final int GRID_COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final double METERS_PER_DEGREE = Math.toRadians(SphericalPoints.EARTH_RADIUS_METERS);
+
+    private final int nodeCount;
+    private final int edgeCount;
+    private final int[] latitudes;
+    private final int[] longitudes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] seconds;
+
+    // 격자 인덱스: cellKeys 는 정렬된 셀 번호, 셀 k 의 노드는 cellNodes[cellStarts[k]..cellStarts[k + 1])
+    private final int[] cellKeys;
+    private final int[] cellStarts;
+    private final int[] cellNodes;
+
+    private TransitGraph(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a transit graph file.");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported transit graph version: " + version);
+        }
+        this.nodeCount = buffer.getInt();
+        this.edgeCount = buffer.getInt();
+        if (nodeCount < 0 || edgeCount < 0) {
+            throw new IllegalArgumentException("Corrupted transit graph: negative node or edge count.");
+        }
+        long expectedBytes = (3L * nodeCount + 1 + 2L * edgeCount) * Integer.BYTES;
+        if (buffer.remaining() < expectedBytes) {
+            throw new IllegalArgumentException("Corrupted transit graph: expected " + expectedBytes
+                    + " bytes of arrays but found " + buffer.remaining() + ".");
+        }
+
+        this.latitudes = read(buffer, nodeCount);
+        this.longitudes = read(buffer, nodeCount);
+        this.offsets = read(buffer, nodeCount + 1);
+        this.targets = read(buffer, edgeCount);
+        this.seconds = read(buffer, edgeCount);
+
+        validate();
+
+        // 노드를 (셀 번호 << 32 | 노드 번호) 로 묶어 정렬하면 셀별로 연속된 노드 목록을 얻습니다.
+        long[] packed = new long[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            packed[node] = ((long) cellKey(latitude(node), longitude(node)) << 32) | node;
+        }
+        Arrays.sort(packed);
+
+        int cells = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (i == 0 || (packed[i] >>> 32) != (packed[i - 1] >>> 32)) {
+                cells++;
+            }
+        }
+        this.cellKeys = new int[cells];
+        this.cellStarts = new int[cells + 1];
+        this.cellNodes = new int[nodeCount];
+        int cell = -1;
+        for (int i = 0; i < nodeCount; i++) {
+            int key = (int) (packed[i] >>> 32);
+            if (cell < 0 || cellKeys[cell] != key) {
+                cellKeys[++cell] = key;
+                cellStarts[cell] = i;
+            }
+            cellNodes[i] = (int) packed[i];
+        }
+        cellStarts[cells] = nodeCount;
+    }
+
+    // 탐색 중에는 범위를 검사하지 않으므로, 잘린 파일이나 잘못된 파일은 불러올 때 거부합니다.
+    private void validate() {
+        if (offsets[0] != 0 || offsets[nodeCount] != edgeCount) {
+            throw new IllegalArgumentException("Corrupted transit graph: offsets do not match edge count.");
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            if (offsets[node] > offsets[node + 1]) {
+                throw new IllegalArgumentException("Corrupted transit graph: offsets decrease at node " + node + ".");
+            }
+        }
+        for (int edge = 0; edge < edgeCount; edge++) {
+            if (targets[edge] < 0 || targets[edge] >= nodeCount) {
+                throw new IllegalArgumentException("Corrupted transit graph: edge " + edge + " targets unknown node " + targets[edge] + ".");
+            }
+            if (seconds[edge] < 0) {
+                throw new IllegalArgumentException("Corrupted transit graph: edge " + edge + " has negative travel time.");
+            }
+        }
+    }
+
+    /**
+     * 그래프 파일을 메모리 매핑해 불러옵니다.
+     *
+     * @param path 그래프 파일 경로
+     * @return 불러온 그래프
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public static TransitGraph load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new TransitGraph(buffer);
+        }
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public double latitude(int node) {
+        return latitudes[node] / 1e6;
+    }
+
+    public double longitude(int node) {
+        return longitudes[node] / 1e6;
+    }
+
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    public int lastEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int seconds(int edge) {
+        return seconds[edge];
+    }
+
+    /**
+     * 주어진 좌표에서 반경 안에 있는 노드 중 가장 가까운 노드들을 가까운 순서로 배열에 채웁니다.
+     * 반경 안의 노드가 배열보다 많으면, 배열 크기의 최대 힙으로 지금까지 찾은 것 중 가장 먼 노드를 더 가까운 노드로 바꿉니다.
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param radiusMeters 검색 반경 (미터)
+     * @param nodes 찾은 노드 번호를 담을 배열
+     * @param distances 각 노드까지의 직선 거리(미터)를 담을 배열
+     * @return 찾은 노드 수
+     */
+    public int nodesWithin(double latitude, double longitude, double radiusMeters, int[] nodes, double[] distances) {
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        int rowSpan = (int) Math.ceil(radiusMeters / METERS_PER_DEGREE / CELL_DEGREES);
+        int columnSpan = (int) Math.ceil(radiusMeters / (METERS_PER_DEGREE * cosLat) / CELL_DEGREES);
+        int centerRow = row(latitude);
+        int centerColumn = column(longitude);
+
+        int found = 0;
+        for (int row = centerRow - rowSpan; row <= centerRow + rowSpan; row++) {
+            for (int dc = -columnSpan; dc <= columnSpan; dc++) {
+                int column = Math.floorMod(centerColumn + dc, GRID_COLUMNS);
+                int cell = Arrays.binarySearch(cellKeys, row * GRID_COLUMNS + column);
+                if (cell < 0) {
+                    continue;
+                }
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    int node = cellNodes[i];
+                    double distance = distanceMeters(latitude, longitude, cosLat, node);
+                    if (distance > radiusMeters) {
+                        continue;
+                    }
+                    if (found < nodes.length) {
+                        siftUp(nodes, distances, found++, node, distance);
+                    } else if (found > 0 && distance < distances[0]) {
+                        siftDown(nodes, distances, 0, found, node, distance);
+                    }
+                }
+            }
+        }
+
+        // 힙 정렬로 가까운 순서로 늘어놓습니다.
+        for (int end = found - 1; end > 0; end--) {
+            int farthestNode = nodes[0];
+            double farthestDistance = distances[0];
+            siftDown(nodes, distances, 0, end, nodes[end], distances[end]);
+            nodes[end] = farthestNode;
+            distances[end] = farthestDistance;
+        }
+        return found;
+    }
+
+    private static void siftUp(int[] nodes, double[] distances, int index, int node, double distance) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (distances[parent] >= distance) {
+                break;
+            }
+            nodes[index] = nodes[parent];
+            distances[index] = distances[parent];
+            index = parent;
+        }
+        nodes[index] = node;
+        distances[index] = distance;
+    }
+
+    private static void siftDown(int[] nodes, double[] distances, int index, int size, int node, double distance) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && distances[child + 1] > distances[child]) {
+                child++;
+            }
+            if (distances[child] <= distance) {
+                break;
+            }
+            nodes[index] = nodes[child];
+            distances[index] = distances[child];
+            index = child;
+        }
+        nodes[index] = node;
+        distances[index] = distance;
+    }
+
+    private double distanceMeters(double latitude, double longitude, double cosLat, int node) {
+        // 반경 수 km 이내에서는 등장방형 근사로 충분합니다.
+        double dLat = latitude(node) - latitude;
+        double dLng = longitude(node) - longitude;
+        if (dLng > 180) {
+            dLng -= 360;
+        } else if (dLng < -180) {
+            dLng += 360;
+        }
+        return METERS_PER_DEGREE * Math.sqrt(dLat * dLat + (dLng * cosLat) * (dLng * cosLat));
+    }
+
+    private static int cellKey(double latitude, double longitude) {
+        return row(latitude) * GRID_COLUMNS + column(longitude);
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), GRID_COLUMNS);
+    }
+
+    private static int[] read(ByteBuffer buffer, int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return values;
+    }
+}
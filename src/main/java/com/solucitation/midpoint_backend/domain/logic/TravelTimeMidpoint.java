@@ -0,0 +1,31 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+public class TravelTimeMidpoint {
+    private double latitude;
+    private double longitude;
+    private int maxTravelSeconds;
+    private int totalTravelSeconds;
+
+    public TravelTimeMidpoint(double latitude, double longitude, int maxTravelSeconds, int totalTravelSeconds) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.maxTravelSeconds = maxTravelSeconds;
+        this.totalTravelSeconds = totalTravelSeconds;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public int getMaxTravelSeconds() {
+        return maxTravelSeconds;
+    }
+
+    public int getTotalTravelSeconds() {
+        return totalTravelSeconds;
+    }
+}
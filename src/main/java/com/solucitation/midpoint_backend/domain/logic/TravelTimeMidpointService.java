@@ -0,0 +1,301 @@
+package com.solucitation.midpoint_backend.domain.logic;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 도로·지하철 그래프 위에서 이동 시간 기준 중간 지점을 찾습니다.
+ * 참여자마다 주변 노드들을 출발점으로 하는 다중 출발 Dijkstra 를 제한된 스레드 풀에서 병렬로 돌리고,
+ * 모든 참여자가 도달 가능한 노드 중 최대(minimax) 또는 합계(total) 이동 시간이 가장 작은 노드를 고릅니다.
+ */
+@Service
+public class TravelTimeMidpointService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TravelTimeMidpointService.class);
+
+    public static final String OBJECTIVE_MINIMAX = "minimax";
+    public static final String OBJECTIVE_TOTAL = "total";
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int MAX_ACCESS_NODES = 32;
+    // 도보 속도 (m/s)
+    private static final double WALKING_SPEED = 1.2;
+
+    @Value("${midpoint.graph.path:}")
+    private String graphPath;
+
+    @Value("${midpoint.graph.threads:0}")
+    private int threads;
+
+    @Value("${midpoint.graph.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${midpoint.graph.access-radius-meters:800}")
+    private double accessRadiusMeters;
+
+    @Value("${midpoint.graph.max-travel-seconds:10800}")
+    private int maxTravelSeconds;
+
+    @Value("${midpoint.graph.timeout-millis:2000}")
+    private long timeoutMillis;
+
+    private volatile TransitGraph graph;
+    private ThreadPoolExecutor executor;
+
+    // 풀 스레드마다 노드 수 크기의 작업 배열을 하나씩만 둡니다.
+    private final ThreadLocal<DijkstraScratch> scratch = new ThreadLocal<>();
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "travel-midpoint-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        if (graphPath == null || graphPath.isBlank()) {
+            logger.info("midpoint.graph.path is not set; travel-time midpoint is disabled.");
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            graph = TransitGraph.load(Path.of(graphPath));
+            logger.info("Loaded transit graph {} ({} nodes, {} edges) in {} ms", graphPath,
+                    graph.getNodeCount(), graph.getEdgeCount(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Failed to load transit graph {}: {}", graphPath, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isAvailable() {
+        return graph != null;
+    }
+
+    public static boolean isValidObjective(String objective) {
+        return OBJECTIVE_MINIMAX.equals(objective) || OBJECTIVE_TOTAL.equals(objective);
+    }
+
+    /**
+     * 이동 시간 기준 중간 지점을 계산합니다.
+     *
+     * @param objective minimax (가장 오래 걸리는 사람 기준) 또는 total (이동 시간 합계 기준)
+     * @param latitudes 참여자 위도 배열
+     * @param longitudes 참여자 경도 배열
+     * @return 선택된 노드의 좌표와 이동 시간
+     * @throws IllegalArgumentException 입력이 잘못되었거나 공통으로 도달 가능한 지점이 없는 경우
+     * @throws IllegalStateException 그래프가 없거나 풀이 가득 찬 경우
+     */
+    public TravelTimeMidpoint calculate(String objective, double[] latitudes, double[] longitudes) {
+        TransitGraph graph = this.graph;
+        if (graph == null) {
+            throw new IllegalStateException("Travel-time midpoint is not available.");
+        }
+        if (!isValidObjective(objective)) {
+            throw new IllegalArgumentException("Invalid objective: " + objective);
+        }
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("The number of latitudes and longitudes must be the same.");
+        }
+
+        // 참여자별 결과를 노드별 최대/합계 이동 시간으로 합칩니다. 한 명이라도 도달하지 못한 노드는 UNREACHED 입니다.
+        int[] maxCost = new int[graph.getNodeCount()];
+        int[] totalCost = new int[graph.getNodeCount()];
+
+        Future<?>[] futures = new Future<?>[latitudes.length];
+        try {
+            for (int p = 0; p < latitudes.length; p++) {
+                double latitude = latitudes[p];
+                double longitude = longitudes[p];
+                futures[p] = executor.submit(() -> {
+                    int[] distances = shortestTimes(graph, latitude, longitude);
+                    merge(maxCost, totalCost, distances);
+                });
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            for (Future<?> future : futures) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            cancel(futures);
+            throw new IllegalStateException("Travel-time midpoint is busy. Please retry later.", e);
+        } catch (TimeoutException e) {
+            cancel(futures);
+            throw new IllegalStateException("Travel-time midpoint timed out.", e);
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Travel-time midpoint was interrupted.", e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e.getCause();
+            }
+            throw new IllegalStateException("Travel-time midpoint failed.", e.getCause());
+        }
+
+        int[] cost = OBJECTIVE_MINIMAX.equals(objective) ? maxCost : totalCost;
+        int best = -1;
+        for (int node = 0; node < cost.length; node++) {
+            if (cost[node] != UNREACHED && (best < 0 || cost[node] < cost[best])) {
+                best = node;
+            }
+        }
+        if (best < 0) {
+            throw new IllegalArgumentException("No meeting point is reachable by all participants.");
+        }
+        return new TravelTimeMidpoint(graph.latitude(best), graph.longitude(best), maxCost[best], totalCost[best]);
+    }
+
+    private int[] shortestTimes(TransitGraph graph, double latitude, double longitude) {
+        DijkstraScratch work = scratch.get();
+        if (work == null || work.distances.length != graph.getNodeCount()) {
+            work = new DijkstraScratch(graph.getNodeCount());
+            scratch.set(work);
+        }
+        int[] distances = work.distances;
+        Arrays.fill(distances, UNREACHED);
+        work.heapSize = 0;
+
+        // 반경 안의 노드를 도보 시간만큼의 초기 비용으로 모두 출발점에 넣습니다.
+        int sources = graph.nodesWithin(latitude, longitude, accessRadiusMeters, work.accessNodes, work.accessDistances);
+        if (sources == 0) {
+            throw new IllegalArgumentException("No station or road is near: " + latitude + ", " + longitude);
+        }
+        for (int i = 0; i < sources; i++) {
+            int node = work.accessNodes[i];
+            int seconds = (int) Math.ceil(work.accessDistances[i] / WALKING_SPEED);
+            if (seconds < distances[node]) {
+                distances[node] = seconds;
+                work.push(seconds, node);
+            }
+        }
+
+        int settled = 0;
+        while (work.heapSize > 0) {
+            // 시간 초과로 취소된 작업은 풀 스레드를 오래 붙잡지 않도록 중간에 멈춥니다.
+            if ((++settled & 0xFFFF) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Travel-time search was cancelled.");
+            }
+            long top = work.pop();
+            int time = (int) (top >>> 32);
+            int node = (int) top;
+            if (time > distances[node]) {
+                continue; // 이미 더 짧은 경로로 확정된 노드
+            }
+            if (time > maxTravelSeconds) {
+                break;
+            }
+            for (int edge = graph.firstEdge(node), end = graph.lastEdge(node); edge < end; edge++) {
+                int next = graph.target(edge);
+                int nextTime = time + graph.seconds(edge);
+                if (nextTime < distances[next]) {
+                    distances[next] = nextTime;
+                    work.push(nextTime, next);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private void merge(int[] maxCost, int[] totalCost, int[] distances) {
+        synchronized (maxCost) {
+            for (int node = 0; node < maxCost.length; node++) {
+                int distance = distances[node];
+                if (maxCost[node] == UNREACHED || distance == UNREACHED || distance > maxTravelSeconds) {
+                    maxCost[node] = UNREACHED;
+                    totalCost[node] = UNREACHED;
+                } else {
+                    maxCost[node] = Math.max(maxCost[node], distance);
+                    totalCost[node] += distance;
+                }
+            }
+        }
+    }
+
+    private static void cancel(Future<?>[] futures) {
+        for (Future<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Dijkstra 한 번에 필요한 작업 공간입니다. 우선순위 큐는 (시간 << 32 | 노드) 를 담는 long 이진 힙입니다.
+     */
+    private static final class DijkstraScratch {
+        final int[] distances;
+        final int[] accessNodes = new int[MAX_ACCESS_NODES];
+        final double[] accessDistances = new double[MAX_ACCESS_NODES];
+        long[] heap = new long[1024];
+        int heapSize;
+
+        DijkstraScratch(int nodeCount) {
+            this.distances = new int[nodeCount];
+        }
+
+        void push(int time, int node) {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            long value = ((long) time << 32) | (node & 0xFFFFFFFFL);
+            int i = heapSize++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        }
+
+        long pop() {
+            long top = heap[0];
+            long last = heap[--heapSize];
+            int i = 0;
+            int half = heapSize >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+}
@@ -17,4 +17,6 @@ public class ProfileUpdateRequestDto {
 
     @NotNull(message = "기본 이미지 여부는 필수 입력 항목입니다.")
     private Boolean useDefaultImage;
+
+    private String profileImageUploadId; // 이어 올리기(/api/uploads)로 올린 프로필 이미지, profileImage 파일이 없을 때 사용합니다.
 }
@@ -0,0 +1,9 @@
+package com.solucitation.midpoint_backend.domain.member.service;
+
+/**
+ * 회원의 닉네임·이름·프로필 이미지가 바뀌었거나 회원이 탈퇴했음을 알리는 이벤트입니다. 작성자 정보를 캐시한 곳을 무효화하는 데 씁니다.
+ *
+ * @param memberId 변경된 회원 번호
+ */
+public record MemberProfileChangedEvent(Long memberId) {
+}
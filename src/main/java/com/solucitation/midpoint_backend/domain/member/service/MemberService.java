@@ -4,8 +4,11 @@ import com.solucitation.midpoint_backend.domain.community_board.entity.Image;
 import com.solucitation.midpoint_backend.domain.community_board.repository.ImageRepository;
 import com.solucitation.midpoint_backend.domain.community_board.repository.LikesRepository;
 import com.solucitation.midpoint_backend.domain.community_board.repository.PostRepository;
+import com.solucitation.midpoint_backend.domain.community_board.service.LikeCounter;
 import com.solucitation.midpoint_backend.domain.email.service.EmailService;
+import com.solucitation.midpoint_backend.domain.file.service.ResumableUploadService;
 import com.solucitation.midpoint_backend.domain.file.service.S3Service;
+import com.solucitation.midpoint_backend.domain.file.service.UploadPurpose;
 import com.solucitation.midpoint_backend.domain.history2.entity.PlaceInfoV2;
 import com.solucitation.midpoint_backend.domain.history2.entity.SearchHistoryV2;
 import com.solucitation.midpoint_backend.domain.history2.repository.PlaceInfoRepositoryV2;
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.auth.InvalidCredentialsException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -48,12 +52,15 @@ public class MemberService {
     private final EmailService emailService;
     private final SearchHistoryRepositoryV2 searchHistoryRepository;
     private final LikesRepository likesRepository;
+    private final LikeCounter likeCounter;
     private final S3Service s3Service;
+    private final ResumableUploadService resumableUploadService;
     private final ImageRepository imageRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final PostRepository postRepository;
     private final PlaceInfoRepositoryV2 placeInfoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -146,7 +153,7 @@ public class MemberService {
         // 회원 저장
         memberRepository.save(newMember);
 
-        String profileImageUrl;
+        S3Service.UploadedImage profileImageUrl;
         // 프로필 이미지 업로드 및 저장
         if (profileImage != null && !profileImage.isEmpty()) {
             try {
@@ -156,25 +163,32 @@ public class MemberService {
                 throw new RuntimeException("프로필 이미지 업로드에 실패했습니다.");
             }
         } else { // null이라면 기본 프로필 이미지 할당
-            profileImageUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, "ap-northeast-2", "profile-images/default_image.png");
+            profileImageUrl = defaultProfileImage();
         }
         Image image = Image.builder()
-                .imageUrl(profileImageUrl)
+                .imageUrl(profileImageUrl.url())
+                .mediumUrl(profileImageUrl.mediumUrl())
+                .thumbnailUrl(profileImageUrl.thumbnailUrl())
                 .member(newMember)
                 .build();
         imageRepository.save(image);
     }
 
     /**
-     * S3에서 기존 이미지 삭제 및 새로운 이미지 업로드
+     * 새로운 이미지를 크기별 JPEG 로 바꿔 S3에 업로드
      *
      * @param profileImage
      * @return 새로운 이미지 url
      * @throws IOException
      */
-    private String getS3UploadUrl(MultipartFile profileImage) throws IOException {
-        // 새로운 이미지 S3에 업로드 로직 구현
-        return s3Service.upload("profile-images", profileImage.getOriginalFilename(), profileImage);
+    private S3Service.UploadedImage getS3UploadUrl(MultipartFile profileImage) throws IOException {
+        return s3Service.uploadImages("profile-images", List.of(profileImage)).get(0);
+    }
+
+    // 기본 프로필 이미지는 크기별 이미지가 없습니다.
+    private S3Service.UploadedImage defaultProfileImage() {
+        return new S3Service.UploadedImage(
+                String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, "ap-northeast-2", "profile-images/default_image.png"), null, null);
     }
 
     /**
@@ -343,7 +357,7 @@ public class MemberService {
         // 회원 정보 업데이트
         updateMemberDetails(member);
 
-        String profileImageUrl = null;
+        S3Service.UploadedImage profileImageUrl = null;
         boolean isDefaultImage = false;
 
         // 기존 이미지가 기본 이미지인지 확인
@@ -360,7 +374,7 @@ public class MemberService {
                 handleExistingImageDeletion(member);
             }
             // 기본 이미지 URL 설정
-            profileImageUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, "ap-northeast-2", "profile-images/default_image.png");
+            profileImageUrl = defaultProfileImage();
         } else if (profileImage != null && !profileImage.isEmpty()) {
             if (!isDefaultImage) {
                 // 기존 이미지가 기본 이미지가 아닌 경우에만 삭제
@@ -368,10 +382,26 @@ public class MemberService {
             }
             // 새로운 이미지 업로드
             profileImageUrl = getS3UploadUrl(profileImage);
+        } else if (profileUpdateRequestDto.getProfileImageUploadId() != null) {
+            // 이어 올리기로 올린 이미지를 먼저 가져온 뒤 기존 이미지를 삭제합니다.
+            List<String> claimedUrls = resumableUploadService.claim(member.getId(), UploadPurpose.PROFILE,
+                    List.of(profileUpdateRequestDto.getProfileImageUploadId()));
+            try {
+                profileImageUrl = s3Service.normalizeStoredImages("profile-images", claimedUrls).get(0);
+            } catch (IOException | RuntimeException e) {
+                // 원본이 남아 있으므로 같은 업로드 ID 로 다시 시도할 수 있게 돌려놓습니다.
+                resumableUploadService.release(List.of(profileUpdateRequestDto.getProfileImageUploadId()));
+                throw e;
+            }
+            resumableUploadService.finishOnCommit(List.of(profileUpdateRequestDto.getProfileImageUploadId()));
+            if (!isDefaultImage) {
+                handleExistingImageDeletion(member);
+            }
         }
         if (profileImageUrl != null) { // 기본 이미지 또는 새로운 이미지가 있는 경우 Image 객체에 업데이트
             updateMemberImage(member, profileImageUrl);
         }
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
     }
 
     /**
@@ -405,10 +435,12 @@ public class MemberService {
      * @param profileImageUrl
      */
     @Transactional
-    public void updateMemberImage(Member member, String profileImageUrl) {
+    public void updateMemberImage(Member member, S3Service.UploadedImage profileImageUrl) {
         Image image = imageRepository.findByMemberIdAndPostIsNull(member.getId())
                 .orElseGet(() -> Image.builder().member(member).build());
-        image.setImageUrl(profileImageUrl);
+        image.setImageUrl(profileImageUrl.url());
+        image.setMediumUrl(profileImageUrl.mediumUrl());
+        image.setThumbnailUrl(profileImageUrl.thumbnailUrl());
         imageRepository.save(image);
     }
 
@@ -436,7 +468,9 @@ public class MemberService {
             imageRepository.delete(presentImage); // Image 엔티티 삭제
         }
 
+        List<Long> likedPostIds = likesRepository.findPostIdsByMemberId(member.getId());
         likesRepository.deleteByMemberId(member.getId()); // 좧아요 기록 일괄 삭제
+        likeCounter.removeMember(member.getId(), likedPostIds); // Redis 좋아요 집합에서도 빼서 개수에 남지 않게 합니다.
 
         List<SearchHistoryV2> deleteList = searchHistoryRepository.findByMemberOrderBySearchDateDesc(member);
 
@@ -450,6 +484,7 @@ public class MemberService {
         postRepository.updateMemberForPosts(member.getId(), delete.getId()); // 회원이 작성한 글의 소유자를 탈퇴 회원으로 변경
         imageRepository.updateMemberForImages(member.getId(), delete.getId()); // 회원이 작성한 게시글 내 이미지의 소유자를 탈퇴 회원으로 변경
         memberRepository.delete(member); // 회원 삭제
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId())); // 작성한 글의 작성자 정보가 바뀝니다.
 
         return imageUrl;
     }
@@ -0,0 +1,110 @@
+package com.solucitation.midpoint_backend.domain.photos;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * 장소 사진 썸네일을 내려주는 프록시입니다. 클라이언트는 /api/places 응답의 photo 값을 ref 로 넘깁니다.
+ * 새 사진마다 유료 구글 호출이 생기므로 로그인한 사용자만 쓸 수 있고, PhotoService 가 사용자별 호출 횟수를 제한합니다.
+ * 잘못된 요청은 IllegalArgumentException(400), 한도 초과는 TooManyRequestsException(429),
+ * 구글 장애는 UpstreamUnavailableException(503)으로 GlobalExceptionHandler 가 처리합니다. 오류 응답은 캐시하지 않도록 no-store 로 보냅니다.
+ */
+@RestController
+public class PhotoController {
+
+    // Tomcat NIO 커넥터가 sendfile 을 지원할 때 설정하는 요청 속성들입니다.
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final PhotoService photoService;
+    private final String cacheControl;
+
+    public PhotoController(PhotoService photoService, @Value("${photos.http.max-age:30d}") Duration maxAge) {
+        this.photoService = photoService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().immutable().getHeaderValue();
+    }
+
+    /**
+     * 썸네일을 반환합니다. 썸네일을 찾은 뒤에만 ETag 와 캐시 헤더를 붙이고, If-None-Match 가 같으면 본문 없이 304 로 응답합니다.
+     * 본문은 Tomcat 이 sendfile 을 지원하면 커널이 파일을 소켓으로 바로 보내게 하고, 아니면 FileChannel.transferTo 로 복사합니다.
+     */
+    @GetMapping("/api/photos")
+    public void getPhoto(@RequestParam String ref,
+                         @RequestParam(defaultValue = "medium") String size,
+                         Authentication authentication,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        // 예외로 끝나면 이 헤더가 그대로 남아 400·429·503 응답이 브라우저나 CDN 에 캐시되지 않습니다.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+
+        PhotoSize photoSize = PhotoSize.from(size);
+        PhotoDiskCache.CachedPhoto photo = photoService.getThumbnail(ref, photoSize, authentication.getName());
+
+        String etag = PhotoService.etag(ref, photoSize);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+        response.setContentLengthLong(photo.size());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 서블릿이 끝나면 Tomcat 이 소켓으로 파일을 직접 보냅니다.
+            request.setAttribute(SENDFILE_FILENAME, photo.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, photo.size());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(photo.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < photo.size()) {
+                long transferred = channel.transferTo(position, photo.size() - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+package com.solucitation.midpoint_backend.domain.photos;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 썸네일 파일을 로컬 디스크에 보관하는 크기 제한 캐시입니다.
+ * 파일은 {cache-dir}/{키 앞 두 글자}/{키}-{크기}.jpg 에 두고, 임시 파일에 FileChannel 로 쓴 뒤 원자적으로 옮겨
+ * 읽는 쪽이 쓰다 만 파일을 보지 않게 합니다. 전체 크기가 max-size 를 넘으면 가장 오래 안 쓴 파일부터 지워
+ * max-size 의 90% 까지 줄입니다. 방금 쓴 파일은 지우지 않아 put 직후의 find 가 항상 찾습니다.
+ * 시작할 때 디렉터리를 훑어 이전에 만든 파일을 다시 씁니다.
+ */
+@Component
+public class PhotoDiskCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoDiskCache.class);
+
+    private static final String EXTENSION = ".jpg";
+
+    private final Path root;
+    private final long maxBytes;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public PhotoDiskCache(MeterRegistry meterRegistry,
+                          @Value("${photos.cache.dir:${java.io.tmpdir}/midpoint-photos}") Path root,
+                          @Value("${photos.cache.max-size:1073741824}") long maxBytes) {
+        this.root = root;
+        this.maxBytes = maxBytes;
+
+        this.hits = Counter.builder("photos.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("photos.cache").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("photos.cache").tag("result", "evicted").register(meterRegistry);
+        Gauge.builder("photos.cache.bytes", totalBytes, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(root);
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (!file.getFileName().toString().endsWith(EXTENSION)) {
+                    // 이전 실행에서 옮기지 못한 임시 파일입니다.
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                long size = Files.size(file);
+                entries.put(file, new Entry(size, Files.getLastModifiedTime(file).toMillis()));
+                totalBytes.addAndGet(size);
+            }
+        }
+        logger.info("Photo cache loaded {} files ({} bytes) from {}", entries.size(), totalBytes.get(), root);
+        evictIfNeeded(null);
+    }
+
+    /**
+     * @return 캐시된 썸네일 파일과 크기, 없으면 null
+     */
+    public CachedPhoto find(String key, PhotoSize size) {
+        Path file = path(key, size);
+        Entry entry = entries.get(file);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        entry.lastAccess = System.currentTimeMillis();
+        hits.increment();
+        return new CachedPhoto(file, entry.size);
+    }
+
+    public void put(String key, PhotoSize size, byte[] data) throws IOException {
+        Path file = path(key, size);
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        Entry previous = entries.put(file, new Entry(data.length, System.currentTimeMillis()));
+        totalBytes.addAndGet(data.length - (previous == null ? 0 : previous.size));
+        evictIfNeeded(file);
+    }
+
+    // written 은 방금 쓴 파일로, 한도를 넘더라도 지우지 않습니다.
+    private synchronized void evictIfNeeded(Path written) {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+
+        List<Map.Entry<Path, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        long target = maxBytes / 10 * 9;
+        for (Map.Entry<Path, Entry> candidate : candidates) {
+            if (totalBytes.get() <= target) {
+                break;
+            }
+            if (candidate.getKey().equals(written) || !entries.remove(candidate.getKey(), candidate.getValue())) {
+                continue;
+            }
+            totalBytes.addAndGet(-candidate.getValue().size);
+            evictions.increment();
+            try {
+                Files.deleteIfExists(candidate.getKey());
+            } catch (IOException e) {
+                logger.warn("Failed to delete cached photo {}: {}", candidate.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private Path path(String key, PhotoSize size) {
+        return root.resolve(key.substring(0, 2)).resolve(key + "-" + size.value() + EXTENSION);
+    }
+
+    public record CachedPhoto(Path file, long size) {
+    }
+
+    private static final class Entry {
+        private final long size;
+        private volatile long lastAccess;
+
+        private Entry(long size, long lastAccess) {
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.solucitation.midpoint_backend.domain.photos;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.solucitation.midpoint_backend.global.exception.TooManyRequestsException;
+import com.solucitation.midpoint_backend.global.util.SingleFlight;
+import com.solucitation.midpoint_backend.global.util.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 장소 검색 결과의 photo_reference 로 구글 Place Photo 를 한 번만 받아, PhotoSize 의 모든 크기로 줄여 디스크에 보관합니다.
+ * 같은 사진을 동시에 요청하면 다운로드와 변환은 한 번만 하고 나머지는 그 결과를 기다립니다.
+ * photo_reference 가 가리키는 사진은 바뀌지 않으므로, ETag 는 파일을 읽지 않고 참조와 크기만으로 만듭니다.
+ * 디스크에 없는 사진은 구글 호출 비용이 들므로, 사용자마다 1분에 photos.origin-fetches-per-minute 번까지만 새로 받습니다.
+ */
+@Service
+public class PhotoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoService.class);
+
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,1024}");
+
+    @Value("${google.api.key}")
+    private String apiKey;
+
+    private final RestTemplate restTemplate;
+    private final UpstreamGuard photosGuard;
+    private final PhotoDiskCache photoDiskCache;
+    private final float jpegQuality;
+    private final SingleFlight<String, Boolean> photosFlight;
+    private final int originFetchesPerMinute;
+    // 사용자 → 최근 1분 동안 구글에서 새로 받은 횟수 (처음 받은 뒤 1분이 지나면 초기화)
+    private final Cache<String, AtomicInteger> originFetches;
+
+    public PhotoService(@Qualifier("photosRestTemplate") RestTemplate restTemplate,
+                        @Qualifier("photosGuard") UpstreamGuard photosGuard,
+                        PhotoDiskCache photoDiskCache, MeterRegistry meterRegistry,
+                        @Value("${photos.jpeg-quality:0.85}") float jpegQuality,
+                        @Value("${google.single-flight.timeout:10s}") Duration singleFlightTimeout,
+                        @Value("${photos.origin-fetches-per-minute:30}") int originFetchesPerMinute) {
+        this.restTemplate = restTemplate;
+        this.photosGuard = photosGuard;
+        this.photoDiskCache = photoDiskCache;
+        this.jpegQuality = jpegQuality;
+        this.photosFlight = new SingleFlight<>("photos", singleFlightTimeout, meterRegistry);
+        this.originFetchesPerMinute = originFetchesPerMinute;
+        this.originFetches = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 썸네일 파일을 찾고, 없으면 원본을 받아 모든 크기를 만든 뒤 반환합니다.
+     *
+     * @param client 요청한 사용자, 구글 호출 횟수를 제한하는 단위입니다
+     * @throws IllegalArgumentException photo_reference 가 잘못됐거나 구글이 사진을 주지 않은 경우
+     * @throws TooManyRequestsException 사용자가 1분 동안 새로 받을 수 있는 횟수를 넘은 경우
+     * @throws com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException 구글 호출이 실패한 경우
+     */
+    public PhotoDiskCache.CachedPhoto getThumbnail(String reference, PhotoSize size, String client) {
+        String key = key(reference);
+        PhotoDiskCache.CachedPhoto cached = photoDiskCache.find(key, size);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (originFetches.get(client, ignored -> new AtomicInteger()).incrementAndGet() > originFetchesPerMinute) {
+            throw new TooManyRequestsException("사진 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        photosFlight.execute(key, () -> createThumbnails(reference, key));
+        cached = photoDiskCache.find(key, size);
+        if (cached == null) {
+            throw new IllegalStateException("Thumbnail was evicted right after it was created: " + key);
+        }
+        return cached;
+    }
+
+    /**
+     * 같은 참조와 크기면 항상 같은 값이므로, 조건부 요청은 디스크를 보지 않고 바로 304 로 답할 수 있습니다.
+     */
+    public static String etag(String reference, PhotoSize size) {
+        return "\"" + key(reference) + "-" + size.value() + "\"";
+    }
+
+    /**
+     * @throws IllegalArgumentException photo_reference 형식이 잘못된 경우
+     */
+    static String key(String reference) {
+        if (reference == null || !REFERENCE_PATTERN.matcher(reference).matches()) {
+            throw new IllegalArgumentException("Invalid photo reference");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(reference.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Boolean createThumbnails(String reference, String key) {
+        byte[] original = photosGuard.call(() -> fetchOriginal(reference));
+        if (original == null) {
+            throw new IllegalArgumentException("Photo not found for reference");
+        }
+
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(original));
+        } catch (IOException e) {
+            image = null;
+        }
+        if (image == null) {
+            logger.error("Unreadable photo for key {} ({} bytes)", key, original.length);
+            throw new IllegalArgumentException("Unreadable photo for reference");
+        }
+
+        try {
+            for (PhotoSize size : PhotoSize.values()) {
+                photoDiskCache.put(key, size, encode(resize(image, size.maxWidth())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store thumbnails for " + key, e);
+        }
+        return Boolean.TRUE;
+    }
+
+    // 가장 큰 썸네일 폭만큼만 받아 불필요한 전송을 줄입니다. 잘못된 참조(4xx)는 구글 장애로 세지 않도록 null 로 돌려줍니다.
+    private byte[] fetchOriginal(String reference) {
+        String url = String.format("https://maps.googleapis.com/maps/api/place/photo?maxwidth=%d&photo_reference=%s&key=%s",
+                PhotoSize.largestWidth(), reference, apiKey);
+        try {
+            return restTemplate.getForObject(url, byte[].class);
+        } catch (HttpClientErrorException e) {
+            logger.error("Place photo returned {} for reference", e.getStatusCode());
+            return null;
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage image, int maxWidth) {
+        int width = Math.min(maxWidth, image.getWidth());
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG 에는 알파 채널이 없으므로 투명한 부분은 흰색으로 채웁니다.
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
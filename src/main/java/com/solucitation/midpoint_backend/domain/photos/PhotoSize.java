@@ -0,0 +1,43 @@
+package com.solucitation.midpoint_backend.domain.photos;
+
+import java.util.Locale;
+
+/**
+ * 미리 만들어 두는 썸네일 크기입니다. 원본을 한 번 받아 모든 크기를 함께 만듭니다.
+ */
+public enum PhotoSize {
+
+    SMALL(200),
+    MEDIUM(400),
+    LARGE(800);
+
+    private final int maxWidth;
+
+    PhotoSize(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 크기인 경우
+     */
+    public static PhotoSize from(String value) {
+        for (PhotoSize size : values()) {
+            if (size.value().equalsIgnoreCase(value)) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("Invalid photo size: " + value);
+    }
+
+    static int largestWidth() {
+        return LARGE.maxWidth;
+    }
+}
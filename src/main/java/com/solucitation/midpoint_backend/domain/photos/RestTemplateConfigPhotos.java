@@ -0,0 +1,18 @@
+package com.solucitation.midpoint_backend.domain.photos;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class RestTemplateConfigPhotos {
+
+    @Bean(name = "photosRestTemplate")
+    public RestTemplate restTemplate(@Qualifier("outboundHttpClient") CloseableHttpClient httpClient) {
+        // 공용 커넥션 풀을 사용하는 HTTP 클라이언트 (HttpClientConfig). Place Photo 의 302 리다이렉트도 따라갑니다.
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
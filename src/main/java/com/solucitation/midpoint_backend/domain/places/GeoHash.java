@@ -0,0 +1,79 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+/**
+ * 위경도 좌표를 geohash 문자열로 변환합니다.
+ * 가까운 좌표는 같은 접두사를 공유하므로 근처 검색 결과를 묶는 캐시 키로 사용합니다.
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // 정밀도별 셀의 긴 변 길이 (미터, 적도 기준). 인덱스가 정밀도입니다.
+    private static final double[] CELL_WIDTH_METERS = {
+            40_075_000, 5_009_400, 1_252_300, 156_500, 39_100, 4_890, 1_220, 153, 38.2, 4.77, 1.19, 0.149, 0.0372
+    };
+
+    public static final int MAX_PRECISION = CELL_WIDTH_METERS.length - 1;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Invalid geohash precision: " + precision);
+        }
+        double minLat = -90;
+        double maxLat = 90;
+        double minLng = -180;
+        double maxLng = 180;
+
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+        int length = 0;
+        while (length < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash[length++] = BASE32[index];
+                bit = 0;
+                index = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    /**
+     * 셀의 긴 변이 maxCellMeters 이하가 되는 가장 낮은 정밀도를 반환합니다.
+     *
+     * @param maxCellMeters 허용하는 셀 크기 (미터)
+     * @return geohash 정밀도
+     */
+    public static int precisionFor(double maxCellMeters) {
+        for (int precision = 1; precision < MAX_PRECISION; precision++) {
+            if (CELL_WIDTH_METERS[precision] <= maxCellMeters) {
+                return precision;
+            }
+        }
+        return MAX_PRECISION;
+    }
+}
@@ -1,15 +1,18 @@
 package com.solucitation.midpoint_backend.domain.places;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import com.solucitation.midpoint_backend.global.util.SingleFlight;
+import com.solucitation.midpoint_backend.global.util.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +26,11 @@ public class MapService {
     private String apiKey;
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final PlacesResponseParser placesResponseParser;
+    private final PlaceCache placeCache;
+    private final PlaceIndex placeIndex;
+    private final UpstreamGuard placesGuard;
+    private final SingleFlight<String, List<Place>> placesFlight;
 
     private static final Map<String, String> CATEGORY_TYPE_MAP = new HashMap<>();
 
@@ -38,52 +45,103 @@ public class MapService {
         CATEGORY_TYPE_MAP.put("social", "amusement_center|amusement_park|aquarium|bowling_alley|cultural_center|dog_park|event_venue|zoo|athletic_field|fitness_center|gym|sports_club|sports_complex|stadium|swimming_pools");
     }
 
-    public MapService(@Qualifier("placesRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public MapService(@Qualifier("placesRestTemplate") RestTemplate restTemplate, PlacesResponseParser placesResponseParser, PlaceCache placeCache,
+                      PlaceIndex placeIndex, @Qualifier("placesGuard") UpstreamGuard placesGuard, MeterRegistry meterRegistry, @Value("${google.single-flight.timeout:10s}") Duration singleFlightTimeout) {
         this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+        this.placesResponseParser = placesResponseParser;
+        this.placeCache = placeCache;
+        this.placeIndex = placeIndex;
+        this.placesGuard = placesGuard;
+        this.placesFlight = new SingleFlight<>("places", singleFlightTimeout, meterRegistry);
     }
 
-    public List<Map<String, Object>> findPlaces(double latitude, double longitude, int radius, String category) {
+    public List<Place> findPlaces(double latitude, double longitude, int radius, String category) {
+        String placeTypes = placeTypesOf(category);
+
+        // 같은 동네에서 같은 반경·카테고리로 검색하면 캐시된 결과를 사용합니다.
+        String cacheKey = placeCache.key(latitude, longitude, radius, category);
+        List<Place> cached = placeCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 최근에 채운 셀이면 메모리 인덱스에서 바로 찾습니다.
+        List<Place> indexed = placeIndex.search(latitude, longitude, radius, category);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        try {
+            // 같은 캐시 키로 동시에 들어온 미스는 구글 호출 한 번을 함께 기다립니다.
+            return placesFlight.execute(cacheKey, () -> {
+                List<Place> loaded = placeCache.get(cacheKey);
+                if (loaded == null) {
+                    loaded = fetchPlaces(latitude, longitude, radius, placeTypes);
+                    placeCache.put(cacheKey, loaded);
+                    placeIndex.record(latitude, longitude, radius, category, loaded);
+                }
+                return loaded;
+            });
+        } catch (UpstreamUnavailableException e) {
+            // 구글을 쓸 수 없으면 오래된 셀이라도 인덱스에 있는 장소로 응답합니다.
+            List<Place> fallback = placeIndex.searchIgnoringStaleness(latitude, longitude, radius, category);
+            if (fallback == null) {
+                throw e;
+            }
+            logger.warn("Serving indexed places because Google is unavailable: {}", e.getMessage());
+            return fallback;
+        }
+    }
+
+    /**
+     * 캐시를 보지 않고 구글에서 다시 받아 캐시와 인덱스를 채웁니다. PlaceCacheWarmer 가 한가한 시간에 호출합니다.
+     *
+     * @param cacheTtl Redis 캐시에 둘 시간
+     * @throws UpstreamUnavailableException 구글을 쓸 수 없는 경우
+     */
+    public List<Place> warm(double latitude, double longitude, int radius, String category, Duration cacheTtl) {
+        String placeTypes = placeTypesOf(category);
+        String cacheKey = placeCache.key(latitude, longitude, radius, category);
+        List<Place> loaded = placesFlight.execute(cacheKey, () -> {
+            List<Place> fetched = fetchPlaces(latitude, longitude, radius, placeTypes);
+            placeIndex.record(latitude, longitude, radius, category, fetched);
+            return fetched;
+        });
+        // 검색 요청이 먼저 시작한 호출에 합류했다면 그쪽이 기본 TTL 로 넣었으므로, 합류 여부와 관계없이 cacheTtl 로 다시 넣습니다.
+        placeCache.put(cacheKey, loaded, cacheTtl);
+        return loaded;
+    }
+
+    private List<Place> fetchPlaces(double latitude, double longitude, int radius, String placeTypes) {
+        String url = nearbySearchUrl(latitude, longitude, radius, placeTypes, apiKey);
+
+        try {
+            // 응답 본문을 문자열이나 JsonNode 트리로 만들지 않고 스트림에서 바로 읽습니다.
+            return placesGuard.call(() -> restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> placesResponseParser.parse(response.getBody())));
+        } catch (UpstreamUnavailableException e) {
+            logger.error("An error occurred while fetching places: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    static String placeTypesOf(String category) {
         String placeTypes = CATEGORY_TYPE_MAP.get(category);
         if (placeTypes == null) {
             throw new IllegalArgumentException("Invalid category: " + category);
         }
+        return placeTypes;
+    }
 
-        String url = String.format(
+    static String nearbySearchUrl(double latitude, double longitude, int radius, String placeTypes, String apiKey) {
+        return String.format(
                 "https://maps.googleapis.com/maps/api/place/nearbysearch/json?location=%s,%s&radius=%d&type=%s&key=%s",
                 latitude, longitude, radius, placeTypes, apiKey
         );
+    }
 
-        try {
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode resultsNode = rootNode.path("results");
-
-            List<Map<String, Object>> places = new ArrayList<>();
-            for (JsonNode resultNode : resultsNode) {
-                Map<String, Object> place = new HashMap<>();
-                place.put("name", resultNode.path("name").asText());
-                place.put("address", resultNode.path("vicinity").asText());
-                place.put("latitude", resultNode.path("geometry").path("location").path("lat").asDouble());
-                place.put("longitude", resultNode.path("geometry").path("location").path("lng").asDouble());
-                place.put("types", resultNode.path("types").toString());
-                place.put("placeID", resultNode.path("place_id").asText());
-
-                JsonNode photosNode = resultNode.path("photos");
-                if (photosNode.isArray() && photosNode.size() > 0) {
-                    place.put("photo", photosNode.get(0).path("photo_reference").asText());
-                } else {
-                    place.put("photo", null);
-                }
-
-                places.add(place);
-            }
-
-            return places;
-        } catch (Exception e) {
-            logger.error("An error occurred while fetching places: {}", e.getMessage(), e);
-            throw new RuntimeException("An error occurred while fetching places", e);
-        }
+    static List<String> categories() {
+        return CATEGORY_TYPE_MAP.keySet().stream().sorted().toList();
     }
 
     public static boolean isValidCategory(String category) {
@@ -0,0 +1,78 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class MultiCategoryPlaceRequest {
+    @NotNull(message = "위도는 필수입니다.")
+    private Double latitude;
+
+    @NotNull(message = "경도는 필수입니다.")
+    private Double longitude;
+
+    @Valid
+    @NotNull(message = "검색할 카테고리 목록은 필수입니다.")
+    @Size(min = 1, max = 8, message = "카테고리의 개수가 1에서 8 사이여야 합니다.")
+    private List<CategorySearch> searches;
+
+    public MultiCategoryPlaceRequest() {
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public List<CategorySearch> getSearches() {
+        return searches;
+    }
+
+    public void setSearches(List<CategorySearch> searches) {
+        this.searches = searches;
+    }
+
+    public static class CategorySearch {
+        @NotNull(message = "카테고리는 필수입니다.")
+        private String category;
+
+        private int radius = 1000; // 기본값은 1km로 설정
+
+        public CategorySearch() {
+        }
+
+        public CategorySearch(String category, int radius) {
+            this.category = category;
+            this.radius = radius;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public int getRadius() {
+            return radius;
+        }
+
+        public void setRadius(int radius) {
+            this.radius = radius;
+        }
+    }
+}
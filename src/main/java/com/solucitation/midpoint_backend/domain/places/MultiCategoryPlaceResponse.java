@@ -0,0 +1,13 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import java.util.List;
+
+/**
+ * @param places 순위대로 정렬된 장소 목록
+ * @param failedCategories 구글 호출에 실패해 결과에 포함되지 못한 카테고리 목록
+ */
+public record MultiCategoryPlaceResponse(
+        List<RankedPlace> places,
+        List<String> failedCategories
+) {
+}
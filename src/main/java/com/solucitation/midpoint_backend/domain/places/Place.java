@@ -0,0 +1,18 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Nearby Search 결과 중 API 응답에 필요한 필드만 담은 장소 정보입니다.
+ * JSON 필드명은 기존 응답 형식(placeID, types 는 JSON 배열 문자열)을 그대로 유지합니다.
+ */
+public record Place(
+        String name,
+        String address,
+        double latitude,
+        double longitude,
+        String types,
+        @JsonProperty("placeID") String placeId,
+        String photo
+) {
+}
@@ -0,0 +1,138 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * MapService.findPlaces 결과를 (radius 에 맞춘 geohash 접두사, radius, category) 단위로 캐시합니다.
+ * 1차는 프로세스 내 Caffeine 캐시(크기·TTL 제한), 2차는 선택적으로 여러 서버가 공유하는 Redis 캐시입니다.
+ * 적중/미스/축출 지표는 Micrometer 로 노출합니다 (cache.gets, cache.evictions, places.cache.redis).
+ */
+@Component
+public class PlaceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceCache.class);
+
+    private static final String KEY_PREFIX = "places:";
+    private static final TypeReference<List<Place>> PLACES_TYPE = new TypeReference<>() {};
+
+    private final Cache<String, List<Place>> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final double cellRatio;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public PlaceCache(@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${places.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${places.cache.ttl:10m}") Duration localTtl,
+                      @Value("${places.cache.redis.enabled:false}") boolean redisEnabled,
+                      @Value("${places.cache.redis.ttl:30m}") Duration redisTtl,
+                      @Value("${places.cache.cell-ratio:0.5}") double cellRatio) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+        this.cellRatio = cellRatio;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "places");
+
+        this.redisHits = Counter.builder("places.cache.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("places.cache.redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrors = Counter.builder("places.cache.redis").tag("result", "error").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키를 만듭니다. 셀 크기가 반경의 cellRatio 배 이하가 되도록 geohash 정밀도를 고릅니다.
+     */
+    public String key(double latitude, double longitude, int radius, String category) {
+        int precision = GeoHash.precisionFor(radius * cellRatio);
+        return KEY_PREFIX + GeoHash.encode(latitude, longitude, precision) + ":" + radius + ":" + category;
+    }
+
+    /**
+     * 캐시된 장소 목록을 찾습니다. 로컬에 없고 Redis 에 있으면 로컬에도 채웁니다.
+     *
+     * @return 캐시된 장소 목록, 없으면 null
+     */
+    public List<Place> get(String key) {
+        List<Place> places = localCache.getIfPresent(key);
+        if (places != null || !redisEnabled) {
+            return places;
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            places = List.copyOf(objectMapper.readValue(json, PLACES_TYPE));
+            localCache.put(key, places);
+            return places;
+        } catch (Exception e) {
+            // Redis 장애 시에는 캐시 없이 구글 API 로 진행합니다.
+            redisErrors.increment();
+            logger.warn("Failed to read places cache from redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 로컬 캐시만 조회합니다. 블로킹 I/O 가 없으므로 논블로킹 경로에서 바로 호출할 수 있습니다.
+     */
+    public List<Place> getLocal(String key) {
+        return localCache.getIfPresent(key);
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void put(String key, List<Place> places) {
+        put(key, places, redisTtl);
+    }
+
+    /**
+     * Redis 에 기본값과 다른 TTL 로 저장합니다. 미리 채우는 캐시처럼 오래 유지해야 하는 항목에 씁니다.
+     */
+    public void put(String key, List<Place> places, Duration ttl) {
+        localCache.put(key, places);
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(places), ttl);
+        } catch (Exception e) {
+            redisErrors.increment();
+            logger.warn("Failed to write places cache to redis: {}", e.getMessage());
+        }
+    }
+}
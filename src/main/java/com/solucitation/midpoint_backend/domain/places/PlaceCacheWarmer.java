@@ -0,0 +1,193 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.solucitation.midpoint_backend.domain.history2.repository.PlaceInfoRepositoryV2;
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 최근 검색 기록에서 사용자가 많이 고른 동네·카테고리를 뽑아, 한가한 시간에 장소 캐시와 인덱스를 미리 채웁니다.
+ * 동네 좌표는 그 동네에서 저장된 장소들의 평균 좌표를 쓰고, 카테고리는 저장된 장소의 타입에서 구합니다.
+ * 한 번 실행할 때의 구글 호출 수(max-calls-per-run)와 호출 간격(call-interval)으로 예산을 제한하며,
+ * 이미 min-age 안에 채워진 지역은 건너뛰고 구글을 쓸 수 없으면 그 회차를 바로 멈춥니다.
+ * 호출 간격만큼 쉬는 동안 다른 주기 작업이 밀리지 않도록, 스케줄러 스레드가 아닌 전용 스레드에서 실행합니다.
+ * places.warmer.enabled=true 로 켭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "places.warmer.enabled", havingValue = "true")
+public class PlaceCacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceCacheWarmer.class);
+
+    private final PlaceInfoRepositoryV2 placeInfoRepository;
+    private final MapService mapService;
+    private final PlaceIndex placeIndex;
+    private final Duration lookback;
+    private final int maxRows;
+    private final int topTargets;
+    private final List<Integer> radii;
+    private final int maxCallsPerRun;
+    private final Duration callInterval;
+    private final Duration minAge;
+    private final Duration cacheTtl;
+
+    private final Counter warmed;
+    private final Counter skipped;
+    private final Counter failed;
+
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PlaceCacheWarmer(PlaceInfoRepositoryV2 placeInfoRepository,
+                            MapService mapService,
+                            PlaceIndex placeIndex,
+                            MeterRegistry meterRegistry,
+                            @Value("${places.warmer.lookback:7d}") Duration lookback,
+                            @Value("${places.warmer.max-rows:20000}") int maxRows,
+                            @Value("${places.warmer.top-targets:30}") int topTargets,
+                            @Value("${places.warmer.radii:1000}") List<Integer> radii,
+                            @Value("${places.warmer.max-calls-per-run:100}") int maxCallsPerRun,
+                            @Value("${places.warmer.call-interval:500ms}") Duration callInterval,
+                            @Value("${places.warmer.min-age:12h}") Duration minAge,
+                            @Value("${places.warmer.cache-ttl:24h}") Duration cacheTtl) {
+        this.placeInfoRepository = placeInfoRepository;
+        this.mapService = mapService;
+        this.placeIndex = placeIndex;
+        this.lookback = lookback;
+        this.maxRows = maxRows;
+        this.topTargets = topTargets;
+        this.radii = radii;
+        this.maxCallsPerRun = maxCallsPerRun;
+        this.callInterval = callInterval;
+        this.minAge = minAge;
+        this.cacheTtl = cacheTtl;
+
+        this.warmed = Counter.builder("places.warmer.targets").tag("result", "warmed").register(meterRegistry);
+        this.skipped = Counter.builder("places.warmer.targets").tag("result", "skipped").register(meterRegistry);
+        this.failed = Counter.builder("places.warmer.targets").tag("result", "failed").register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "place-cache-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 기본값은 매일 새벽 5시(한국 시간)입니다. 이전 회차가 아직 돌고 있으면 이번 회차는 건너뜁니다.
+    @Scheduled(cron = "${places.warmer.cron:0 0 5 * * *}", zone = "${places.warmer.zone:Asia/Seoul}")
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Place cache warmer skipped because the previous run is still in progress");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                warm();
+            } catch (RuntimeException e) {
+                logger.error("Place cache warmer failed: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    void warm() {
+        List<Target> targets = hotTargets();
+        int calls = 0;
+        for (Target target : targets) {
+            for (int radius : radii) {
+                if (placeIndex.isFresh(target.latitude(), target.longitude(), radius, target.category(), minAge)) {
+                    skipped.increment();
+                    continue;
+                }
+                if (calls >= maxCallsPerRun) {
+                    logger.info("Place cache warmer stopped at call budget {} ({} targets)", maxCallsPerRun, targets.size());
+                    return;
+                }
+
+                calls++;
+                try {
+                    mapService.warm(target.latitude(), target.longitude(), radius, target.category(), cacheTtl);
+                    warmed.increment();
+                } catch (UpstreamUnavailableException e) {
+                    // 구글이 불안정하면 남은 대상을 계속 두드리지 않고 다음 회차로 미룹니다.
+                    failed.increment();
+                    logger.warn("Place cache warmer stopped because Google is unavailable: {}", e.getMessage());
+                    return;
+                }
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+        logger.info("Place cache warmer finished: {} calls for {} targets", calls, targets.size());
+    }
+
+    /**
+     * lookback 기간 동안 저장된 장소를 (동네, 카테고리) 단위로 세어 많이 고른 순으로 topTargets 개를 반환합니다.
+     */
+    List<Target> hotTargets() {
+        List<PlaceInfoRepositoryV2.PickedPlace> picks = placeInfoRepository.findPickedSince(
+                LocalDateTime.now().minus(lookback), PageRequest.of(0, maxRows));
+
+        Map<String, double[]> centers = new HashMap<>(); // 동네 → {위도 합, 경도 합, 개수}
+        Map<String, Map<String, Integer>> categoryCounts = new HashMap<>();
+        for (PlaceInfoRepositoryV2.PickedPlace pick : picks) {
+            double[] center = centers.computeIfAbsent(pick.getNeighborhood(), neighborhood -> new double[3]);
+            center[0] += pick.getLatitude();
+            center[1] += pick.getLongitude();
+            center[2]++;
+            Map<String, Integer> counts = categoryCounts.computeIfAbsent(pick.getNeighborhood(), neighborhood -> new HashMap<>());
+            for (String category : placeIndex.categoriesOf(pick.getTypes())) {
+                counts.merge(category, 1, Integer::sum);
+            }
+        }
+
+        List<Target> targets = new ArrayList<>();
+        categoryCounts.forEach((neighborhood, counts) -> {
+            double[] center = centers.get(neighborhood);
+            counts.forEach((category, count) -> targets.add(
+                    new Target(neighborhood, category, center[0] / center[2], center[1] / center[2], count)));
+        });
+        targets.sort(Comparator.comparingInt(Target::picks).reversed());
+        return targets.size() > topTargets ? targets.subList(0, topTargets) : targets;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(callInterval.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 쉬고 있는 스레드를 깨워 pause() 가 false 를 반환하게 합니다.
+        executor.shutdownNow();
+    }
+
+    record Target(String neighborhood, String category, double latitude, double longitude, int picks) {
+    }
+}
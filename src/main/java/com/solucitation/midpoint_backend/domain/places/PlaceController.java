@@ -1,10 +1,15 @@
 package com.solucitation.midpoint_backend.domain.places;
 
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -13,9 +18,16 @@ import java.util.Map;
 public class PlaceController {
 
     private final MapService mapService;
+    private final ReactiveMapService reactiveMapService;
+    private final PlaceFanOutService placeFanOutService;
+    private final PlaceRankingService placeRankingService;
 
-    public PlaceController(MapService mapService) {
+    public PlaceController(MapService mapService, ReactiveMapService reactiveMapService, PlaceFanOutService placeFanOutService,
+                           PlaceRankingService placeRankingService) {
         this.mapService = mapService;
+        this.reactiveMapService = reactiveMapService;
+        this.placeFanOutService = placeFanOutService;
+        this.placeRankingService = placeRankingService;
     }
 
     @GetMapping("/api/places")
@@ -36,12 +48,91 @@ public class PlaceController {
         }
 
         try {
-            List<Map<String, Object>> places = mapService.findPlaces(latitude, longitude, radius, category);
+            List<Place> places = mapService.findPlaces(latitude, longitude, radius, category);
             return ResponseEntity.ok(places);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (UpstreamUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "Places are temporarily unavailable"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "An error occurred while fetching places: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * /api/places 와 같은 결과를 논블로킹으로 반환합니다. 구글 응답을 기다리는 동안 서블릿 스레드를 반환합니다.
+     */
+    @GetMapping("/api/places/async")
+    public Mono<ResponseEntity<?>> getPlacesAsync(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam String category,
+            @RequestParam(defaultValue = "1000") int radius
+    ) {
+        if (radius != 1000 && radius != 2000 && radius != 3000) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "Invalid radius: " + radius)));
+        }
+
+        if (!MapService.isValidCategory(category)) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "Invalid category: " + category)));
+        }
+
+        return reactiveMapService.findPlaces(latitude, longitude, radius, category)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body(Map.of("error", e.getMessage()))))
+                .onErrorResume(UpstreamUnavailableException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(Map.of("error", "Places are temporarily unavailable"))))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "An error occurred while fetching places: " + e.getMessage()))));
+    }
+
+    /**
+     * 한 중간 지점 주변을 여러 카테고리·반경으로 동시에 검색해 place_id 기준으로 합친 순위 목록을 반환합니다.
+     */
+    @PostMapping("/api/places/multi")
+    public Mono<ResponseEntity<?>> getPlacesForCategories(@RequestBody @Valid MultiCategoryPlaceRequest request) {
+        for (MultiCategoryPlaceRequest.CategorySearch search : request.getSearches()) {
+            int radius = search.getRadius();
+            if (radius != 1000 && radius != 2000 && radius != 3000) {
+                return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "Invalid radius: " + radius)));
+            }
+            if (!MapService.isValidCategory(search.getCategory())) {
+                return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "Invalid category: " + search.getCategory())));
+            }
+        }
+
+        return placeFanOutService.findPlaces(request.getLatitude(), request.getLongitude(), request.getSearches())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "An error occurred while fetching places: " + e.getMessage()))));
+    }
+
+    /**
+     * 참여자 좌표의 중간 지점 주변 장소를 모든 참여자에게 공평한 순서(가장 먼 참여자의 거리, 거리 차, 인기도)로 반환합니다.
+     */
+    @PostMapping("/api/places/ranked")
+    public ResponseEntity<?> getRankedPlaces(@RequestBody @Valid RankedPlaceRequest request) {
+        int radius = request.getRadius();
+        if (radius != 1000 && radius != 2000 && radius != 3000) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid radius: " + radius));
+        }
+
+        if (!MapService.isValidCategory(request.getCategory())) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid category: " + request.getCategory()));
+        }
+
+        try {
+            List<ScoredPlace> places = placeRankingService.findRankedPlaces(request.getStrategy(), request.getLatitudes(),
+                    request.getLongitudes(), radius, request.getCategory(), request.getLimit());
+            return ResponseEntity.ok(places);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (UpstreamUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "Places are temporarily unavailable"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "An error occurred while fetching places: " + e.getMessage()));
+        }
+    }
+}
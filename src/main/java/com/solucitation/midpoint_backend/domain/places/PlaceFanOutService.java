@@ -0,0 +1,96 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 중간 지점에 대해 여러 카테고리 검색을 동시에 보내고 결과를 하나로 합칩니다.
+ * 동시 호출 수는 places.fan-out.max-concurrency 로 제한하며, 전체 지연 시간은 대략 가장 느린 호출 하나 수준입니다.
+ * 여러 카테고리에 나온 장소는 place_id 로 합치고, 많은 카테고리에 걸친 장소 → 중간 지점에 가까운 장소 순으로 정렬합니다.
+ */
+@Service
+public class PlaceFanOutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceFanOutService.class);
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final Comparator<RankedPlace> RANKING = Comparator
+            .comparingInt((RankedPlace rankedPlace) -> rankedPlace.categories().size()).reversed()
+            .thenComparingDouble(RankedPlace::distance);
+
+    private final ReactiveMapService reactiveMapService;
+    private final int maxConcurrency;
+
+    public PlaceFanOutService(ReactiveMapService reactiveMapService,
+                              @Value("${places.fan-out.max-concurrency:4}") int maxConcurrency) {
+        this.reactiveMapService = reactiveMapService;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Mono<MultiCategoryPlaceResponse> findPlaces(double latitude, double longitude,
+                                                       List<MultiCategoryPlaceRequest.CategorySearch> searches) {
+        return Flux.fromIterable(searches)
+                .flatMap(search -> reactiveMapService
+                        .findPlaces(latitude, longitude, search.getRadius(), search.getCategory())
+                        .map(places -> new CategoryResult(search.getCategory(), places))
+                        .onErrorResume(e -> {
+                            // 한 카테고리가 실패해도 나머지 결과는 내려줍니다.
+                            logger.warn("Failed to fetch category {}: {}", search.getCategory(), e.getMessage());
+                            return Mono.just(new CategoryResult(search.getCategory(), null));
+                        }), maxConcurrency)
+                .collectList()
+                .map(results -> merge(latitude, longitude, results));
+    }
+
+    private MultiCategoryPlaceResponse merge(double latitude, double longitude, List<CategoryResult> results) {
+        Map<String, Place> places = new LinkedHashMap<>();
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        List<String> failedCategories = new ArrayList<>();
+
+        for (CategoryResult result : results) {
+            if (result.places() == null) {
+                failedCategories.add(result.category());
+                continue;
+            }
+            for (Place place : result.places()) {
+                places.putIfAbsent(place.placeId(), place);
+                List<String> placeCategories = categories.computeIfAbsent(place.placeId(), id -> new ArrayList<>(2));
+                if (!placeCategories.contains(result.category())) {
+                    placeCategories.add(result.category());
+                }
+            }
+        }
+
+        List<RankedPlace> ranked = new ArrayList<>(places.size());
+        for (Map.Entry<String, Place> entry : places.entrySet()) {
+            Place place = entry.getValue();
+            ranked.add(new RankedPlace(place, List.copyOf(categories.get(entry.getKey())),
+                    distanceMeters(latitude, longitude, place.latitude(), place.longitude())));
+        }
+        ranked.sort(RANKING);
+        return new MultiCategoryPlaceResponse(ranked, failedCategories);
+    }
+
+    // 두 좌표 사이의 대원 거리 (haversine)
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private record CategoryResult(String category, List<Place> places) {
+    }
+}
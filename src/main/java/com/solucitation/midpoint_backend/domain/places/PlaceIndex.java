@@ -0,0 +1,531 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solucitation.midpoint_backend.domain.history2.repository.PlaceInfoRepositoryV2;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지금까지 알게 된 장소를 메모리에 올려 두고 반경·카테고리 검색을 구글 호출 없이 처리하는 격자 인덱스입니다.
+ * 장소는 위경도 0.01° 셀 순으로 정렬한 기본형 배열(스냅샷)과, 마지막 재구성 이후 들어온 장소를 담는 델타에 나눠 둡니다.
+ * 장소는 좌표가 있는 place_info 행, places.index.import-path 의 NDJSON 파일, 구글 Nearby Search 결과에서 모읍니다.
+ * 셀·카테고리마다 마지막으로 채운 시각을 기록하고, 검색 반경의 셀이 모두 places.index.stale-after 안에 채워졌을 때만 로컬 결과를 씁니다.
+ * 구글 결과는 한 페이지(20개)를 다 채우지 못했을 때, 즉 반경 안의 장소를 모두 받았을 때만 채운 것으로 기록합니다.
+ */
+@Component
+public class PlaceIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceIndex.class);
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double METERS_PER_DEGREE = 111_320;
+    private static final int MAX_RESULTS = 20;
+    // Nearby Search 한 페이지 크기. 이만큼 오면 next_page_token 으로 더 받을 장소가 있을 수 있습니다.
+    private static final int GOOGLE_PAGE_SIZE = 20;
+
+    private static final List<String> CATEGORIES = MapService.categories();
+    private static final Map<String, Integer> TYPE_MASKS = typeMasks();
+
+    private final PlaceInfoRepositoryV2 placeInfoRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String importPath;
+    private final Duration staleAfter;
+    private final int batchSize;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final ConcurrentHashMap<String, IndexedPlace> delta = new ConcurrentHashMap<>();
+    // (셀 키 * 32 + 카테고리 순번) → 그 셀·카테고리를 마지막으로 채운 시각 (epoch millis)
+    private final ConcurrentHashMap<Long, Long> coverage = new ConcurrentHashMap<>();
+    private long lastPlaceInfoId;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    public PlaceIndex(PlaceInfoRepositoryV2 placeInfoRepository,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${places.index.enabled:true}") boolean enabled,
+                      @Value("${places.index.import-path:}") String importPath,
+                      @Value("${places.index.stale-after:7d}") Duration staleAfter,
+                      @Value("${places.index.batch-size:5000}") int batchSize) {
+        this.placeInfoRepository = placeInfoRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.importPath = importPath;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+
+        this.hits = Counter.builder("places.index.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("places.index.lookups").tag("result", "miss").register(meterRegistry);
+        this.stale = Counter.builder("places.index.lookups").tag("result", "stale").register(meterRegistry);
+        Gauge.builder("places.index.size", this, index -> index.snapshot.places.length + index.delta.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가져오기 파일을 읽습니다. 파일에 셀의 장소가 모두 들어 있다는 보장이 없으므로 채움 기록은 남기지 않습니다.
+     * 가져온 장소는 구글로 채운 셀의 검색 결과와 구글 호출이 실패했을 때의 대체 결과에 함께 쓰입니다.
+     * 가져온 장소는 델타를 거치지 않고 바로 스냅샷에 넣습니다. ConcurrentHashMap 은 비워도 테이블이 줄지 않아,
+     * 수십만 개를 델타에 넣었다 빼면 이후 검색마다 빈 테이블 전체를 훑게 됩니다.
+     */
+    @PostConstruct
+    public void loadImportFile() {
+        if (!enabled || importPath.isBlank()) {
+            return;
+        }
+
+        Path path = Path.of(importPath);
+        if (!Files.isReadable(path)) {
+            logger.warn("Place import file is not readable: {}", path);
+            return;
+        }
+
+        Map<String, IndexedPlace> imported = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Place place = objectMapper.readValue(line, Place.class);
+                if (place.placeId() == null) {
+                    continue;
+                }
+                imported.put(place.placeId(), new IndexedPlace(place, categoryMaskOf(place.types())));
+            }
+        } catch (IOException e) {
+            logger.error("Failed to load place import file {}: {}", path, e.getMessage(), e);
+        }
+        rebuild(imported);
+        logger.info("Loaded {} places from {}", imported.size(), path);
+    }
+
+    /**
+     * 마지막으로 읽은 이후 저장된 place_info 행을 가져오고, 델타가 쌓였으면 스냅샷을 다시 만듭니다.
+     * place_info 의 image_url 은 구글 photo_reference 가 아닌 S3 URL 이므로 photo 는 비워 두고,
+     * 구글에서 받아 이미 인덱스에 있는 장소는 덮어쓰지 않습니다. 오래된 채움 기록도 여기서 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${places.index.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<PlaceInfoRepositoryV2.PlaceLocation> rows;
+            do {
+                rows = placeInfoRepository.findLocatedAfter(lastPlaceInfoId, PageRequest.of(0, batchSize));
+                for (PlaceInfoRepositoryV2.PlaceLocation row : rows) {
+                    Place place = new Place(row.getName(), row.getAddress(), row.getLatitude(), row.getLongitude(),
+                            row.getTypes(), row.getPlaceId(), null);
+                    if (!contains(place)) {
+                        add(place);
+                    }
+                    lastPlaceInfoId = row.getId();
+                }
+            } while (rows.size() == batchSize);
+        } catch (Exception e) {
+            // DB 를 읽지 못해도 이미 올라간 인덱스로 계속 응답합니다.
+            logger.warn("Failed to load place_info rows into index: {}", e.getMessage());
+        }
+
+        long expired = System.currentTimeMillis() - staleAfter.toMillis();
+        coverage.values().removeIf(filledAt -> filledAt < expired);
+
+        if (!delta.isEmpty()) {
+            rebuild(Map.of());
+        }
+    }
+
+    /**
+     * 반경 안의 카테고리 장소를 가까운 순으로 최대 20개 찾습니다.
+     *
+     * @return 장소 목록, 반경 안에 오래된 셀이 있거나 찾은 장소가 없으면 null (구글로 조회해야 함)
+     */
+    public List<Place> search(double latitude, double longitude, int radius, String category) {
+        if (!enabled) {
+            return null;
+        }
+        int categoryIndex = categoryIndex(category);
+        CellRange range = CellRange.around(latitude, longitude, radius);
+        if (!filledSince(latitude, longitude, radius, categoryIndex, range, System.currentTimeMillis() - staleAfter.toMillis())) {
+            stale.increment();
+            return null;
+        }
+
+        List<Place> places = nearest(latitude, longitude, radius, 1 << categoryIndex, range);
+        if (places == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return places;
+    }
+
+    /**
+     * 검색 반경의 셀이 모두 maxAge 안에 해당 카테고리로 채워졌는지 확인합니다.
+     */
+    public boolean isFresh(double latitude, double longitude, int radius, String category, Duration maxAge) {
+        CellRange range = CellRange.around(latitude, longitude, radius);
+        return filledSince(latitude, longitude, radius, categoryIndex(category), range,
+                System.currentTimeMillis() - maxAge.toMillis());
+    }
+
+    /**
+     * 셀이 오래됐는지와 상관없이 인덱스에 있는 장소를 찾습니다. 구글 호출이 실패했을 때의 대체 결과로 씁니다.
+     *
+     * @return 장소 목록, 찾은 장소가 없으면 null
+     */
+    public List<Place> searchIgnoringStaleness(double latitude, double longitude, int radius, String category) {
+        if (!enabled) {
+            return null;
+        }
+        CellRange range = CellRange.around(latitude, longitude, radius);
+        return nearest(latitude, longitude, radius, 1 << categoryIndex(category), range);
+    }
+
+    /**
+     * 장소 타입(JSON 배열 문자열)이 속하는 카테고리 목록을 반환합니다.
+     */
+    List<String> categoriesOf(String types) {
+        int mask = categoryMaskOf(types);
+        List<String> categories = new ArrayList<>(Integer.bitCount(mask));
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                categories.add(CATEGORIES.get(i));
+            }
+        }
+        return categories;
+    }
+
+    private boolean filledSince(double latitude, double longitude, int radius, int categoryIndex, CellRange range, long since) {
+        for (int latCell = range.latMin; latCell <= range.latMax; latCell++) {
+            for (int lngCell = range.lngMin; lngCell <= range.lngMax; lngCell++) {
+                if (!range.covers(latCell, lngCell, latitude, longitude, radius)) {
+                    continue;
+                }
+                Long filledAt = coverage.get(cellKey(latCell, lngCell) * 32 + categoryIndex);
+                if (filledAt == null || filledAt < since) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<Place> nearest(double latitude, double longitude, int radius, int categoryBit, CellRange range) {
+        Nearest nearest = new Nearest();
+        Snapshot current = snapshot;
+        boolean checkDelta = !delta.isEmpty();
+        for (int latCell = range.latMin; latCell <= range.latMax; latCell++) {
+            long to = cellKey(latCell, range.lngMax);
+            for (int cell = lowerBound(current.cells, cellKey(latCell, range.lngMin));
+                 cell < current.cells.length && current.cells[cell] <= to; cell++) {
+                for (int i = current.cellStart[cell]; i < current.cellStart[cell + 1]; i++) {
+                    // 카테고리 비트와 경계 상자로 먼저 거르고, 남은 후보만 대원 거리를 계산합니다.
+                    if ((current.categoryMasks[i] & categoryBit) == 0
+                            || Math.abs(current.latitudes[i] - latitude) > range.dLat
+                            || Math.abs(current.longitudes[i] - longitude) > range.dLng) {
+                        continue;
+                    }
+                    double distance = PlaceFanOutService.distanceMeters(latitude, longitude,
+                            current.latitudes[i], current.longitudes[i]);
+                    // 델타에 더 새로운 정보가 있으면 스냅샷 항목은 건너뜁니다.
+                    if (distance <= radius && !(checkDelta && delta.containsKey(current.places[i].placeId()))) {
+                        nearest.offer(current.places[i], distance);
+                    }
+                }
+            }
+        }
+        // 비어 있어도 ConcurrentHashMap 순회는 테이블 전체를 훑으므로 델타가 있을 때만 돕니다.
+        if (checkDelta) {
+            for (IndexedPlace indexed : delta.values()) {
+                if ((indexed.categoryMask() & categoryBit) == 0) {
+                    continue;
+                }
+                Place place = indexed.place();
+                double distance = PlaceFanOutService.distanceMeters(latitude, longitude, place.latitude(), place.longitude());
+                if (distance <= radius) {
+                    nearest.offer(place, distance);
+                }
+            }
+        }
+
+        return nearest.size == 0 ? null : List.of(Arrays.copyOf(nearest.places, nearest.size));
+    }
+
+    /**
+     * 구글에서 받은 검색 결과를 인덱스에 넣고, 검색 반경 안에 통째로 들어가는 셀을 해당 카테고리에 대해 채워진 것으로 기록합니다.
+     * 반경에 일부만 걸친 셀은 구글이 훑지 않은 부분이 있으므로 기록하지 않습니다.
+     * 결과가 한 페이지를 가득 채웠으면 반경 안에 받지 못한 장소가 더 있을 수 있으므로, 장소만 넣고 채움 기록은 남기지 않습니다.
+     */
+    public void record(double latitude, double longitude, int radius, String category, List<Place> places) {
+        if (!enabled) {
+            return;
+        }
+        int categoryIndex = categoryIndex(category);
+        places.forEach(this::add);
+        if (places.size() >= GOOGLE_PAGE_SIZE) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        CellRange range = CellRange.around(latitude, longitude, radius);
+        for (int latCell = range.latMin; latCell <= range.latMax; latCell++) {
+            for (int lngCell = range.lngMin; lngCell <= range.lngMax; lngCell++) {
+                if (range.containsWholly(latCell, lngCell, latitude, longitude, radius)) {
+                    coverage.merge(cellKey(latCell, lngCell) * 32 + categoryIndex, now, Math::max);
+                }
+            }
+        }
+    }
+
+    // 델타나 스냅샷(장소가 속한 셀)에 이미 있는 장소인지 확인합니다.
+    private boolean contains(Place place) {
+        if (place.placeId() == null || delta.containsKey(place.placeId())) {
+            return place.placeId() != null;
+        }
+        Snapshot current = snapshot;
+        long key = cellKey(latCell(place.latitude()), lngCell(place.longitude()));
+        int cell = lowerBound(current.cells, key);
+        if (cell == current.cells.length || current.cells[cell] != key) {
+            return false;
+        }
+        for (int i = current.cellStart[cell]; i < current.cellStart[cell + 1]; i++) {
+            if (place.placeId().equals(current.places[i].placeId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(Place place) {
+        if (place.placeId() == null) {
+            return;
+        }
+        delta.put(place.placeId(), new IndexedPlace(place, categoryMaskOf(place.types())));
+    }
+
+    /**
+     * 현재 스냅샷과 가져온 장소, 델타를 합쳐 셀 순으로 정렬한 새 스냅샷을 만들어 교체합니다.
+     */
+    private synchronized void rebuild(Map<String, IndexedPlace> imported) {
+        Map<String, IndexedPlace> pending = new HashMap<>(imported);
+        pending.putAll(delta);
+        Snapshot current = snapshot;
+
+        int size = pending.size();
+        for (Place place : current.places) {
+            if (!pending.containsKey(place.placeId())) {
+                size++;
+            }
+        }
+
+        Place[] places = new Place[size];
+        int[] masks = new int[size];
+        int n = 0;
+        for (int i = 0; i < current.places.length; i++) {
+            if (!pending.containsKey(current.places[i].placeId())) {
+                places[n] = current.places[i];
+                masks[n++] = current.categoryMasks[i];
+            }
+        }
+        for (IndexedPlace indexed : pending.values()) {
+            places[n] = indexed.place();
+            masks[n++] = indexed.categoryMask();
+        }
+
+        // 상위 32비트에 셀 키, 하위 32비트에 원래 위치를 넣어 기본형 정렬 한 번으로 셀 순서를 만듭니다.
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = cellKey(latCell(places[i].latitude()), lngCell(places[i].longitude())) << 32 | i;
+        }
+        Arrays.sort(order);
+
+        Place[] sortedPlaces = new Place[size];
+        int[] sortedMasks = new int[size];
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        long[] cells = new long[size];
+        int[] cellStart = new int[size + 1];
+        int cellCount = 0;
+        for (int i = 0; i < size; i++) {
+            long cell = order[i] >>> 32;
+            int source = (int) order[i];
+            if (cellCount == 0 || cells[cellCount - 1] != cell) {
+                cells[cellCount] = cell;
+                cellStart[cellCount++] = i;
+            }
+            sortedPlaces[i] = places[source];
+            sortedMasks[i] = masks[source];
+            latitudes[i] = places[source].latitude();
+            longitudes[i] = places[source].longitude();
+        }
+        cellStart[cellCount] = size;
+
+        snapshot = new Snapshot(Arrays.copyOf(cells, cellCount), Arrays.copyOf(cellStart, cellCount + 1),
+                latitudes, longitudes, sortedMasks, sortedPlaces);
+        // 재구성 중에 다시 들어온 장소는 다음 재구성 때 반영되도록 델타에 남깁니다.
+        pending.forEach(delta::remove);
+        logger.info("Rebuilt place index: {} places in {} cells", size, cellCount);
+    }
+
+    private int categoryMaskOf(String types) {
+        if (types == null || types.isBlank()) {
+            return 0;
+        }
+        try {
+            int mask = 0;
+            for (String type : objectMapper.readValue(types, String[].class)) {
+                mask |= TYPE_MASKS.getOrDefault(type, 0);
+            }
+            return mask;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int categoryIndex(String category) {
+        int index = CATEGORIES.indexOf(category);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid category: " + category);
+        }
+        return index;
+    }
+
+    private static Map<String, Integer> typeMasks() {
+        Map<String, Integer> masks = new HashMap<>();
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            for (String type : MapService.placeTypesOf(CATEGORIES.get(i)).split("\\|")) {
+                masks.merge(type, 1 << i, (a, b) -> a | b);
+            }
+        }
+        return masks;
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(LAT_CELLS - 1, Math.max(0, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+    }
+
+    private static int lngCell(double longitude) {
+        return Math.min(LNG_CELLS - 1, Math.max(0, (int) Math.floor((longitude + 180) / CELL_DEGREES)));
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return (long) latCell * LNG_CELLS + lngCell;
+    }
+
+    private static int lowerBound(long[] values, long key) {
+        int index = Arrays.binarySearch(values, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private record IndexedPlace(Place place, int categoryMask) {
+    }
+
+    /**
+     * 셀 순으로 정렬한 장소 배열입니다. cells[c] 셀의 장소는 cellStart[c] 부터 cellStart[c + 1] 직전까지입니다.
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new int[]{0}, new double[0], new double[0], new int[0], new Place[0]);
+
+        final long[] cells;
+        final int[] cellStart;
+        final double[] latitudes;
+        final double[] longitudes;
+        final int[] categoryMasks;
+        final Place[] places;
+
+        Snapshot(long[] cells, int[] cellStart, double[] latitudes, double[] longitudes, int[] categoryMasks, Place[] places) {
+            this.cells = cells;
+            this.cellStart = cellStart;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.categoryMasks = categoryMasks;
+            this.places = places;
+        }
+    }
+
+    /**
+     * 검색 원을 감싸는 셀 범위입니다. 셀 중심이 원 안에 있거나 검색 좌표가 들어 있는 셀을 검색 반경의 셀로 보고,
+     * 네 꼭짓점이 모두 원 안에 있는 셀만 검색 반경에 통째로 들어간 셀로 봅니다.
+     */
+    private record CellRange(int latMin, int latMax, int lngMin, int lngMax, int centerLat, int centerLng,
+                             double dLat, double dLng) {
+
+        static CellRange around(double latitude, double longitude, int radius) {
+            double dLat = radius / METERS_PER_DEGREE;
+            double dLng = dLat / Math.max(0.01, Math.cos(Math.toRadians(latitude)));
+            return new CellRange(latCell(latitude - dLat), latCell(latitude + dLat),
+                    lngCell(longitude - dLng), lngCell(longitude + dLng),
+                    latCell(latitude), lngCell(longitude), dLat, dLng);
+        }
+
+        boolean covers(int latCell, int lngCell, double latitude, double longitude, int radius) {
+            if (latCell == centerLat && lngCell == centerLng) {
+                return true;
+            }
+            double cellLatitude = (latCell + 0.5) * CELL_DEGREES - 90;
+            double cellLongitude = (lngCell + 0.5) * CELL_DEGREES - 180;
+            return PlaceFanOutService.distanceMeters(latitude, longitude, cellLatitude, cellLongitude) <= radius;
+        }
+
+        boolean containsWholly(int latCell, int lngCell, double latitude, double longitude, int radius) {
+            for (int corner = 0; corner < 4; corner++) {
+                double cornerLatitude = (latCell + (corner >> 1)) * CELL_DEGREES - 90;
+                double cornerLongitude = (lngCell + (corner & 1)) * CELL_DEGREES - 180;
+                if (PlaceFanOutService.distanceMeters(latitude, longitude, cornerLatitude, cornerLongitude) > radius) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 거리순 상위 MAX_RESULTS 개를 삽입 정렬로 유지합니다.
+     */
+    private static final class Nearest {
+        final Place[] places = new Place[MAX_RESULTS];
+        final double[] distances = new double[MAX_RESULTS];
+        int size;
+
+        void offer(Place place, double distance) {
+            if (size == MAX_RESULTS && distance >= distances[size - 1]) {
+                return;
+            }
+            int i = size == MAX_RESULTS ? size - 1 : size++;
+            while (i > 0 && distances[i - 1] > distance) {
+                places[i] = places[i - 1];
+                distances[i] = distances[i - 1];
+                i--;
+            }
+            places[i] = place;
+            distances[i] = distance;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.solucitation.midpoint_backend.domain.history2.repository.PlaceInfoRepositoryV2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 장소별로 사용자가 검색 기록에 저장한 횟수를 메모리에 들고 있습니다. 순위 계산의 인기도 점수로 씁니다.
+ * 집계는 places.popularity.refresh-interval 마다 다시 읽어 통째로 교체합니다.
+ */
+@Component
+public class PlacePopularity {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlacePopularity.class);
+
+    private final PlaceInfoRepositoryV2 placeInfoRepository;
+    private volatile Map<String, Integer> picks = Map.of();
+
+    public PlacePopularity(PlaceInfoRepositoryV2 placeInfoRepository) {
+        this.placeInfoRepository = placeInfoRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${places.popularity.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            Map<String, Integer> counts = new HashMap<>();
+            for (PlaceInfoRepositoryV2.PlacePicks row : placeInfoRepository.countPicksByPlace()) {
+                counts.put(row.getPlaceId(), row.getPicks().intValue());
+            }
+            picks = counts;
+        } catch (Exception e) {
+            // 집계를 못 읽으면 이전 값으로 계속 순위를 매깁니다.
+            logger.warn("Failed to refresh place popularity: {}", e.getMessage());
+        }
+    }
+
+    public int picks(String placeId) {
+        Integer count = picks.get(placeId);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,169 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.solucitation.midpoint_backend.domain.logic.Coordinate;
+import com.solucitation.midpoint_backend.domain.logic.MidpointService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 참여자 좌표로 중간 지점을 구해 주변 장소를 찾고, 참여자 모두에게 공평한 순서로 다시 정렬합니다.
+ * 장소의 비용은 (가장 먼 참여자까지의 거리) + spread-weight × (가장 먼 참여자와 가장 가까운 참여자의 거리 차)
+ * − popularity-weight × ln(1 + 검색 기록 저장 횟수) 이며, 비용이 낮을수록 위에 옵니다.
+ * 후보마다 참여자 수만큼의 거리 계산은 기본형 배열과 지역 변수만 쓰고, 상위 K 개는 크기 K 의 최대 힙으로 고릅니다.
+ */
+@Service
+public class PlaceRankingService {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private final MidpointService midpointService;
+    private final MapService mapService;
+    private final PlacePopularity placePopularity;
+    private final double spreadWeight;
+    private final double popularityWeight;
+
+    public PlaceRankingService(MidpointService midpointService, MapService mapService, PlacePopularity placePopularity,
+                               @Value("${places.ranking.spread-weight:0.5}") double spreadWeight,
+                               @Value("${places.ranking.popularity-weight:200}") double popularityWeight) {
+        this.midpointService = midpointService;
+        this.mapService = mapService;
+        this.placePopularity = placePopularity;
+        this.spreadWeight = spreadWeight;
+        this.popularityWeight = popularityWeight;
+    }
+
+    public List<ScoredPlace> findRankedPlaces(String strategy, double[] latitudes, double[] longitudes,
+                                              int radius, String category, int limit) {
+        Coordinate midpoint = midpointService.calculate(strategy, latitudes, longitudes);
+        List<Place> candidates = mapService.findPlaces(midpoint.getLatitude(), midpoint.getLongitude(), radius, category);
+        return rank(latitudes, longitudes, candidates, limit);
+    }
+
+    /**
+     * 후보 장소를 비용이 낮은 순으로 최대 limit 개 반환합니다.
+     */
+    public List<ScoredPlace> rank(double[] latitudes, double[] longitudes, List<Place> candidates, int limit) {
+        int participants = latitudes.length;
+        double[] participantLatitudes = new double[participants];
+        double[] participantLongitudes = new double[participants];
+        double[] participantCos = new double[participants];
+        for (int i = 0; i < participants; i++) {
+            participantLatitudes[i] = Math.toRadians(latitudes[i]);
+            participantLongitudes[i] = Math.toRadians(longitudes[i]);
+            participantCos[i] = Math.cos(participantLatitudes[i]);
+        }
+
+        // 비용이 가장 큰 후보가 루트에 오는 최대 힙입니다. 더 나은 후보가 오면 루트를 밀어냅니다.
+        int k = Math.min(limit, candidates.size());
+        int[] heap = new int[k];
+        double[] heapCost = new double[k];
+        int size = 0;
+        for (int c = 0; c < candidates.size(); c++) {
+            Place place = candidates.get(c);
+            double cost = cost(place, participantLatitudes, participantLongitudes, participantCos);
+            if (size < k) {
+                heap[size] = c;
+                heapCost[size] = cost;
+                siftUp(heap, heapCost, size++);
+            } else if (k > 0 && cost < heapCost[0]) {
+                heap[0] = c;
+                heapCost[0] = cost;
+                siftDown(heap, heapCost, size);
+            }
+        }
+
+        // 루트(가장 큰 비용)부터 꺼내 뒤에서부터 채우면 비용 오름차순이 됩니다.
+        ScoredPlace[] ranked = new ScoredPlace[size];
+        while (size > 0) {
+            int c = heap[0];
+            double cost = heapCost[0];
+            size--;
+            heap[0] = heap[size];
+            heapCost[0] = heapCost[size];
+            siftDown(heap, heapCost, size);
+            ranked[size] = describe(candidates.get(c), cost, participantLatitudes, participantLongitudes, participantCos);
+        }
+        return List.of(ranked);
+    }
+
+    private double cost(Place place, double[] latitudes, double[] longitudes, double[] cosines) {
+        double latitude = Math.toRadians(place.latitude());
+        double longitude = Math.toRadians(place.longitude());
+        double cos = Math.cos(latitude);
+        double max = 0;
+        double min = Double.MAX_VALUE;
+        for (int i = 0; i < latitudes.length; i++) {
+            double distance = distance(latitude, longitude, cos, latitudes[i], longitudes[i], cosines[i]);
+            max = Math.max(max, distance);
+            min = Math.min(min, distance);
+        }
+        return max + spreadWeight * (max - min) - popularityWeight * Math.log1p(placePopularity.picks(place.placeId()));
+    }
+
+    // 상위 K 개에 든 후보만 응답에 필요한 값을 다시 계산합니다.
+    private ScoredPlace describe(Place place, double cost, double[] latitudes, double[] longitudes, double[] cosines) {
+        double latitude = Math.toRadians(place.latitude());
+        double longitude = Math.toRadians(place.longitude());
+        double cos = Math.cos(latitude);
+        double max = 0;
+        double min = Double.MAX_VALUE;
+        double sum = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            double distance = distance(latitude, longitude, cos, latitudes[i], longitudes[i], cosines[i]);
+            max = Math.max(max, distance);
+            min = Math.min(min, distance);
+            sum += distance;
+        }
+        return new ScoredPlace(place, cost, max, sum / latitudes.length, max - min, placePopularity.picks(place.placeId()));
+    }
+
+    // 라디안 좌표와 미리 계산한 cos(위도)로 구하는 대원 거리 (haversine)
+    private static double distance(double lat1, double lng1, double cos1, double lat2, double lng2, double cos2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLng = Math.sin((lng2 - lng1) / 2);
+        double a = sinLat * sinLat + cos1 * cos2 * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static void siftUp(int[] heap, double[] cost, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (cost[parent] >= cost[index]) {
+                return;
+            }
+            swap(heap, cost, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, double[] cost, int size) {
+        int index = 0;
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && cost[left] > cost[largest]) {
+                largest = left;
+            }
+            if (right < size && cost[right] > cost[largest]) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(heap, cost, largest, index);
+            index = largest;
+        }
+    }
+
+    private static void swap(int[] heap, double[] cost, int a, int b) {
+        int candidate = heap[a];
+        heap[a] = heap[b];
+        heap[b] = candidate;
+        double value = cost[a];
+        cost[a] = cost[b];
+        cost[b] = value;
+    }
+}
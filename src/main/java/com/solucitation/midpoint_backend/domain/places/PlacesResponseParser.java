@@ -0,0 +1,192 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nearby Search 응답을 JsonNode 트리 없이 스트리밍으로 읽어 Place 목록으로 변환합니다.
+ * 필요한 필드(name, vicinity, geometry.location, types, place_id, 첫 번째 photos.photo_reference)만 읽고
+ * 나머지 필드(opening_hours, plus_code, 나머지 사진 등)는 토큰 단위로 건너뜁니다.
+ */
+@Component
+public class PlacesResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public PlacesResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public List<Place> parse(InputStream inputStream) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            return parse(parser);
+        }
+    }
+
+    public List<Place> parse(byte[] content) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(content)) {
+            return parse(parser);
+        }
+    }
+
+    private List<Place> parse(JsonParser parser) throws IOException {
+        List<Place> places = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Unexpected places response: root is not an object");
+        }
+
+        String status = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("status".equals(field) && value == JsonToken.VALUE_STRING) {
+                status = parser.getText();
+            } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        places.add(parsePlace(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        // 할당량 초과·키 거부 같은 상태는 HTTP 200 으로 오므로 빈 결과와 구분해 실패로 처리합니다.
+        if (status != null && !"OK".equals(status) && !"ZERO_RESULTS".equals(status)) {
+            throw new IOException("Places API returned status " + status);
+        }
+        return List.copyOf(places);
+    }
+
+    private Place parsePlace(JsonParser parser) throws IOException {
+        // 필드가 없을 때의 기본값은 기존 JsonNode.asText()/asDouble() 결과와 같습니다.
+        String name = "";
+        String address = "";
+        double latitude = 0;
+        double longitude = 0;
+        String types = "";
+        String placeId = "";
+        String photo = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = text(parser, value);
+                case "vicinity" -> address = text(parser, value);
+                case "place_id" -> placeId = text(parser, value);
+                case "types" -> types = value == JsonToken.START_ARRAY ? typesOf(parser) : skipToText(parser);
+                case "photos" -> photo = value == JsonToken.START_ARRAY ? firstPhotoReference(parser) : skipToNull(parser);
+                case "geometry" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        double[] location = locationOf(parser);
+                        latitude = location[0];
+                        longitude = location[1];
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new Place(name, address, latitude, longitude, types, placeId, photo);
+    }
+
+    // geometry 객체에서 location.lat, location.lng 만 읽습니다.
+    private double[] locationOf(JsonParser parser) throws IOException {
+        double[] location = new double[2];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("location".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String coordinate = parser.currentName();
+                    JsonToken number = parser.nextToken();
+                    if ("lat".equals(coordinate) && number.isNumeric()) {
+                        location[0] = parser.getDoubleValue();
+                    } else if ("lng".equals(coordinate) && number.isNumeric()) {
+                        location[1] = parser.getDoubleValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return location;
+    }
+
+    // types 배열을 기존 응답과 같은 JSON 배열 문자열(["cafe","food"])로 만듭니다.
+    private String typesOf(JsonParser parser) throws IOException {
+        StringBuilder types = new StringBuilder("[");
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                parser.skipChildren();
+                continue;
+            }
+            if (types.length() > 1) {
+                types.append(',');
+            }
+            types.append('"');
+            encoder.quoteAsString(parser.getText(), types);
+            types.append('"');
+        }
+        return types.append(']').toString();
+    }
+
+    // 첫 번째 사진의 photo_reference 만 읽고 나머지 사진은 건너뜁니다.
+    private String firstPhotoReference(JsonParser parser) throws IOException {
+        String photo = null;
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            first = false;
+            photo = "";
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("photo_reference".equals(field)) {
+                    photo = text(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return photo;
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return "";
+    }
+
+    private static String skipToText(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return "";
+    }
+
+    private static String skipToNull(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+/**
+ * 여러 카테고리 검색 결과를 합친 장소입니다. 장소 필드는 /api/places 응답과 같은 모양으로 펼쳐서 내려줍니다.
+ *
+ * @param categories 이 장소가 검색된 카테고리 목록
+ * @param distance 중간 지점으로부터의 거리 (미터)
+ */
+public record RankedPlace(
+        @JsonUnwrapped Place place,
+        List<String> categories,
+        double distance
+) {
+}
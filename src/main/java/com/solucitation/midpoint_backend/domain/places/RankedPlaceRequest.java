@@ -0,0 +1,79 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.solucitation.midpoint_backend.domain.logic.MidpointService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class RankedPlaceRequest {
+    @NotNull(message = "위도 목록은 필수입니다.")
+    @Size(min = 2, max = 20, message = "장소의 개수가 2에서 20 사이여야 합니다.")
+    private double[] latitudes;
+
+    @NotNull(message = "경도 목록은 필수입니다.")
+    @Size(min = 2, max = 20, message = "장소의 개수가 2에서 20 사이여야 합니다.")
+    private double[] longitudes;
+
+    @NotNull(message = "카테고리는 필수입니다.")
+    private String category;
+
+    private int radius = 1000; // 기본값은 1km로 설정
+
+    @Min(value = 1, message = "limit은 1 이상이어야 합니다.")
+    @Max(value = 20, message = "limit은 20 이하여야 합니다.")
+    private int limit = 10;
+
+    private String strategy = MidpointService.DEFAULT_STRATEGY; // centroid, median, minimax
+
+    public RankedPlaceRequest() {
+    }
+
+    public double[] getLatitudes() {
+        return latitudes;
+    }
+
+    public void setLatitudes(double[] latitudes) {
+        this.latitudes = latitudes;
+    }
+
+    public double[] getLongitudes() {
+        return longitudes;
+    }
+
+    public void setLongitudes(double[] longitudes) {
+        this.longitudes = longitudes;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public void setRadius(int radius) {
+        this.radius = radius;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+}
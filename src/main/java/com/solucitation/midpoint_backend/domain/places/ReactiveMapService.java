@@ -0,0 +1,117 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import com.solucitation.midpoint_backend.global.util.ReactiveSingleFlight;
+import com.solucitation.midpoint_backend.global.util.UpstreamGuard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * MapService 의 논블로킹 버전입니다. 구글 호출은 WebClient 로 처리해 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ * 캐시와 동시 요청 합치기는 MapService 와 같은 PlaceCache 를 공유합니다.
+ */
+@Service
+public class ReactiveMapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMapService.class);
+
+    @Value("${google.api.key}")
+    private String apiKey;
+
+    private final WebClient webClient;
+    private final PlaceCache placeCache;
+    private final PlaceIndex placeIndex;
+    private final UpstreamGuard placesGuard;
+    private final PlacesResponseParser placesResponseParser;
+    private final ReactiveSingleFlight<String, List<Place>> placesFlight = new ReactiveSingleFlight<>();
+
+    public ReactiveMapService(@Qualifier("googleWebClient") WebClient webClient, PlaceCache placeCache,
+                              PlaceIndex placeIndex, @Qualifier("placesGuard") UpstreamGuard placesGuard,
+                              PlacesResponseParser placesResponseParser) {
+        this.webClient = webClient;
+        this.placeCache = placeCache;
+        this.placeIndex = placeIndex;
+        this.placesGuard = placesGuard;
+        this.placesResponseParser = placesResponseParser;
+    }
+
+    public Mono<List<Place>> findPlaces(double latitude, double longitude, int radius, String category) {
+        String placeTypes;
+        try {
+            placeTypes = MapService.placeTypesOf(category);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        String cacheKey = placeCache.key(latitude, longitude, radius, category);
+        List<Place> cached = placeCache.getLocal(cacheKey);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        List<Place> indexed = placeIndex.search(latitude, longitude, radius, category);
+        if (indexed != null) {
+            return Mono.just(indexed);
+        }
+
+        return placesFlight.execute(cacheKey, () -> sharedCache(cacheKey)
+                .switchIfEmpty(fetchPlaces(latitude, longitude, radius, placeTypes)
+                        .doOnNext(places -> {
+                            store(cacheKey, places);
+                            placeIndex.record(latitude, longitude, radius, category, places);
+                        })))
+                .onErrorResume(UpstreamUnavailableException.class, e -> {
+                    // 구글을 쓸 수 없으면 오래된 셀이라도 인덱스에 있는 장소로 응답합니다.
+                    List<Place> fallback = placeIndex.searchIgnoringStaleness(latitude, longitude, radius, category);
+                    if (fallback == null) {
+                        return Mono.error(e);
+                    }
+                    logger.warn("Serving indexed places because Google is unavailable: {}", e.getMessage());
+                    return Mono.just(fallback);
+                });
+    }
+
+    private Mono<List<Place>> fetchPlaces(double latitude, double longitude, int radius, String placeTypes) {
+        String url = MapService.nearbySearchUrl(latitude, longitude, radius, placeTypes, apiKey);
+
+        return placesGuard.callAsync(() -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .bodyToMono(byte[].class)
+                        .<List<Place>>handle((body, sink) -> {
+                            try {
+                                sink.next(placesResponseParser.parse(body));
+                            } catch (IOException e) {
+                                sink.error(e);
+                            }
+                        }))
+                .doOnError(e -> logger.error("An error occurred while fetching places: {}", e.getMessage()));
+    }
+
+    private Mono<List<Place>> sharedCache(String cacheKey) {
+        if (!placeCache.isRedisEnabled()) {
+            return Mono.empty();
+        }
+        // Redis 클라이언트 호출은 블로킹이므로 boundedElastic 스케줄러에서 조회합니다.
+        return Mono.fromCallable(() -> placeCache.get(cacheKey))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void store(String cacheKey, List<Place> places) {
+        if (!placeCache.isRedisEnabled()) {
+            placeCache.put(cacheKey, places);
+            return;
+        }
+        Mono.fromRunnable(() -> placeCache.put(cacheKey, places))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+}
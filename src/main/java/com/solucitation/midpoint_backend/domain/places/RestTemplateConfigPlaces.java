@@ -1,14 +1,18 @@
 package com.solucitation.midpoint_backend.domain.places;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfigPlaces {
 
     @Bean(name = "placesRestTemplate")
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(@Qualifier("outboundHttpClient") CloseableHttpClient httpClient) {
+        // 공용 커넥션 풀을 사용하는 HTTP 클라이언트 (HttpClientConfig)
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
     }
 }
\ No newline at end of file
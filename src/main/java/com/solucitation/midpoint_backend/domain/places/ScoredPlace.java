@@ -0,0 +1,22 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * 참여자 기준으로 순위를 매긴 장소입니다. 장소 필드는 /api/places 응답과 같은 모양으로 펼쳐서 내려줍니다.
+ *
+ * @param score 순위 비용 (낮을수록 위, 미터 단위)
+ * @param maxDistance 가장 먼 참여자까지의 거리 (미터)
+ * @param meanDistance 참여자까지의 평균 거리 (미터)
+ * @param distanceSpread 가장 먼 참여자와 가장 가까운 참여자의 거리 차 (미터)
+ * @param picks 사용자들이 검색 기록에 저장한 횟수
+ */
+public record ScoredPlace(
+        @JsonUnwrapped Place place,
+        double score,
+        double maxDistance,
+        double meanDistance,
+        double distanceSpread,
+        int picks
+) {
+}
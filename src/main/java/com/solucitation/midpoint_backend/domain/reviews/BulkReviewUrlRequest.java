@@ -0,0 +1,24 @@
+package com.solucitation.midpoint_backend.domain.reviews;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkReviewUrlRequest {
+    @NotNull(message = "placeId 목록은 필수입니다.")
+    @Size(min = 1, max = 100, message = "placeId의 개수가 1에서 100 사이여야 합니다.")
+    private List<@NotBlank(message = "placeId는 비어 있을 수 없습니다.") String> placeIds;
+
+    public BulkReviewUrlRequest() {
+    }
+
+    public List<String> getPlaceIds() {
+        return placeIds;
+    }
+
+    public void setPlaceIds(List<String> placeIds) {
+        this.placeIds = placeIds;
+    }
+}
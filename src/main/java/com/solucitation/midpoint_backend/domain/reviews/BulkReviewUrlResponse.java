@@ -0,0 +1,14 @@
+package com.solucitation.midpoint_backend.domain.reviews;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param urls 요청 순서대로 담은 placeId → 구글 지도 URL
+ * @param failedPlaceIds URL 을 찾지 못했거나 구글 호출에 실패한 placeId 목록
+ */
+public record BulkReviewUrlResponse(
+        Map<String, String> urls,
+        List<String> failedPlaceIds
+) {
+}
@@ -0,0 +1,175 @@
+package com.solucitation.midpoint_backend.domain.reviews;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * placeId 별 Place Details 의 구글 지도 URL 을 캐시합니다.
+ * URL 은 거의 바뀌지 않으므로 Redis 에 긴 TTL 로 보관하고, 자주 보는 항목은 프로세스 내 Caffeine 캐시에 한 번 더 둡니다.
+ * 구글이 없는 장소라고 답한 placeId 는 reviews.negative-cache.ttl 동안 따로 기억해 같은 잘못된 요청을 다시 보내지 않습니다.
+ * 적중/미스/축출 지표는 Micrometer 로 노출합니다 (cache.gets, cache.evictions, reviews.cache.redis).
+ */
+@Component
+public class PlaceDetailsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceDetailsCache.class);
+
+    private static final String KEY_PREFIX = "place-details:";
+
+    private final Cache<String, String> localCache;
+    private final Cache<String, Boolean> invalidPlaceIds;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public PlaceDetailsCache(@Qualifier("cacheRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${reviews.cache.maximum-size:50000}") long maximumSize,
+                             @Value("${reviews.cache.ttl:1h}") Duration localTtl,
+                             @Value("${reviews.cache.redis.enabled:true}") boolean redisEnabled,
+                             @Value("${reviews.cache.redis.ttl:30d}") Duration redisTtl,
+                             @Value("${reviews.negative-cache.maximum-size:10000}") long negativeMaximumSize,
+                             @Value("${reviews.negative-cache.ttl:1h}") Duration negativeTtl) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "placeDetails");
+
+        this.invalidPlaceIds = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, invalidPlaceIds, "invalidPlaceIds");
+
+        this.redisHits = Counter.builder("reviews.cache.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("reviews.cache.redis").tag("result", "miss").register(meterRegistry);
+        this.redisErrors = Counter.builder("reviews.cache.redis").tag("result", "error").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 URL 을 찾습니다. 로컬에 없고 Redis 에 있으면 로컬에도 채웁니다.
+     *
+     * @return 캐시된 URL, 없으면 null
+     */
+    public String get(String placeId) {
+        String url = localCache.getIfPresent(placeId);
+        if (url != null || !redisEnabled) {
+            return url;
+        }
+
+        try {
+            url = redisTemplate.opsForValue().get(KEY_PREFIX + placeId);
+            if (url == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            localCache.put(placeId, url);
+            return url;
+        } catch (Exception e) {
+            // Redis 장애 시에는 캐시 없이 구글 API 로 진행합니다.
+            redisErrors.increment();
+            logger.warn("Failed to read place details cache from redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 여러 placeId 를 한 번에 찾습니다. 로컬에 없는 것만 Redis MGET 한 번으로 조회합니다.
+     *
+     * @return 캐시에 있던 placeId → URL (없는 placeId 는 빠짐)
+     */
+    public Map<String, String> getAll(Collection<String> placeIds) {
+        Map<String, String> found = new HashMap<>(localCache.getAllPresent(placeIds));
+        if (!redisEnabled || found.size() == placeIds.size()) {
+            return found;
+        }
+
+        List<String> misses = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (String placeId : placeIds) {
+            if (!found.containsKey(placeId)) {
+                misses.add(placeId);
+                keys.add(KEY_PREFIX + placeId);
+            }
+        }
+
+        try {
+            List<String> urls = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < misses.size(); i++) {
+                String url = urls == null ? null : urls.get(i);
+                if (url == null) {
+                    redisMisses.increment();
+                    continue;
+                }
+                redisHits.increment();
+                localCache.put(misses.get(i), url);
+                found.put(misses.get(i), url);
+            }
+        } catch (Exception e) {
+            redisErrors.increment();
+            logger.warn("Failed to read place details cache from redis: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 로컬 캐시만 조회합니다. 블로킹 I/O 가 없으므로 논블로킹 경로에서 바로 호출할 수 있습니다.
+     */
+    public String getLocal(String placeId) {
+        return localCache.getIfPresent(placeId);
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void put(String placeId, String url) {
+        localCache.put(placeId, url);
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + placeId, url, redisTtl);
+        } catch (Exception e) {
+            redisErrors.increment();
+            logger.warn("Failed to write place details cache to redis: {}", e.getMessage());
+        }
+    }
+
+    public boolean isInvalid(String placeId) {
+        return invalidPlaceIds.getIfPresent(placeId) != null;
+    }
+
+    public void markInvalid(String placeId) {
+        invalidPlaceIds.put(placeId, Boolean.TRUE);
+    }
+}
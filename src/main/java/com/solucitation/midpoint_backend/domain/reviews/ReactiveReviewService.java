@@ -0,0 +1,163 @@
+package com.solucitation.midpoint_backend.domain.reviews;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import com.solucitation.midpoint_backend.global.util.ReactiveSingleFlight;
+import com.solucitation.midpoint_backend.global.util.UpstreamGuard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ReviewService 의 논블로킹 버전입니다. Place Details 호출을 WebClient 로 처리합니다.
+ * 캐시는 ReviewService 와 같은 PlaceDetailsCache 를 공유합니다.
+ */
+@Service
+public class ReactiveReviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReviewService.class);
+
+    @Value("${google.api.key}")
+    private String apiKey;
+
+    private final WebClient webClient;
+    private final PlaceDetailsCache placeDetailsCache;
+    private final UpstreamGuard reviewsGuard;
+    private final int bulkConcurrency;
+    private final ReactiveSingleFlight<String, String> reviewsFlight = new ReactiveSingleFlight<>();
+
+    public ReactiveReviewService(@Qualifier("googleWebClient") WebClient webClient, PlaceDetailsCache placeDetailsCache,
+                                 @Qualifier("reviewsGuard") UpstreamGuard reviewsGuard,
+                                 @Value("${reviews.bulk.max-concurrency:8}") int bulkConcurrency) {
+        this.webClient = webClient;
+        this.placeDetailsCache = placeDetailsCache;
+        this.reviewsGuard = reviewsGuard;
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
+    public Mono<Map<String, String>> getReviewUrl(String placeId) {
+        return resolve(placeId).map(url -> Map.of("url", url));
+    }
+
+    /**
+     * 여러 placeId 의 URL 을 한 번에 찾습니다. 캐시에 있는 것은 바로 쓰고, 없는 것만 동시에 구글로 조회합니다.
+     * 동시 호출 수는 reviews.bulk.max-concurrency 로 제한하며, 실패한 placeId 는 failedPlaceIds 로 따로 내려줍니다.
+     * 잘못된 placeId 로 기억해 둔 것과 서킷 브레이커가 열려 있을 때의 미스는 구글을 부르지 않고 바로 실패로 넣습니다.
+     */
+    public Mono<BulkReviewUrlResponse> getReviewUrls(List<String> placeIds) {
+        List<String> distinct = placeIds.stream().distinct().toList();
+
+        return cachedUrls(distinct)
+                .flatMap(cached -> Flux.fromIterable(distinct)
+                        .filter(placeId -> !cached.containsKey(placeId) && !placeDetailsCache.isInvalid(placeId))
+                        .flatMap(placeId -> fetchAndStore(placeId)
+                                .map(url -> new ResolvedUrl(placeId, url))
+                                .onErrorResume(e -> Mono.just(new ResolvedUrl(placeId, null))), bulkConcurrency)
+                        .collectList()
+                        .map(fetched -> merge(distinct, cached, fetched)));
+    }
+
+    private Mono<String> resolve(String placeId) {
+        String cached = placeDetailsCache.getLocal(placeId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        if (placeDetailsCache.isInvalid(placeId)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid placeId: " + placeId));
+        }
+        return sharedCache(placeId).switchIfEmpty(fetchAndStore(placeId));
+    }
+
+    private Mono<String> fetchAndStore(String placeId) {
+        // 같은 placeId 로 동시에 들어온 요청은 Place Details 호출 한 번을 함께 기다립니다.
+        return reviewsFlight.execute(placeId, () -> fetchReviewUrl(placeId)
+                .doOnNext(url -> store(placeId, url)));
+    }
+
+    private Mono<String> fetchReviewUrl(String placeId) {
+        String url = ReviewService.detailsUrl(placeId, apiKey);
+
+        return reviewsGuard.callAsync(() -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .map(jsonResponse -> Optional.ofNullable(ReviewService.placeUrlOrNull(jsonResponse))))
+                .onErrorMap(UpstreamUnavailableException.class, e -> {
+                    // 구글 장애는 잘못된 placeId 와 구분해 503 으로 응답합니다.
+                    logger.error("Error retrieving place details for placeId: {}: {}", placeId, e.getMessage());
+                    return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Place details are temporarily unavailable", e);
+                })
+                .flatMap(placeUrl -> {
+                    if (placeUrl.isEmpty()) {
+                        logger.error("No URL found for placeId: {}", placeId);
+                        placeDetailsCache.markInvalid(placeId);
+                        return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid placeId: " + placeId));
+                    }
+                    return Mono.just(placeUrl.get());
+                });
+    }
+
+    private Mono<String> sharedCache(String placeId) {
+        if (!placeDetailsCache.isRedisEnabled()) {
+            return Mono.empty();
+        }
+        // Redis 클라이언트 호출은 블로킹이므로 boundedElastic 스케줄러에서 조회합니다.
+        return Mono.fromCallable(() -> placeDetailsCache.get(placeId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Map<String, String>> cachedUrls(List<String> placeIds) {
+        if (!placeDetailsCache.isRedisEnabled()) {
+            return Mono.just(placeDetailsCache.getAll(placeIds));
+        }
+        return Mono.fromCallable(() -> placeDetailsCache.getAll(placeIds))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void store(String placeId, String url) {
+        if (!placeDetailsCache.isRedisEnabled()) {
+            placeDetailsCache.put(placeId, url);
+            return;
+        }
+        Mono.fromRunnable(() -> placeDetailsCache.put(placeId, url))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    private static BulkReviewUrlResponse merge(List<String> placeIds, Map<String, String> cached, List<ResolvedUrl> fetched) {
+        Map<String, String> fetchedUrls = new LinkedHashMap<>();
+        for (ResolvedUrl resolved : fetched) {
+            fetchedUrls.put(resolved.placeId(), resolved.url());
+        }
+
+        // 요청 순서대로 결과를 채웁니다.
+        Map<String, String> urls = new LinkedHashMap<>();
+        List<String> failedPlaceIds = new ArrayList<>();
+        for (String placeId : placeIds) {
+            String url = cached.containsKey(placeId) ? cached.get(placeId) : fetchedUrls.get(placeId);
+            if (url == null) {
+                failedPlaceIds.add(placeId);
+            } else {
+                urls.put(placeId, url);
+            }
+        }
+        return new BulkReviewUrlResponse(urls, failedPlaceIds);
+    }
+
+    private record ResolvedUrl(String placeId, String url) {
+    }
+}
@@ -1,12 +1,16 @@
 package com.solucitation.midpoint_backend.domain.reviews;
 
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -15,9 +19,11 @@ import java.util.Map;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReactiveReviewService reactiveReviewService;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ReactiveReviewService reactiveReviewService) {
         this.reviewService = reviewService;
+        this.reactiveReviewService = reactiveReviewService;
     }
 
     @GetMapping
@@ -35,4 +41,31 @@ public class ReviewController {
                     .body(Map.of("error", "An unexpected error occurred."));
         }
     }
+
+    /**
+     * /api/reviews 와 같은 결과를 논블로킹으로 반환합니다.
+     */
+    @GetMapping("/async")
+    public Mono<ResponseEntity<Map<String, String>>> getReviewUrlAsync(@RequestParam String placeId) {
+        return reactiveReviewService.getReviewUrl(placeId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(ResponseStatusException.class, e -> Mono.just(ResponseEntity
+                        .status(e.getStatusCode())
+                        .body(Map.of("error", e.getReason()))))
+                .onErrorResume(e -> Mono.just(ResponseEntity
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "An unexpected error occurred."))));
+    }
+
+    /**
+     * 결과 목록의 여러 placeId 에 대한 URL 을 한 번의 요청으로 반환합니다.
+     */
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<?>> getReviewUrls(@RequestBody @Valid BulkReviewUrlRequest request) {
+        return reactiveReviewService.getReviewUrls(request.getPlaceIds())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> Mono.just(ResponseEntity
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "An unexpected error occurred."))));
+    }
 }
@@ -1,7 +1,12 @@
 package com.solucitation.midpoint_backend.domain.reviews;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import com.solucitation.midpoint_backend.global.util.SingleFlight;
+import com.solucitation.midpoint_backend.global.util.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -12,43 +17,97 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ReviewService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewService.class);
 
+    // 요청한 placeId 자체가 잘못됐다는 뜻의 Place Details 상태입니다. 나머지 OK 가 아닌 상태는 구글 쪽 실패로 봅니다.
+    private static final Set<String> INVALID_PLACE_STATUSES = Set.of("INVALID_REQUEST", "NOT_FOUND", "ZERO_RESULTS");
+
     @Value("${google.api.key}")
     private String apiKey;
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final PlaceDetailsCache placeDetailsCache;
+    private final UpstreamGuard reviewsGuard;
+    private final SingleFlight<String, Map<String, String>> reviewsFlight;
 
-    public ReviewService(@Qualifier("reviewsRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public ReviewService(@Qualifier("reviewsRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper,
+                         PlaceDetailsCache placeDetailsCache, @Qualifier("reviewsGuard") UpstreamGuard reviewsGuard,
+                         MeterRegistry meterRegistry, @Value("${google.single-flight.timeout:10s}") Duration singleFlightTimeout) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.placeDetailsCache = placeDetailsCache;
+        this.reviewsGuard = reviewsGuard;
+        this.reviewsFlight = new SingleFlight<>("reviews", singleFlightTimeout, meterRegistry);
     }
 
     public Map<String, String> getReviewUrl(String placeId) {
-        String url = String.format("https://maps.googleapis.com/maps/api/place/details/json?place_id=%s&key=%s", placeId, apiKey);
+        String cached = placeDetailsCache.get(placeId);
+        if (cached != null) {
+            return Map.of("url", cached);
+        }
+        if (placeDetailsCache.isInvalid(placeId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid placeId: " + placeId);
+        }
 
-        try {
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode jsonResponse = objectMapper.readTree(response);
-            JsonNode result = jsonResponse.path("result");
+        // 같은 placeId 로 동시에 들어온 요청은 Place Details 호출 한 번을 함께 기다립니다.
+        return reviewsFlight.execute(placeId, () -> fetchReviewUrl(placeId));
+    }
 
-            String placeUrl = result.path("url").asText(null);
+    private Map<String, String> fetchReviewUrl(String placeId) {
+        String url = detailsUrl(placeId, apiKey);
 
-            if (placeUrl == null || placeUrl.isEmpty()) {
-                logger.error("No URL found for placeId: {}", placeId);
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid placeId: " + placeId);
-            }
+        String placeUrl;
+        try {
+            placeUrl = reviewsGuard.call(() -> {
+                try {
+                    return placeUrlOrNull(objectMapper.readTree(restTemplate.getForObject(url, String.class)));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Unreadable place details response", e);
+                }
+            });
+        } catch (UpstreamUnavailableException e) {
+            // 구글 장애는 잘못된 placeId 와 구분해 503 으로 응답합니다.
+            logger.error("Error retrieving place details for placeId: {}: {}", placeId, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Place details are temporarily unavailable", e);
+        }
 
-            return Map.of("url", placeUrl);
-        } catch (Exception e) {
-            logger.error("Error retrieving place details for placeId: {}", placeId, e);
+        if (placeUrl == null) {
+            logger.error("No URL found for placeId: {}", placeId);
+            placeDetailsCache.markInvalid(placeId);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid placeId: " + placeId);
         }
+
+        placeDetailsCache.put(placeId, placeUrl);
+        return Map.of("url", placeUrl);
+    }
+
+    static String detailsUrl(String placeId, String apiKey) {
+        return String.format("https://maps.googleapis.com/maps/api/place/details/json?place_id=%s&key=%s", placeId, apiKey);
+    }
+
+    /**
+     * Place Details 응답에서 구글 지도 URL 을 꺼냅니다.
+     *
+     * @return URL, placeId 가 잘못됐거나 URL 이 없으면 null
+     * @throws IllegalStateException 할당량 초과 등 구글 쪽 실패 상태인 경우
+     */
+    static String placeUrlOrNull(JsonNode jsonResponse) {
+        String status = jsonResponse.path("status").asText("OK");
+        if (INVALID_PLACE_STATUSES.contains(status)) {
+            return null;
+        }
+        if (!"OK".equals(status)) {
+            throw new IllegalStateException("Place details returned status " + status);
+        }
+        String placeUrl = jsonResponse.path("result").path("url").asText(null);
+        return placeUrl == null || placeUrl.isEmpty() ? null : placeUrl;
     }
 }
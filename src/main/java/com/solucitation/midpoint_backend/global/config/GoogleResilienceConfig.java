@@ -0,0 +1,66 @@
+package com.solucitation.midpoint_backend.global.config;
+
+import com.solucitation.midpoint_backend.global.util.AdaptiveConcurrencyLimiter;
+import com.solucitation.midpoint_backend.global.util.CircuitBreaker;
+import com.solucitation.midpoint_backend.global.util.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 구글 API 엔드포인트별 UpstreamGuard(서킷 브레이커 + 적응형 동시 호출 한도) 설정 클래스
+ * - 엔드포인트마다 따로 두므로 Place Details 장애가 Nearby Search 호출을 막지 않습니다.
+ * - 블로킹 경로(RestTemplate)와 논블로킹 경로(WebClient)는 같은 엔드포인트면 같은 가드를 공유합니다.
+ */
+@Configuration
+public class GoogleResilienceConfig {
+
+    @Value("${google.resilience.breaker.window-size:50}")
+    private int windowSize;
+
+    @Value("${google.resilience.breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${google.resilience.breaker.failure-rate:0.5}")
+    private double failureRate;
+
+    @Value("${google.resilience.breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${google.resilience.limit.initial:20}")
+    private int initialLimit;
+
+    @Value("${google.resilience.limit.min:2}")
+    private int minLimit;
+
+    @Value("${google.resilience.limit.max:50}")
+    private int maxLimit;
+
+    @Value("${google.resilience.limit.latency-threshold:2s}")
+    private Duration latencyThreshold;
+
+    @Bean(name = "placesGuard")
+    public UpstreamGuard placesGuard(MeterRegistry meterRegistry) {
+        return guard("places", meterRegistry);
+    }
+
+    @Bean(name = "reviewsGuard")
+    public UpstreamGuard reviewsGuard(MeterRegistry meterRegistry) {
+        return guard("reviews", meterRegistry);
+    }
+
+    @Bean(name = "photosGuard")
+    public UpstreamGuard photosGuard(MeterRegistry meterRegistry) {
+        return guard("photos", meterRegistry);
+    }
+
+    private UpstreamGuard guard(String name, MeterRegistry meterRegistry) {
+        return new UpstreamGuard(name,
+                new CircuitBreaker(name, windowSize, minimumCalls, failureRate, openDuration, meterRegistry),
+                new AdaptiveConcurrencyLimiter(name, initialLimit, minLimit, maxLimit, latencyThreshold, meterRegistry),
+                meterRegistry);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -31,4 +32,25 @@ public class RedisConfig {
         tokenRedisTemplate.setValueSerializer(new StringRedisSerializer());
         return tokenRedisTemplate;
     }
+
+    // 장소 검색 결과 등 공유 캐시를 위한 redisTemplate 설정
+    @Bean(name = "cacheRedisTemplate")
+    public RedisTemplate<String, String> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, String> cacheRedisTemplate = new RedisTemplate<>();
+        cacheRedisTemplate.setConnectionFactory(connectionFactory);
+        cacheRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        cacheRedisTemplate.setValueSerializer(new StringRedisSerializer());
+        // 해시도 문자열로 읽고 씁니다. (Lua 스크립트가 쓴 해시를 그대로 읽을 수 있어야 합니다)
+        cacheRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        cacheRedisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        return cacheRedisTemplate;
+    }
+
+    // 캐시 무효화 메시지 등 Redis pub/sub 구독을 위한 리스너 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -1,7 +1,9 @@
 package com.solucitation.midpoint_backend.global.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,13 +22,25 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // MinIO·LocalStack 같은 로컬 S3 대체 서버 주소 (비어 있으면 AWS S3 를 씁니다)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
     @Bean
     public AmazonS3 amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
                 .enablePathStyleAccess()
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+                .withClientConfiguration(new ClientConfiguration().withMaxConnections(maxConnections))
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+        if (endpoint.isEmpty()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,40 @@
+package com.solucitation.midpoint_backend.global.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 인덱스 갱신 같은 주기 작업(@Scheduled)을 켭니다.
+// 기본 스케줄러는 스레드가 하나라 오래 걸리는 작업이 다른 작업을 모두 밀어내므로, 여러 스레드로 나눠 실행합니다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final ScheduledExecutorService scheduler;
+
+    public SchedulingConfig(@Value("${app.threads.scheduling.size:4}") int size) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "scheduling-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(scheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
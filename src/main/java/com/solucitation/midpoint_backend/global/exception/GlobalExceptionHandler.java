@@ -1,5 +1,6 @@
 package com.solucitation.midpoint_backend.global.exception;
 
+import com.solucitation.midpoint_backend.domain.file.exception.ImageProcessingBusyException;
 import com.solucitation.midpoint_backend.domain.member.dto.ValidationErrorResponse;
 import com.solucitation.midpoint_backend.domain.member.exception.*;
 import jakarta.validation.ConstraintViolationException;
@@ -114,4 +115,49 @@ public class GlobalExceptionHandler {
         log.error("잘못된 요청: {}", e.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
+
+    /**
+     * 외부 API 장애로 요청을 처리하지 못한 예외를 처리합니다.
+     *
+     * @param e UpstreamUnavailableException 예외
+     * @return 503 Service Unavailable와 구조화된 오류 메시지를 반환
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<ValidationErrorResponse> handleUpstreamUnavailableException(UpstreamUnavailableException e) {
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                List.of(new ValidationErrorResponse.FieldError("upstream", "외부 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해 주세요."))
+        );
+        log.error("외부 서비스 장애: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * 이미지 처리 대기열이 가득 찬 예외를 처리합니다.
+     *
+     * @param e ImageProcessingBusyException 예외
+     * @return 503 Service Unavailable와 구조화된 오류 메시지를 반환
+     */
+    @ExceptionHandler(ImageProcessingBusyException.class)
+    public ResponseEntity<ValidationErrorResponse> handleImageProcessingBusyException(ImageProcessingBusyException e) {
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                List.of(new ValidationErrorResponse.FieldError("image", e.getMessage()))
+        );
+        log.warn("이미지 처리 대기열 가득 참: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * 요청 한도를 넘은 예외를 처리합니다.
+     *
+     * @param e TooManyRequestsException 예외
+     * @return 429 Too Many Requests와 구조화된 오류 메시지를 반환
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ValidationErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+                List.of(new ValidationErrorResponse.FieldError("rateLimit", e.getMessage()))
+        );
+        log.warn("요청 한도 초과: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
 }
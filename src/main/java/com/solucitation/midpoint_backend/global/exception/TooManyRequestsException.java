@@ -0,0 +1,11 @@
+package com.solucitation.midpoint_backend.global.exception;
+
+/**
+ * 한 사용자가 짧은 시간에 비용이 드는 외부 호출을 너무 많이 일으켰을 때 던집니다.
+ * 429 Too Many Requests 로 응답합니다.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.solucitation.midpoint_backend.global.exception;
+
+/**
+ * 외부 API(구글 등) 호출이 실패했거나, 서킷 브레이커·동시 호출 한도 때문에 호출을 보내지 않았을 때 던집니다.
+ * 요청 값의 문제가 아니므로 503 Service Unavailable 로 응답합니다.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,82 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * 동시에 보내는 호출 수를 응답 상태에 맞춰 조절합니다 (AIMD).
+ * 호출이 latencyThreshold 안에 성공하면 한도를 조금씩 늘리고, 실패하거나 느려지면 한도를 backoffRatio 배로 줄입니다.
+ * 한도를 넘는 호출은 기다리지 않고 바로 거절하므로, 상류가 느려져도 요청 스레드가 응답 대기에 쌓이지 않습니다.
+ * 현재 한도와 진행 중인 호출 수는 concurrency.limit, concurrency.in-flight 지표로 노출합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+
+    /**
+     * @param name 지표 이름에 붙일 호출 종류 (예: places, reviews)
+     * @param initialLimit 시작 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도
+     * @param latencyThreshold 이보다 오래 걸린 호출은 실패와 같이 한도를 줄입니다
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      Duration latencyThreshold, MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        Gauge.builder("concurrency.limit", this, limiter -> limiter.limit()).tag("name", name).register(meterRegistry);
+        Gauge.builder("concurrency.in-flight", this, limiter -> limiter.inFlight()).tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * 한도 안이면 자리를 하나 잡습니다. true 를 받은 호출은 반드시 release 로 자리를 돌려줘야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * @param elapsedNanos 호출에 걸린 시간
+     * @param failed 호출이 실패했는지 여부
+     */
+    public synchronized void release(long elapsedNanos, boolean failed) {
+        inFlight--;
+        if (failed || elapsedNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (inFlight * 2 >= (int) limit) {
+            // 한도의 절반 이상을 쓰고 있을 때만 늘려서, 한가할 때 한도가 끝없이 커지지 않게 합니다.
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * 결과를 모르는 채로 끝난 호출(취소 등)의 자리를 한도 변경 없이 돌려줍니다.
+     */
+    public synchronized void releaseIgnored() {
+        inFlight--;
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
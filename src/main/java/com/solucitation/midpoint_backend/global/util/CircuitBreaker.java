@@ -0,0 +1,134 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * 최근 호출의 실패율로 열리고 닫히는 서킷 브레이커입니다.
+ * 최근 windowSize 번의 결과 중 실패 비율이 failureRateThreshold 이상이면 열려서 openDuration 동안 호출을 바로 거절하고,
+ * 그 뒤에는 시험 호출 하나만 통과시켜(half-open) 성공하면 닫히고 실패하면 다시 열립니다.
+ * 상태는 circuitbreaker.state 지표로 노출합니다 (0 = closed, 1 = open, 2 = half-open).
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] failures;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failureCount;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param name 지표 이름에 붙일 호출 종류 (예: places, reviews)
+     * @param windowSize 실패율을 계산할 최근 호출 수
+     * @param minimumCalls 실패율을 판단하기 전에 필요한 최소 호출 수
+     * @param failureRateThreshold 브레이커를 여는 실패 비율 (0~1)
+     * @param openDuration 열린 상태를 유지하는 시간
+     * @param meterRegistry circuitbreaker.state 지표를 등록할 레지스트리
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration openDuration, MeterRegistry meterRegistry) {
+        this.failures = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        Gauge.builder("circuitbreaker.state", this, breaker -> breaker.state().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출을 보내도 되는지 확인합니다. true 를 받은 호출은 반드시 onSuccess 나 onFailure 로 결과를 알려야 합니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls
+                && (double) failureCount / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 모르는 채로 끝난 호출(취소 등)의 허가를 돌려줍니다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        next = (next + 1) % failures.length;
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        recorded = 0;
+        next = 0;
+        failureCount = 0;
+        probeInFlight = false;
+    }
+}
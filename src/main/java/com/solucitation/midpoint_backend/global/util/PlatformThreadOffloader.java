@@ -0,0 +1,67 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * synchronized 블록 안에서 소켓 I/O 를 하는 라이브러리(JavaMail 의 SMTPTransport 등)를 가상 스레드에서 호출하면
+ * 캐리어 스레드가 고정(pinning)되어 다른 가상 스레드가 실행되지 못합니다.
+ * 이런 호출은 제한된 크기의 플랫폼 스레드 풀로 넘기고, 가상 스레드는 결과를 기다리는 동안 캐리어를 반납합니다.
+ * 플랫폼 스레드에서 호출하면 넘기지 않고 그대로 실행합니다.
+ */
+@Component
+public class PlatformThreadOffloader {
+
+    private final ExecutorService executor;
+
+    public PlatformThreadOffloader(@Value("${app.threads.platform-offload.size:8}") int size) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "platform-offload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가상 스레드에서 호출되면 플랫폼 스레드 풀에서 실행하고 끝날 때까지 기다립니다.
+     *
+     * @param task 고정을 일으킬 수 있는 블로킹 작업
+     */
+    public void run(Runnable task) {
+        if (!Thread.currentThread().isVirtual()) {
+            task.run();
+            return;
+        }
+
+        Future<?> future = executor.submit(task);
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for offloaded task", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,30 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight 의 논블로킹 버전입니다. 같은 키로 진행 중인 Mono 가 있으면 그 Mono 를 공유하고,
+ * 결과(또는 오류)가 나오면 키를 바로 제거합니다. 기다리는 동안 스레드를 점유하지 않습니다.
+ *
+ * @param <K> 요청 키
+ * @param <V> 결과
+ */
+public class ReactiveSingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> {
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> shared = Mono.defer(loader)
+                    .doFinally(signal -> inFlight.remove(k, self.get()))
+                    .cache();
+            self.set(shared);
+            return shared;
+        }));
+    }
+}
@@ -0,0 +1,101 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실제 호출로 합칩니다 (single-flight).
+ * 먼저 도착한 요청(leader)이 호출 스레드에서 직접 loader 를 실행하고, 그동안 같은 키로 들어온 요청(follower)은
+ * 키별 future 를 기다렸다가 같은 결과나 같은 예외를 받습니다. 호출이 끝나면 키는 바로 제거되므로 결과를 캐시하지는 않습니다.
+ *
+ * @param <K> 요청 키
+ * @param <V> 결과
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    /**
+     * @param name 지표 이름에 붙일 호출 종류 (예: places, reviews)
+     * @param timeout follower 가 leader 의 결과를 기다리는 최대 시간
+     * @param meterRegistry singleflight.calls 지표를 등록할 레지스트리
+     */
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.leaders = Counter.builder("singleflight.calls").tag("name", name).tag("role", "leader").register(meterRegistry);
+        this.followers = Counter.builder("singleflight.calls").tag("name", name).tag("role", "follower").register(meterRegistry);
+        this.timeouts = Counter.builder("singleflight.calls").tag("name", name).tag("role", "timeout").register(meterRegistry);
+    }
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 loader 를 직접 실행합니다.
+     *
+     * @param key 요청 키
+     * @param loader 실제 호출
+     * @return 호출 결과
+     * @throws UpstreamUnavailableException follower 가 timeout 안에 결과를 받지 못했거나 기다리다 인터럽트된 경우
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            leaders.increment();
+            return lead(key, created, loader);
+        }
+        followers.increment();
+        return follow(key, existing);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> future, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V follow(K key, CompletableFuture<V> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // leader 가 던진 예외를 그대로 전달합니다.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("In-flight request failed: " + key, cause);
+        } catch (TimeoutException e) {
+            // leader 의 외부 호출이 늦어진 것이므로 호출 실패와 같이 503 으로 응답하게 합니다.
+            timeouts.increment();
+            throw new UpstreamUnavailableException("Timed out waiting for in-flight request: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while waiting for in-flight request: " + key, e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 엔드포인트 하나로 나가는 호출을 서킷 브레이커와 적응형 동시 호출 한도로 감쌉니다.
+ * 브레이커가 열려 있거나 한도가 찼으면 호출하지 않고 바로 UpstreamUnavailableException 을 던지고,
+ * 호출 중 발생한 예외도 UpstreamUnavailableException 으로 감싸 실패로 기록합니다.
+ * 결과는 upstream.calls 지표로 노출합니다 (result = success, failure, open, limited).
+ */
+public class UpstreamGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejectedOpen;
+    private final Counter rejectedLimited;
+
+    public UpstreamGuard(String name, CircuitBreaker circuitBreaker, AdaptiveConcurrencyLimiter limiter,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+        this.successes = Counter.builder("upstream.calls").tag("name", name).tag("result", "success").register(meterRegistry);
+        this.failures = Counter.builder("upstream.calls").tag("name", name).tag("result", "failure").register(meterRegistry);
+        this.rejectedOpen = Counter.builder("upstream.calls").tag("name", name).tag("result", "open").register(meterRegistry);
+        this.rejectedLimited = Counter.builder("upstream.calls").tag("name", name).tag("result", "limited").register(meterRegistry);
+    }
+
+    /**
+     * 블로킹 호출을 실행합니다. Error 로 끝난 호출도 실패로 기록합니다.
+     *
+     * @throws UpstreamUnavailableException 호출을 보내지 않았거나 호출이 실패한 경우
+     */
+    public <T> T call(Supplier<T> call) {
+        acquire();
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.get();
+            onSuccess(startedAt);
+            return result;
+        } catch (RuntimeException e) {
+            onFailure(startedAt);
+            throw new UpstreamUnavailableException(name + " call failed: " + e.getMessage(), e);
+        } catch (Error e) {
+            // Error 는 감싸지 않고 그대로 던지지만, 자리와 반열림 시험 호출 허가는 돌려줘야 브레이커가 멈추지 않습니다.
+            onFailure(startedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * 논블로킹 호출을 구독 시점에 실행합니다. 구독이 취소되면 자리를 결과 기록 없이 돌려줍니다.
+     */
+    public <T> Mono<T> callAsync(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            try {
+                acquire();
+            } catch (UpstreamUnavailableException e) {
+                return Mono.error(e);
+            }
+            long startedAt = System.nanoTime();
+            AtomicBoolean released = new AtomicBoolean();
+            return Mono.defer(call)
+                    .doOnSuccess(result -> {
+                        if (released.compareAndSet(false, true)) {
+                            onSuccess(startedAt);
+                        }
+                    })
+                    .onErrorMap(e -> {
+                        if (released.compareAndSet(false, true)) {
+                            onFailure(startedAt);
+                        }
+                        return new UpstreamUnavailableException(name + " call failed: " + e.getMessage(), e);
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL && released.compareAndSet(false, true)) {
+                            circuitBreaker.onIgnored();
+                            limiter.releaseIgnored();
+                        }
+                    });
+        });
+    }
+
+    private void acquire() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejectedOpen.increment();
+            throw new UpstreamUnavailableException(name + " circuit breaker is open");
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            rejectedLimited.increment();
+            throw new UpstreamUnavailableException(name + " concurrency limit reached");
+        }
+    }
+
+    private void onSuccess(long startedAt) {
+        limiter.release(System.nanoTime() - startedAt, false);
+        circuitBreaker.onSuccess();
+        successes.increment();
+    }
+
+    private void onFailure(long startedAt) {
+        limiter.release(System.nanoTime() - startedAt, true);
+        circuitBreaker.onFailure();
+        failures.increment();
+    }
+}
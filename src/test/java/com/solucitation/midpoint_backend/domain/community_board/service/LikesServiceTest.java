@@ -0,0 +1,125 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.entity.Likes;
+import com.solucitation.midpoint_backend.domain.community_board.entity.Post;
+import com.solucitation.midpoint_backend.domain.community_board.repository.LikesRepository;
+import com.solucitation.midpoint_backend.domain.member.entity.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Redis 에 모인 좋아요 변경을 likes 테이블에 반영할 때, 그사이 삭제된 게시글이나 탈퇴한 회원의 변경을 버리는지 확인합니다.
+ */
+@DataJpaTest
+@Import(LikesService.class)
+class LikesServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LikesRepository likesRepository;
+
+    @Autowired
+    private LikesService likesService;
+
+    @MockBean
+    private LikeCounter likeCounter;
+
+    private Member writer;
+    private Member liker;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        writer = member("writer");
+        liker = member("liker");
+        post = entityManager.persist(Post.builder().member(writer).title("게시글").content("본문").build());
+        entityManager.flush();
+    }
+
+    @Test
+    void appliesLikesAndUnlikesOnce() {
+        entityManager.persist(new Likes(post, writer));
+        entityManager.flush();
+
+        int applied = likesService.applyChanges(
+                Map.of(post.getId(), Set.of(liker.getId())),
+                Map.of(post.getId(), Set.of(writer.getId())));
+
+        assertEquals(2, applied);
+        assertEquals(Set.of(liker.getId()), likers(post));
+
+        // 같은 변경을 다시 반영해도 좋아요가 두 번 들어가지 않습니다.
+        likesService.applyChanges(Map.of(post.getId(), Set.of(liker.getId())), Map.of());
+        assertEquals(Set.of(liker.getId()), likers(post));
+    }
+
+    @Test
+    void dropsChangesOfDeletedPosts() {
+        Post deleted = entityManager.persist(Post.builder().member(writer).title("삭제될 글").content("본문").build());
+        Long deletedPostId = deleted.getId();
+        entityManager.remove(deleted);
+        entityManager.flush();
+
+        int applied = likesService.applyChanges(
+                Map.of(deletedPostId, Set.of(liker.getId()), post.getId(), Set.of(liker.getId())),
+                Map.of(deletedPostId, Set.of(writer.getId())));
+
+        assertEquals(1, applied);
+        assertEquals(Set.of(liker.getId()), likers(post));
+        assertEquals(1, likesRepository.count());
+    }
+
+    @Test
+    void dropsLikesOfDeletedMembers() {
+        Member deleted = member("deleted");
+        Long deletedMemberId = deleted.getId();
+        entityManager.remove(deleted);
+        entityManager.flush();
+
+        int applied = likesService.applyChanges(
+                Map.of(post.getId(), Set.of(liker.getId(), deletedMemberId)), Map.of());
+
+        assertEquals(1, applied);
+        assertEquals(Set.of(liker.getId()), likers(post));
+    }
+
+    @Test
+    void skipsPostsWhoseLikersAllLeft() {
+        Member deleted = member("deleted");
+        Long deletedMemberId = deleted.getId();
+        entityManager.remove(deleted);
+        entityManager.flush();
+
+        assertEquals(0, likesService.applyChanges(Map.of(post.getId(), Set.of(deletedMemberId)), Map.of()));
+        assertEquals(0, likesService.applyChanges(Map.of(), Map.of()));
+        assertEquals(0, likesRepository.count());
+    }
+
+    private Member member(String name) {
+        return entityManager.persist(Member.builder()
+                .name(name).email(name + "@example.com").nickname(name).loginId(name).build());
+    }
+
+    private Set<Long> likers(Post post) {
+        entityManager.flush();
+        entityManager.clear();
+        List<LikesRepository.PostLike> likes = likesRepository.findPostLikes(List.of(post.getId()));
+        Set<Long> memberIds = new HashSet<>();
+        likes.forEach(like -> memberIds.add(like.getMemberId()));
+        return memberIds;
+    }
+}
@@ -0,0 +1,322 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solucitation.midpoint_backend.domain.member.service.MemberProfileChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostDetailCache 의 무효화를 메모리 안의 Redis 대역(FakeRedis)과 최소한의 스프링 트랜잭션 환경에서 확인합니다.
+ * 서버 두 대는 같은 FakeRedis 를 쓰는 PostDetailCache 두 개로 흉내 냅니다.
+ */
+class PostDetailCacheTest {
+
+    private static final long WRITER_ID = 7L;
+
+    private final FakeRedis redis = new FakeRedis();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private AnnotationConfigApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void postChangedEventEvictsBothTiersOnlyAfterCommit() {
+        PostDetailCache cache = start(true);
+        PostDetailCache otherServer = cache(true);
+        Loader loader = new Loader();
+        cache.get(1L, loader.of(1L));
+        otherServer.get(1L, loader.of(1L));
+        assertEquals(1, loader.count(1L)); // 다른 서버는 Redis 에서 읽습니다.
+
+        TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+        transaction.executeWithoutResult(status -> {
+            context.publishEvent(new PostChangedEvent(1L));
+            // 커밋 전에는 다른 요청이 옛 내용을 읽어도 됩니다.
+            assertNotEquals(FakeRedis.TOMBSTONE, redis.value("posts:detail:1"));
+            cache.get(1L, loader.of(1L));
+            assertEquals(1, loader.count(1L));
+        });
+
+        assertEquals(FakeRedis.TOMBSTONE, redis.value("posts:detail:1"));
+        assertEquals("v2", cache.get(1L, loader.of(1L)).title());
+        assertEquals("v3", otherServer.get(1L, loader.of(1L)).title()); // 채널로 다른 서버의 로컬 캐시도 지웠습니다.
+
+        // 롤백되면 지우지 않습니다.
+        transaction.executeWithoutResult(status -> {
+            context.publishEvent(new PostChangedEvent(1L));
+            status.setRollbackOnly();
+        });
+        assertEquals("v2", cache.get(1L, loader.of(1L)).title());
+        assertEquals(3, loader.count(1L));
+    }
+
+    @Test
+    void memberProfileChangedEventEvictsTheWritersPostsAfterCommit() {
+        PostDetailCache cache = start(true);
+        Loader loader = new Loader();
+        cache.get(1L, loader.of(1L));
+        cache.get(2L, loader.of(2L));
+        cache.get(3L, loader.withWriter(3L, 99L));
+        assertEquals(Set.of("1", "2"), redis.members("posts:detail:member:" + WRITER_ID));
+
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            context.publishEvent(new MemberProfileChangedEvent(WRITER_ID));
+            assertEquals(Set.of("1", "2"), redis.members("posts:detail:member:" + WRITER_ID));
+        });
+
+        assertEquals(FakeRedis.TOMBSTONE, redis.value("posts:detail:1"));
+        assertEquals(FakeRedis.TOMBSTONE, redis.value("posts:detail:2"));
+        assertTrue(redis.members("posts:detail:member:" + WRITER_ID).isEmpty());
+        cache.get(1L, loader.of(1L));
+        cache.get(2L, loader.of(2L));
+        cache.get(3L, loader.withWriter(3L, 99L));
+        assertEquals(List.of(2, 2, 1), List.of(loader.count(1L), loader.count(2L), loader.count(3L)));
+
+        // 프로필 수정은 트랜잭션 밖에서도 일어나므로 바로 지웁니다.
+        context.publishEvent(new MemberProfileChangedEvent(WRITER_ID));
+        cache.get(1L, loader.of(1L));
+        cache.get(3L, loader.withWriter(3L, 99L));
+        assertEquals(3, loader.count(1L));
+        assertEquals(1, loader.count(3L));
+    }
+
+    @Test
+    void fillRacingAnInvalidationDoesNotRestoreTheStaleEntry() throws Exception {
+        PostDetailCache cache = start(true);
+        PostDetailCache otherServer = cache(true);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 옛 내용을 DB 에서 읽은 채 멈춘 사이에 게시글이 수정됩니다.
+        Future<PostDetailCache.PostDetail> staleFill = executor.submit(() -> cache.get(1L, () -> {
+            loading.countDown();
+            await(release);
+            return detail(1L, WRITER_ID, "stale");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<?> invalidation = executor.submit(() -> otherServer.onPostChanged(new PostChangedEvent(1L)));
+        waitUntil(() -> FakeRedis.TOMBSTONE.equals(redis.value("posts:detail:1")));
+        release.countDown();
+        assertEquals("stale", staleFill.get(5, TimeUnit.SECONDS).title());
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        // 무효화 표시가 남아 있는 동안에는 옛 내용도, 새 내용도 Redis 에 쓰지 않습니다.
+        assertEquals(FakeRedis.TOMBSTONE, redis.value("posts:detail:1"));
+        assertEquals("fresh", cache.get(1L, () -> detail(1L, WRITER_ID, "fresh")).title());
+        assertEquals(FakeRedis.TOMBSTONE, redis.value("posts:detail:1"));
+        assertEquals("fresh", otherServer.get(1L, () -> detail(1L, WRITER_ID, "fresh")).title());
+
+        // 무효화 표시가 사라지면 다시 채웁니다.
+        redis.expireAll();
+        PostDetailCache thirdServer = cache(true);
+        thirdServer.get(1L, () -> detail(1L, WRITER_ID, "fresh"));
+        assertTrue(redis.value("posts:detail:1").contains("\"fresh\""));
+    }
+
+    @Test
+    void worksLocallyWithoutTouchingRedisWhenDisabled() {
+        PostDetailCache cache = start(false);
+        Loader loader = new Loader();
+        cache.get(1L, loader.of(1L));
+        cache.get(1L, loader.of(1L));
+        cache.get(2L, loader.withWriter(2L, 99L));
+        assertEquals(1, loader.count(1L));
+
+        context.getBean(TransactionTemplate.class)
+                .executeWithoutResult(status -> context.publishEvent(new PostChangedEvent(1L)));
+        cache.get(1L, loader.of(1L));
+        assertEquals(2, loader.count(1L));
+
+        context.publishEvent(new MemberProfileChangedEvent(WRITER_ID));
+        cache.get(1L, loader.of(1L));
+        cache.get(2L, loader.withWriter(2L, 99L));
+        assertEquals(3, loader.count(1L));
+        assertEquals(1, loader.count(2L));
+
+        verifyNoInteractions(redis.template);
+        verifyNoInteractions(redis.listenerContainer);
+    }
+
+    private PostDetailCache start(boolean redisEnabled) {
+        context = new AnnotationConfigApplicationContext();
+        context.register(TransactionConfig.class);
+        context.registerBean(PostDetailCache.class, () -> cache(redisEnabled));
+        context.refresh();
+        return context.getBean(PostDetailCache.class);
+    }
+
+    private PostDetailCache cache(boolean redisEnabled) {
+        return new PostDetailCache(redis.template, redis.listenerContainer, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), redisEnabled, Duration.ofHours(1), Duration.ofSeconds(10));
+    }
+
+    private static PostDetailCache.PostDetail detail(Long postId, Long writerId, String title) {
+        return new PostDetailCache.PostDetail(writerId, "writer", null, title, "본문 " + postId, null,
+                List.of(), List.of(), List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "시간 안에 조건을 만족하지 않았습니다.");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 게시글별로 DB 에서 읽은 횟수를 세고, 읽을 때마다 제목을 v1, v2, ... 로 바꿉니다.
+     */
+    private static final class Loader {
+        private final Map<Long, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        Supplier<PostDetailCache.PostDetail> of(Long postId) {
+            return withWriter(postId, WRITER_ID);
+        }
+
+        Supplier<PostDetailCache.PostDetail> withWriter(Long postId, Long writerId) {
+            return () -> detail(postId, writerId, "v" + counts.computeIfAbsent(postId, id -> new AtomicInteger()).incrementAndGet());
+        }
+
+        int count(Long postId) {
+            return counts.getOrDefault(postId, new AtomicInteger()).get();
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+
+    /**
+     * 커밋·롤백 시점의 트랜잭션 동기화만 제공하는 트랜잭션 관리자입니다.
+     */
+    static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    /**
+     * PostDetailCache 가 쓰는 명령(GET, SET EX, SET NX EX, SADD, SMEMBERS, DEL, EXPIRE, PUBLISH)만 메모리에서 흉내 냅니다.
+     * 만료는 expireAll 을 부를 때만 일어납니다.
+     */
+    @SuppressWarnings("unchecked")
+    static final class FakeRedis {
+        static final String TOMBSTONE = "-";
+
+        final RedisTemplate<String, String> template = mock(RedisTemplate.class);
+        final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+        private final List<MessageListener> listeners = new CopyOnWriteArrayList<>();
+
+        FakeRedis() {
+            ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+            SetOperations<String, String> setOperations = mock(SetOperations.class);
+            when(template.opsForValue()).thenReturn(valueOperations);
+            when(template.opsForSet()).thenReturn(setOperations);
+
+            when(valueOperations.get(any())).thenAnswer(call -> values.get(call.<String>getArgument(0)));
+            doAnswer(call -> values.put(call.getArgument(0), call.getArgument(1)))
+                    .when(valueOperations).set(any(), any(), any(Duration.class));
+            when(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                    .thenAnswer(call -> values.putIfAbsent(call.getArgument(0), call.getArgument(1)) == null);
+            when(setOperations.add(any(), any())).thenAnswer(call -> {
+                Set<String> set = sets.computeIfAbsent(call.getArgument(0), key -> ConcurrentHashMap.newKeySet());
+                return set.add(call.getArgument(1)) ? 1L : 0L;
+            });
+            when(setOperations.members(any())).thenAnswer(call -> Set.copyOf(sets.getOrDefault(call.<String>getArgument(0), Set.of())));
+            when(template.delete(any(String.class))).thenAnswer(call -> sets.remove(call.<String>getArgument(0)) != null
+                    | values.remove(call.<String>getArgument(0)) != null);
+            when(template.expire(any(), any(Duration.class))).thenReturn(true);
+            when(template.convertAndSend(any(), any())).thenAnswer(call -> {
+                byte[] body = call.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+                byte[] channel = call.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+                listeners.forEach(listener -> listener.onMessage(new DefaultMessage(channel, body), null));
+                return (long) listeners.size();
+            });
+            doAnswer(call -> listeners.add(call.getArgument(0)))
+                    .when(listenerContainer).addMessageListener(any(MessageListener.class), any(Topic.class));
+        }
+
+        String value(String key) {
+            return values.get(key);
+        }
+
+        Set<String> members(String key) {
+            return Set.copyOf(sets.getOrDefault(key, Set.of()));
+        }
+
+        void expireAll() {
+            values.clear();
+            sets.clear();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import com.solucitation.midpoint_backend.domain.community_board.dto.PostResponseDto;
+import com.solucitation.midpoint_backend.domain.community_board.entity.Hashtag;
+import com.solucitation.midpoint_backend.domain.community_board.entity.Image;
+import com.solucitation.midpoint_backend.domain.community_board.entity.Post;
+import com.solucitation.midpoint_backend.domain.community_board.entity.PostHashtag;
+import com.solucitation.midpoint_backend.domain.community_board.repository.PostRepository;
+import com.solucitation.midpoint_backend.domain.member.entity.Member;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 목록 한 페이지를 만드는 데 드는 SQL 문 수를 Hibernate Statistics 로 셉니다.
+ * 게시글 조회 한 번과 이미지·해시태그 IN 쿼리 각 한 번, 모두 세 번이어야 하고 페이지 크기와 상관없어야 합니다.
+ * 좋아요 여부는 Redis(LikeCounter)에서 한 번에 확인하므로 SQL 문이 늘지 않습니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PostFeedAssembler.class)
+class PostFeedAssemblerQueryCountTest {
+
+    private static final int POSTS = 60;
+    private static final int IMAGES_PER_POST = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFeedAssembler postFeedAssembler;
+
+    @MockBean
+    private LikeCounter likeCounter;
+
+    private Member viewer;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        viewer = entityManager.persist(Member.builder()
+                .name("작성자").email("writer@example.com").nickname("writer").loginId("writer").build());
+        List<Hashtag> hashtags = entityManager.getEntityManager()
+                .createQuery("SELECT h FROM Hashtag h ORDER BY h.id", Hashtag.class)
+                .getResultList();
+
+        for (int i = 0; i < POSTS; i++) {
+            Post post = entityManager.persist(Post.builder()
+                    .member(viewer).title("게시글 " + i).content("본문 " + i).build());
+            // 대표 이미지가 저장 순서가 아니라 order 로 정해지는지 보려고 역순으로 넣습니다.
+            for (int order = IMAGES_PER_POST; order >= 1; order--) {
+                entityManager.persist(Image.builder()
+                        .imageUrl("https://bucket/post-" + i + "-" + order + ".jpg")
+                        .thumbnailUrl("https://bucket/post-" + i + "-" + order + "-thumb.jpg")
+                        .post(post).order(order).member(viewer).build());
+            }
+            entityManager.persist(new PostHashtag(post, hashtags.get(i % hashtags.size())));
+            entityManager.persist(new PostHashtag(post, hashtags.get((i + 1) % hashtags.size())));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void pageCostsThreeStatementsRegardlessOfSize() {
+        assertEquals(3, statementsForPage(10));
+        entityManager.clear();
+        assertEquals(3, statementsForPage(50));
+    }
+
+    @Test
+    void assemblesThumbnailsHashtagsAndLikes() {
+        List<Post> posts = postRepository.findFeed(PageRequest.of(0, 50));
+        Long likedPostId = posts.get(0).getId();
+        when(likeCounter.likedPostIds(anyList(), eq(viewer.getId()))).thenReturn(Set.of(likedPostId));
+
+        List<PostResponseDto> page = postFeedAssembler.assemble(posts, viewer);
+
+        assertEquals(50, page.size());
+        PostResponseDto first = page.get(0);
+        assertEquals(likedPostId, first.getPostId());
+        assertEquals("https://bucket/post-" + (POSTS - 1) + "-1-thumb.jpg", first.getFirstImageUrl());
+        assertEquals(2, first.getHashtags().size());
+        assertTrue(first.getLikes());
+        assertFalse(page.get(1).getLikes());
+        verify(likeCounter, times(1)).likedPostIds(anyList(), eq(viewer.getId()));
+    }
+
+    private long statementsForPage(int size) {
+        statistics.clear();
+        List<Post> posts = postRepository.findFeed(PageRequest.of(0, size));
+        List<PostResponseDto> page = postFeedAssembler.assemble(posts, viewer);
+        assertEquals(size, page.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
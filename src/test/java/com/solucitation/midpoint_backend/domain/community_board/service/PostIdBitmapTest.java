@@ -0,0 +1,172 @@
+package com.solucitation.midpoint_backend.domain.community_board.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PostIdBitmap 을 같은 연산을 한 TreeSet 과 비교합니다.
+ * 구간(상위 비트)마다 원소가 4096개 이하면 배열, 넘으면 비트맵 컨테이너이므로 그 경계를 넘나들며 확인합니다.
+ */
+class PostIdBitmapTest {
+
+    private static final int ARRAY_MAX = 4096;
+
+    @Test
+    void convertsBetweenArrayAndBitmapContainers() {
+        Random random = new Random(21);
+        PostIdBitmap bitmap = new PostIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        long high = 7L << 16;
+        while (expected.size() < ARRAY_MAX) {
+            long postId = high | random.nextInt(0x10000);
+            bitmap.add(postId);
+            expected.add(postId);
+        }
+        assertSameIds(expected, bitmap);
+
+        // 한 원소를 더해 비트맵으로, 하나를 빼 다시 배열로 바뀌는 것을 4096번 되풀이합니다.
+        for (int i = 0; i < ARRAY_MAX; i++) {
+            long added;
+            do {
+                added = high | random.nextInt(0x10000);
+            } while (expected.contains(added));
+            bitmap.add(added);
+            expected.add(added);
+            assertSameIds(expected, bitmap);
+
+            long removed = randomElement(expected, random);
+            bitmap.remove(removed);
+            expected.remove(removed);
+            assertSameIds(expected, bitmap);
+        }
+
+        // 이미 있는 번호를 더하거나 없는 번호를 빼도 개수가 바뀌지 않습니다.
+        bitmap.add(expected.first());
+        bitmap.remove(high - 1);
+        bitmap.remove(high | 0x10000);
+        assertSameIds(expected, bitmap);
+
+        // 구간이 비면 구간 자체가 사라져야 합니다.
+        for (Long postId : new ArrayList<>(expected)) {
+            bitmap.remove(postId);
+        }
+        assertEquals(0, bitmap.cardinality());
+        assertEquals(0, bitmap.descending(null, 10).length);
+    }
+
+    @Test
+    void orAndAndMatchTreeSetAcrossMixedContainers() {
+        Random random = new Random(2021);
+        for (int round = 0; round < 30; round++) {
+            int count = 1 + random.nextInt(4);
+            List<PostIdBitmap> bitmaps = new ArrayList<>();
+            List<TreeSet<Long>> sets = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                TreeSet<Long> set = new TreeSet<>();
+                bitmaps.add(randomBitmap(random, set));
+                sets.add(set);
+            }
+
+            TreeSet<Long> union = new TreeSet<>();
+            sets.forEach(union::addAll);
+            TreeSet<Long> intersection = new TreeSet<>(sets.get(0));
+            sets.forEach(intersection::retainAll);
+
+            assertSameIds(union, PostIdBitmap.or(bitmaps));
+            assertSameIds(intersection, PostIdBitmap.and(bitmaps));
+            // 입력 비트맵은 바뀌지 않아야 합니다.
+            for (int i = 0; i < count; i++) {
+                assertSameIds(sets.get(i), bitmaps.get(i));
+            }
+        }
+        assertEquals(0, PostIdBitmap.or(List.of()).cardinality());
+        assertEquals(0, PostIdBitmap.and(List.of()).cardinality());
+    }
+
+    @Test
+    void descendingStartsBelowBeforePostId() {
+        Random random = new Random(42);
+        TreeSet<Long> expected = new TreeSet<>();
+        PostIdBitmap bitmap = new PostIdBitmap();
+        // 구간 0·1 은 배열, 3·5 는 비트맵이고 2·4 는 비어 있습니다.
+        int[][] keysAndSizes = {{0, 300}, {1, 1000}, {3, 30_000}, {5, 9000}};
+        for (int[] keyAndSize : keysAndSizes) {
+            long high = (long) keyAndSize[0] << 16;
+            int target = expected.size() + keyAndSize[1];
+            while (expected.size() < target) {
+                long postId = high | random.nextInt(0x10000);
+                bitmap.add(postId);
+                expected.add(postId);
+            }
+        }
+
+        List<Long> befores = new ArrayList<>();
+        for (int key = 0; key <= 6; key++) {
+            long high = (long) key << 16;
+            // 구간 경계: 구간의 첫 번호, 그 바로 다음, 마지막 번호
+            befores.addAll(List.of(high, high + 1, high | 0xFFFF));
+            // 구간 안의 임의 위치와, 구간에 들어 있는 번호 자체
+            befores.add(high | random.nextInt(0x10000));
+            NavigableSet<Long> inKey = expected.subSet(high, true, high | 0xFFFF, true);
+            for (int i = 0; i < 10 && !inKey.isEmpty(); i++) {
+                befores.add(randomElement(inKey, random));
+            }
+        }
+        // 마지막 구간보다 훨씬 큰, 없는 구간
+        befores.add((1000L << 16) | 123);
+
+        for (Long before : befores) {
+            for (int limit : new int[]{1, 20, 500, 50_000}) {
+                assertArrayEquals(firstDescending(expected.headSet(before, false), limit),
+                        bitmap.descending(before, limit), "before " + before + ", limit " + limit);
+            }
+        }
+        assertArrayEquals(firstDescending(expected, 20), bitmap.descending(null, 20));
+        assertEquals(0, bitmap.descending(0L, 20).length);
+    }
+
+    // 구간 0~7 중 임의의 몇 곳에 배열·비트맵 크기의 원소를 섞어 넣습니다.
+    private static PostIdBitmap randomBitmap(Random random, TreeSet<Long> set) {
+        PostIdBitmap bitmap = new PostIdBitmap();
+        for (int key = 0; key < 8; key++) {
+            if (random.nextInt(3) == 0) {
+                continue;
+            }
+            int size = switch (random.nextInt(4)) {
+                case 0 -> 1 + random.nextInt(50);
+                case 1 -> ARRAY_MAX - 20 + random.nextInt(40);
+                case 2 -> 2000 + random.nextInt(2000);
+                default -> 10_000 + random.nextInt(50_000);
+            };
+            long high = (long) key << 16;
+            int start = set.size();
+            while (set.size() < start + size) {
+                // 가까운 범위에 몰아 넣어 서로 겹치는 원소가 생기게 합니다.
+                long postId = high | random.nextInt(Math.min(0x10000, size * 2));
+                bitmap.add(postId);
+                set.add(postId);
+            }
+        }
+        return bitmap;
+    }
+
+    private static void assertSameIds(NavigableSet<Long> expected, PostIdBitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertArrayEquals(firstDescending(expected, expected.size() + 1), bitmap.descending(null, expected.size() + 1));
+    }
+
+    private static long[] firstDescending(NavigableSet<Long> set, int limit) {
+        return set.descendingSet().stream().limit(limit).mapToLong(Long::longValue).toArray();
+    }
+
+    private static long randomElement(NavigableSet<Long> set, Random random) {
+        return set.stream().skip(random.nextInt(set.size())).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,302 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.solucitation.midpoint_backend.domain.file.exception.ImageProcessingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageProcessorTest {
+
+    private static final Color RED = new Color(220, 30, 30);
+    private static final Color BLUE = new Color(30, 30, 220);
+    private static final Color GREEN = new Color(30, 200, 30);
+    private static final Color YELLOW = new Color(230, 220, 30);
+
+    private final ImageProcessor imageProcessor = new ImageProcessor(1, 4, 0.9f, 50_000_000L);
+
+    @AfterEach
+    void tearDown() {
+        imageProcessor.shutdown();
+    }
+
+    @Test
+    void readsOrientationFromLittleAndBigEndianExif() throws IOException {
+        byte[] jpeg = jpeg(quadrants(64, 32));
+        assertEquals(1, ImageProcessor.ExifOrientation.read(jpeg));
+
+        for (int orientation = 1; orientation <= 8; orientation++) {
+            assertEquals(orientation, ImageProcessor.ExifOrientation.read(withApp1(jpeg, exif(orientation, ByteOrder.LITTLE_ENDIAN))));
+            assertEquals(orientation, ImageProcessor.ExifOrientation.read(withApp1(jpeg, exif(orientation, ByteOrder.BIG_ENDIAN))));
+        }
+        // 범위를 벗어난 값은 방향 정보가 없는 것으로 봅니다.
+        assertEquals(1, ImageProcessor.ExifOrientation.read(withApp1(jpeg, exif(9, ByteOrder.BIG_ENDIAN))));
+    }
+
+    @Test
+    void ignoresTruncatedAndMalformedExif() throws IOException {
+        byte[] jpeg = withApp1(jpeg(quadrants(64, 32)), exif(6, ByteOrder.BIG_ENDIAN));
+
+        // 어느 위치에서 잘려도 예외 없이 1~8 을 돌려줘야 합니다.
+        for (int length = 0; length <= jpeg.length; length++) {
+            assertValidOrientation(Arrays.copyOf(jpeg, length));
+        }
+
+        // IFD 위치가 세그먼트 밖을 가리키는 경우
+        byte[] farIfd = exif(6, ByteOrder.BIG_ENDIAN);
+        ByteBuffer.wrap(farIfd).putInt(10, 0xFFFFFFF0);
+        assertEquals(1, ImageProcessor.ExifOrientation.read(withApp1(jpeg(quadrants(64, 32)), farIfd)));
+
+        // 항목 수가 세그먼트보다 많다고 적힌 경우
+        byte[] manyEntries = exif(6, ByteOrder.LITTLE_ENDIAN);
+        manyEntries[14] = (byte) 0xFF;
+        manyEntries[15] = (byte) 0xFF;
+        manyEntries[16] = 0x00; // 방향 태그가 첫 항목에 오지 않게 합니다.
+        assertValidOrientation(withApp1(jpeg(quadrants(64, 32)), manyEntries));
+
+        // 세그먼트 길이가 파일보다 길거나 2 보다 작은 경우
+        byte[] tooLong = Arrays.copyOf(jpeg, jpeg.length);
+        tooLong[4] = (byte) 0xFF;
+        tooLong[5] = (byte) 0xFF;
+        assertEquals(1, ImageProcessor.ExifOrientation.read(tooLong));
+        byte[] tooShort = Arrays.copyOf(jpeg, jpeg.length);
+        tooShort[4] = 0;
+        tooShort[5] = 1;
+        assertEquals(1, ImageProcessor.ExifOrientation.read(tooShort));
+
+        // 세그먼트 안의 바이트를 무작위로 바꿔도 예외가 나지 않아야 합니다.
+        Random random = new Random(25);
+        int app1Length = 4 + exif(6, ByteOrder.BIG_ENDIAN).length;
+        for (int i = 0; i < 20_000; i++) {
+            byte[] mutated = Arrays.copyOf(jpeg, jpeg.length);
+            for (int flips = 1 + random.nextInt(4); flips > 0; flips--) {
+                mutated[2 + random.nextInt(app1Length)] = (byte) random.nextInt(256);
+            }
+            assertValidOrientation(mutated);
+        }
+    }
+
+    @Test
+    void rotatesAndFlipsPixelsForEveryOrientation() throws IOException {
+        // 저장된 이미지는 왼쪽 위 빨강, 오른쪽 위 파랑, 왼쪽 아래 초록, 오른쪽 아래 노랑입니다.
+        byte[] jpeg = jpeg(quadrants(64, 32));
+        // 방향별로 화면에 보일 왼쪽 위, 오른쪽 위, 왼쪽 아래, 오른쪽 아래 색
+        Color[][] expected = {
+                {RED, BLUE, GREEN, YELLOW},  // 1 그대로
+                {BLUE, RED, YELLOW, GREEN},  // 2 좌우 반전
+                {YELLOW, GREEN, BLUE, RED},  // 3 180도
+                {GREEN, YELLOW, RED, BLUE},  // 4 상하 반전
+                {RED, GREEN, BLUE, YELLOW},  // 5 대각선 반전
+                {GREEN, RED, YELLOW, BLUE},  // 6 시계 방향 90도
+                {YELLOW, BLUE, GREEN, RED},  // 7 반대 대각선 반전
+                {BLUE, YELLOW, RED, GREEN},  // 8 반시계 방향 90도
+        };
+
+        for (int orientation = 1; orientation <= 8; orientation++) {
+            BufferedImage large = decode(imageProcessor.normalize(
+                    withApp1(jpeg, exif(orientation, ByteOrder.LITTLE_ENDIAN))).get(ImageVariant.LARGE));
+
+            boolean swapped = orientation >= 5;
+            assertEquals(swapped ? 32 : 64, large.getWidth(), "orientation " + orientation);
+            assertEquals(swapped ? 64 : 32, large.getHeight(), "orientation " + orientation);
+            int w = large.getWidth();
+            int h = large.getHeight();
+            Color[] corners = expected[orientation - 1];
+            assertColor(corners[0], large.getRGB(w / 4, h / 4), orientation);
+            assertColor(corners[1], large.getRGB(w * 3 / 4, h / 4), orientation);
+            assertColor(corners[2], large.getRGB(w / 4, h * 3 / 4), orientation);
+            assertColor(corners[3], large.getRGB(w * 3 / 4, h * 3 / 4), orientation);
+        }
+    }
+
+    @Test
+    void resizesEachVariantToItsMaximumWidth() throws IOException {
+        byte[] landscape = jpeg(quadrants(4000, 3000));
+        assertSizes(imageProcessor.normalize(landscape), 1920, 1440, 1080, 810, 400, 300);
+
+        // 시계 방향 90도로 찍힌 사진은 돌린 뒤의 폭(원본 높이)을 기준으로 줄입니다.
+        assertSizes(imageProcessor.normalize(withApp1(landscape, exif(6, ByteOrder.BIG_ENDIAN))),
+                1920, 2560, 1080, 1440, 400, 533);
+
+        // 최대 폭보다 작은 이미지는 키우지 않습니다.
+        assertSizes(imageProcessor.normalize(jpeg(quadrants(300, 200))), 300, 200, 300, 200, 300, 200);
+    }
+
+    @Test
+    void writesVariantsWithoutMetadata() throws IOException {
+        byte[] withExif = withApp1(jpeg(quadrants(640, 480)), exif(3, ByteOrder.BIG_ENDIAN));
+        assertTrue(markers(withExif).contains(0xE1));
+
+        for (byte[] variant : imageProcessor.normalize(withExif).values()) {
+            List<Integer> markers = markers(variant);
+            // APP1(EXIF, XMP) 부터 APP15 까지 어떤 응용 세그먼트도 남지 않아야 합니다.
+            for (int marker = 0xE1; marker <= 0xEF; marker++) {
+                assertFalse(markers.contains(marker), "APP" + (marker - 0xE0) + " in " + markers);
+            }
+            assertEquals(1, ImageProcessor.ExifOrientation.read(variant));
+        }
+    }
+
+    @Test
+    void rejectsHeicAndCmykImages() throws IOException {
+        byte[] heic = new byte[64];
+        ByteBuffer.wrap(heic).putInt(24).put("ftypheic".getBytes(StandardCharsets.US_ASCII))
+                .putInt(0).put("mif1heic".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(IllegalArgumentException.class, () -> imageProcessor.normalize(heic));
+
+        WritableRaster cmyk = Raster.createInterleavedRaster(DataBuffer.TYPE_BYTE, 32, 32, 4, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(cmyk, null, null), null);
+        } finally {
+            writer.dispose();
+        }
+        assertThrows(IllegalArgumentException.class, () -> imageProcessor.normalize(out.toByteArray()));
+    }
+
+    @Test
+    void failsWithBusyExceptionWhenTheQueueIsFull() throws Exception {
+        byte[] jpeg = jpeg(quadrants(64, 48));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 스레드 하나를 붙잡아 두고 대기열 4칸을 채웁니다.
+        CompletableFuture<Map<ImageVariant, byte[]>> blocked = imageProcessor.process(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ByteArrayInputStream(jpeg);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Map<ImageVariant, byte[]>>> queued = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queued.add(imageProcessor.process(() -> new ByteArrayInputStream(jpeg)));
+        }
+
+        CompletableFuture<Map<ImageVariant, byte[]>> rejected = imageProcessor.process(() -> new ByteArrayInputStream(jpeg));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ImageProcessingBusyException.class, thrown.getCause());
+        release.countDown();
+        assertEquals(ImageVariant.values().length, blocked.get(5, TimeUnit.SECONDS).size());
+        for (CompletableFuture<Map<ImageVariant, byte[]>> future : queued) {
+            assertEquals(ImageVariant.values().length, future.get(5, TimeUnit.SECONDS).size());
+        }
+    }
+
+    private static void assertValidOrientation(byte[] jpeg) {
+        int orientation = ImageProcessor.ExifOrientation.read(jpeg);
+        assertTrue(orientation >= 1 && orientation <= 8, String.valueOf(orientation));
+    }
+
+    private static void assertSizes(Map<ImageVariant, byte[]> variants, int... sizes) throws IOException {
+        ImageVariant[] order = {ImageVariant.LARGE, ImageVariant.MEDIUM, ImageVariant.THUMBNAIL};
+        for (int i = 0; i < order.length; i++) {
+            BufferedImage image = decode(variants.get(order[i]));
+            assertEquals(sizes[i * 2], image.getWidth(), order[i].name());
+            assertEquals(sizes[i * 2 + 1], image.getHeight(), order[i].name());
+        }
+    }
+
+    private static void assertColor(Color expected, int rgb, int orientation) {
+        Color actual = new Color(rgb);
+        int difference = Math.abs(expected.getRed() - actual.getRed()) + Math.abs(expected.getGreen() - actual.getGreen())
+                + Math.abs(expected.getBlue() - actual.getBlue());
+        assertTrue(difference < 90, "orientation " + orientation + ": expected " + expected + " but was " + actual);
+    }
+
+    private static BufferedImage quadrants(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(RED);
+        graphics.fillRect(0, 0, width / 2, height / 2);
+        graphics.setColor(BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height / 2);
+        graphics.setColor(GREEN);
+        graphics.fillRect(0, height / 2, width / 2, height - height / 2);
+        graphics.setColor(YELLOW);
+        graphics.fillRect(width / 2, height / 2, width - width / 2, height - height / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] jpeg) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(jpeg));
+    }
+
+    /**
+     * 방향 태그 하나만 든 EXIF 본문("Exif\0\0" + TIFF 헤더 + IFD)을 만듭니다.
+     */
+    private static byte[] exif(int orientation, ByteOrder order) {
+        ByteBuffer exif = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+        exif.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        exif.put(order == ByteOrder.BIG_ENDIAN ? "MM".getBytes(StandardCharsets.US_ASCII) : "II".getBytes(StandardCharsets.US_ASCII));
+        exif.order(order);
+        exif.putShort((short) 42).putInt(8);                       // TIFF 헤더, IFD0 은 바로 뒤
+        exif.putShort((short) 1);                                  // 항목 수
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1) // 방향, SHORT 1개
+                .putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);                                            // 다음 IFD 없음
+        return exif.array();
+    }
+
+    // SOI 바로 뒤에 APP1 세그먼트를 넣습니다.
+    private static byte[] withApp1(byte[] jpeg, byte[] body) {
+        ByteBuffer result = ByteBuffer.allocate(jpeg.length + 4 + body.length);
+        result.put(jpeg, 0, 2);
+        result.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (2 + body.length)).put(body);
+        result.put(jpeg, 2, jpeg.length - 2);
+        return result.array();
+    }
+
+    // 영상 데이터(SOS) 전까지 나오는 세그먼트 마커 목록
+    private static List<Integer> markers(byte[] jpeg) {
+        List<Integer> markers = new ArrayList<>();
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+            int marker = jpeg[offset + 1] & 0xFF;
+            markers.add(marker);
+            if (marker == 0xDA) {
+                break;
+            }
+            offset += 2 + ((jpeg[offset + 2] & 0xFF) << 8 | jpeg[offset + 3] & 0xFF);
+        }
+        return markers;
+    }
+}
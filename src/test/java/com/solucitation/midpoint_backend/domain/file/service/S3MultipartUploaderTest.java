@@ -0,0 +1,177 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * S3MultipartUploader 와 S3Service 의 멀티파트·롤백 정리 동작을 로컬 S3 대체 서버(S3StandIn)에서 확인합니다.
+ * 조각 크기는 S3 최소값인 5MB 이고, 12MB 파일은 5MB·5MB·2MB 세 조각이 됩니다.
+ */
+class S3MultipartUploaderTest {
+
+    private static final int FILE_SIZE = 12 * 1024 * 1024;
+
+    private S3StandIn s3;
+    private S3MultipartUploader uploader;
+    private ImageProcessor imageProcessor;
+    private S3Service s3Service;
+    private MockMultipartFile file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new S3StandIn();
+        AmazonS3 amazonS3 = s3.client();
+        uploader = new S3MultipartUploader(amazonS3, DataSize.ofMegabytes(5), 4, 16, 3);
+        ReflectionTestUtils.setField(uploader, "bucket", S3StandIn.BUCKET);
+        imageProcessor = new ImageProcessor(2, 8, 0.82f, 50_000_000L);
+        s3Service = new S3Service(amazonS3, uploader, imageProcessor, 8, 64, 2, DataSize.ofMegabytes(8));
+        ReflectionTestUtils.setField(s3Service, "bucket", S3StandIn.BUCKET);
+        ReflectionTestUtils.setField(s3Service, "endpoint", s3.endpoint());
+
+        byte[] content = new byte[FILE_SIZE];
+        new Random(24).nextBytes(content);
+        file = new MockMultipartFile("video", "large.mp4", "video/mp4", content);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+        uploader.shutdown();
+        imageProcessor.shutdown();
+        s3.close();
+    }
+
+    @Test
+    void uploadsPartsAndReportsProgress() throws IOException {
+        List<Long> progress = Collections.synchronizedList(new ArrayList<>());
+
+        uploader.upload("post-images/large.mp4", FILE_SIZE, "video/mp4", file, progress::add);
+
+        assertArrayEquals(file.getBytes(), s3.object("post-images/large.mp4"));
+        assertEquals(3, progress.size());
+        assertEquals(FILE_SIZE, Collections.max(progress));
+        assertEquals(0, s3.openUploads());
+    }
+
+    @Test
+    void resendsOnlyTheFailedPart() throws IOException {
+        s3.failPart(2, 500, "InternalError", 1);
+
+        uploader.upload("post-images/large.mp4", FILE_SIZE, "video/mp4", file, uploaded -> {
+        });
+
+        assertArrayEquals(file.getBytes(), s3.object("post-images/large.mp4"));
+        assertEquals(1, s3.partPutCount(1));
+        assertEquals(2, s3.partPutCount(2));
+        assertEquals(1, s3.partPutCount(3));
+    }
+
+    @Test
+    void abortsUploadWhenPartIsRejected() {
+        s3.failPart(2, 403, "AccessDenied", 10);
+
+        assertThrows(AmazonS3Exception.class, () ->
+                uploader.upload("post-images/large.mp4", FILE_SIZE, "video/mp4", file, uploaded -> {
+                }));
+
+        assertEquals(1, s3.partPutCount(2));
+        assertEquals(0, s3.openUploads());
+        assertNull(s3.object("post-images/large.mp4"));
+    }
+
+    @Test
+    void resumesFromPartsAlreadyOnS3() throws IOException {
+        String key = "profile-images/large.mp4";
+        long partSize = uploader.partSizeFor(FILE_SIZE);
+        int partCount = S3MultipartUploader.partCount(FILE_SIZE, partSize);
+        String uploadId = uploader.initiate(key, "video/mp4");
+        uploadPart(key, uploadId, 1, partSize);
+        uploadPart(key, uploadId, 2, partSize);
+
+        // 연결이 끊긴 뒤 다시 와서 S3 에 있는 조각을 확인하고 나머지만 보냅니다.
+        List<Integer> received = uploader.listParts(key, uploadId).stream().map(PartSummary::getPartNumber).toList();
+        assertEquals(List.of(1, 2), received);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            if (!received.contains(partNumber)) {
+                uploadPart(key, uploadId, partNumber, partSize);
+            }
+        }
+        List<PartETag> partETags = uploader.listParts(key, uploadId).stream()
+                .map(part -> new PartETag(part.getPartNumber(), part.getETag()))
+                .toList();
+        uploader.complete(key, uploadId, partETags);
+
+        assertArrayEquals(file.getBytes(), s3.object(key));
+        assertEquals(1, s3.partPutCount(1));
+    }
+
+    @Test
+    void abortsOnlyStaleUploadsUnderPrefix() {
+        uploader.initiate("post-images/a.mp4", "video/mp4");
+        uploader.initiate("profile-images/b.mp4", "video/mp4");
+
+        assertEquals(0, uploader.abortStaleUploads("post-images/", Duration.ofHours(1)));
+        assertEquals(1, uploader.abortStaleUploads("post-images/", Duration.ofSeconds(-1)));
+        assertEquals(1, s3.openUploads());
+    }
+
+    @Test
+    void sendsLargeFilesThroughMultipartUpload() throws IOException {
+        String url = s3Service.upload("post-images", "large.mp4", file);
+
+        String key = url.substring((s3.endpoint() + "/" + S3StandIn.BUCKET + "/").length());
+        assertArrayEquals(file.getBytes(), s3.object(key));
+        assertEquals(1, s3.completedUploads());
+        assertEquals(3, s3.partPutCount(1) + s3.partPutCount(2) + s3.partPutCount(3));
+    }
+
+    @Test
+    void deletesClaimedFilesOnlyWhenTransactionRollsBack() throws IOException {
+        MockMultipartFile image = new MockMultipartFile("images", "photo.jpg", "image/jpeg", new byte[1024]);
+        String rolledBack = s3Service.upload("post-images", "photo.jpg", image);
+        String committed = s3Service.upload("post-images", "photo.jpg", image);
+
+        complete(rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+        complete(committed, TransactionSynchronization.STATUS_COMMITTED);
+
+        String prefix = s3.endpoint() + "/" + S3StandIn.BUCKET + "/";
+        assertNull(s3.object(rolledBack.substring(prefix.length())));
+        assertNotNull(s3.object(committed.substring(prefix.length())));
+    }
+
+    private void complete(String url, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            s3Service.deleteOnRollback(List.of(url));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void uploadPart(String key, String uploadId, int partNumber, long partSize) throws IOException {
+        int offset = (int) ((partNumber - 1) * partSize);
+        int length = (int) Math.min(partSize, FILE_SIZE - offset);
+        uploader.uploadPart(key, uploadId, partNumber, new ByteArrayInputStream(file.getBytes(), offset, length), length);
+    }
+}
@@ -0,0 +1,159 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * S3Service 를 로컬 S3 대체 서버(S3StandIn)에 붙여 업로드·정리·재시도 동작을 확인합니다.
+ */
+class S3ServiceTest {
+
+    private static final int IMAGE_SIZE = 5 * 1024 * 1024;
+
+    private S3StandIn s3;
+    private ImageProcessor imageProcessor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new S3StandIn();
+        AmazonS3 amazonS3 = s3.client();
+        S3MultipartUploader multipartUploader = new S3MultipartUploader(amazonS3, DataSize.ofMegabytes(8), 8, 64, 3);
+        ReflectionTestUtils.setField(multipartUploader, "bucket", S3StandIn.BUCKET);
+        imageProcessor = new ImageProcessor(2, 8, 0.82f, 50_000_000L);
+        s3Service = new S3Service(amazonS3, multipartUploader, imageProcessor, 8, 64, 2, DataSize.ofMegabytes(16));
+        ReflectionTestUtils.setField(s3Service, "bucket", S3StandIn.BUCKET);
+        ReflectionTestUtils.setField(s3Service, "endpoint", s3.endpoint());
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+        imageProcessor.shutdown();
+        s3.close();
+    }
+
+    @Test
+    void uploadsImagesOfOnePostConcurrentlyFromStreams() throws IOException {
+        s3.throttle(20L * 1024 * 1024);
+        List<MultipartFile> images = List.of(image("a.jpg", 1), image("b.jpg", 2), image("c.jpg", 3));
+
+        List<String> urls = s3Service.uploadAll("post-images", images);
+
+        assertEquals(3, urls.size());
+        for (int i = 0; i < images.size(); i++) {
+            String prefix = s3.endpoint() + "/" + S3StandIn.BUCKET + "/";
+            assertTrue(urls.get(i).startsWith(prefix + "post-images/" + "abc".charAt(i) + "_"), urls.get(i));
+            String key = urls.get(i).substring(prefix.length());
+            assertArrayEquals(((StreamOnlyFile) images.get(i)).content(), s3.object(key));
+            assertEquals("image/jpeg", s3.contentType(key));
+        }
+        assertEquals(3, s3.maxConcurrentPuts());
+    }
+
+    @Test
+    void failedUploadRemovesOtherImagesOfThePost() {
+        s3.fail("broken", 403, "AccessDenied", 1);
+        List<MultipartFile> images = List.of(image("a.jpg", 1), image("broken.jpg", 2), image("c.jpg", 3));
+
+        AmazonS3Exception thrown = assertThrows(AmazonS3Exception.class, () -> s3Service.uploadAll("post-images", images));
+
+        assertEquals(403, thrown.getStatusCode());
+        assertTrue(s3.keys().isEmpty(), s3.keys().toString());
+    }
+
+    @Test
+    void doesNotRetryForbiddenUpload() {
+        s3.fail("denied", 403, "AccessDenied", 2);
+
+        assertThrows(AmazonS3Exception.class, () -> s3Service.upload("post-images", "denied.jpg", image("denied.jpg", 1)));
+
+        assertEquals(1, s3.putCount("denied"));
+    }
+
+    @Test
+    void failedNormalizationKeepsStoredOriginals() throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+        String photo = s3Service.upload("post-images", "photo.jpg",
+                new MockMultipartFile("images", "photo.jpg", "image/jpeg", jpeg.toByteArray()));
+        String broken = s3Service.upload("post-images", "broken.heic",
+                new MockMultipartFile("images", "broken.heic", "image/heic", new byte[1024]));
+        Set<String> originals = Set.copyOf(s3.keys());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> s3Service.normalizeStoredImages("post-images", List.of(photo, broken)));
+
+        // 같은 업로드 ID 로 다시 시도할 수 있도록 원본은 남기고, 먼저 바뀐 크기별 JPEG 만 지웁니다.
+        assertEquals(originals, s3.keys());
+    }
+
+    @Test
+    void retriesOnlyServerErrorsThrottlingAndNetworkFailures() {
+        assertFalse(S3Service.isRetryable(serviceException(403, "AccessDenied")));
+        assertFalse(S3Service.isRetryable(serviceException(400, "InvalidArgument")));
+        assertTrue(S3Service.isRetryable(serviceException(500, "InternalError")));
+        assertTrue(S3Service.isRetryable(serviceException(503, "SlowDown")));
+        assertTrue(S3Service.isRetryable(new SdkClientException("Unable to execute HTTP request: Connection reset")));
+    }
+
+    private static AmazonServiceException serviceException(int status, String errorCode) {
+        AmazonS3Exception exception = new AmazonS3Exception(errorCode);
+        exception.setStatusCode(status);
+        exception.setErrorCode(errorCode);
+        return exception;
+    }
+
+    private static MultipartFile image(String name, int seed) {
+        byte[] content = new byte[IMAGE_SIZE];
+        new Random(seed).nextBytes(content);
+        return new StreamOnlyFile(name, content);
+    }
+
+    /**
+     * 스트림으로만 읽을 수 있는 업로드 파일입니다. 파일 전체를 힙에 올리거나 로컬 파일로 옮기면 실패합니다.
+     */
+    static final class StreamOnlyFile extends MockMultipartFile {
+
+        private final byte[] content;
+
+        StreamOnlyFile(String name, byte[] content) {
+            super("images", name, "image/jpeg", content);
+            this.content = content;
+        }
+
+        byte[] content() {
+            return content;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new AssertionError("업로드할 파일을 바이트 배열로 읽으면 안 됩니다.");
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new AssertionError("업로드할 파일을 로컬 파일로 옮기면 안 됩니다.");
+        }
+    }
+}
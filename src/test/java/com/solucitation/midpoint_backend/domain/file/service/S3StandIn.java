@@ -0,0 +1,377 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.solucitation.midpoint_backend.global.config.S3Config;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 로컬 S3 대체 서버입니다. 경로 방식 요청(/버킷/키)의 PUT, GET, DELETE, 여러 개 삭제와 멀티파트 업로드만 흉내 냅니다.
+ * client() 는 S3Config 에 cloud.aws.s3.endpoint 로 이 서버 주소를 넣어 만든 실제 AmazonS3 클라이언트입니다.
+ * fail·failPart 로 특정 키나 조각의 PUT 에 오류 응답을 돌려주고, throttle 로 연결마다 받는 속도를 제한할 수 있습니다.
+ */
+final class S3StandIn implements AutoCloseable {
+
+    static final String BUCKET = "test-bucket";
+
+    private static final Pattern DELETE_KEY = Pattern.compile("<Key>(.*?)</Key>");
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private final Map<String, Failure> failures = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> putCounts = new ConcurrentHashMap<>();
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    private final Map<Integer, Failure> partFailures = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> partPutCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger completedUploads = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long bytesPerSecond;
+
+    S3StandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    AmazonS3 client() {
+        S3Config config = new S3Config();
+        ReflectionTestUtils.setField(config, "accessKey", "test");
+        ReflectionTestUtils.setField(config, "secretKey", "test");
+        ReflectionTestUtils.setField(config, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(config, "endpoint", endpoint());
+        ReflectionTestUtils.setField(config, "maxConnections", 50);
+        return config.amazonS3Client();
+    }
+
+    /**
+     * 키에 keyPart 가 들어간 PUT 요청 times 번에 status 로 응답합니다.
+     */
+    void fail(String keyPart, int status, String errorCode, int times) {
+        failures.put(keyPart, new Failure(status, errorCode, new AtomicInteger(times)));
+    }
+
+    /**
+     * 멀티파트 업로드의 partNumber 번 조각 PUT 요청 times 번에 status 로 응답합니다.
+     */
+    void failPart(int partNumber, int status, String errorCode, int times) {
+        partFailures.put(partNumber, new Failure(status, errorCode, new AtomicInteger(times)));
+    }
+
+    // 연결 하나가 받는 속도를 제한해 실제 네트워크처럼 올리는 데 시간이 걸리게 합니다. 0 이면 제한하지 않습니다.
+    void throttle(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    String contentType(String key) {
+        return contentTypes.get(key);
+    }
+
+    Set<String> keys() {
+        return objects.keySet();
+    }
+
+    // keyPart 가 들어간 키로 온 PUT 요청 수 (실패 응답 포함)
+    int putCount(String keyPart) {
+        return putCounts.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(keyPart))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+    }
+
+    int maxConcurrentPuts() {
+        return maxInFlight.get();
+    }
+
+    // partNumber 번 조각으로 온 PUT 요청 수 (실패 응답 포함)
+    int partPutCount(int partNumber) {
+        AtomicInteger count = partPutCounts.get(partNumber);
+        return count == null ? 0 : count.get();
+    }
+
+    // 시작한 뒤 완료도 중단도 되지 않은 멀티파트 업로드 수
+    int openUploads() {
+        return uploads.size();
+    }
+
+    int completedUploads() {
+        return completedUploads.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        // 버킷 단위 요청(여러 개 삭제, 업로드 목록)은 키가 없습니다.
+        String key = path.length() > BUCKET.length() + 2 ? path.substring(BUCKET.length() + 2) : "";
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+
+        if (method.equals("POST") && query.containsKey("uploads")) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new Upload(key, Instant.now(), new ConcurrentSkipListMap<>()));
+            xml(exchange, "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key + "</Key>"
+                    + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+        } else if (method.equals("PUT") && query.containsKey("uploadId")) {
+            putPart(exchange, query.get("uploadId"), Integer.parseInt(query.get("partNumber")));
+        } else if (method.equals("GET") && query.containsKey("uploadId")) {
+            listParts(exchange, query.get("uploadId"));
+        } else if (method.equals("GET") && query.containsKey("uploads")) {
+            listUploads(exchange, query.getOrDefault("prefix", ""));
+        } else if (method.equals("POST") && query.containsKey("uploadId")) {
+            exchange.getRequestBody().readAllBytes();
+            Upload upload = uploads.remove(query.get("uploadId"));
+            if (upload == null) {
+                error(exchange, 404, "NoSuchUpload");
+                return;
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (byte[] part : upload.parts().values()) {
+                content.write(part);
+            }
+            objects.put(key, content.toByteArray());
+            completedUploads.incrementAndGet();
+            xml(exchange, "<CompleteMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key + "</Key>"
+                    + "<ETag>\"" + md5(content.toByteArray()) + "-" + upload.parts().size() + "\"</ETag></CompleteMultipartUploadResult>");
+        } else if (method.equals("DELETE") && query.containsKey("uploadId")) {
+            uploads.remove(query.get("uploadId"));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else if (method.equals("PUT")) {
+            put(exchange, key);
+        } else if (method.equals("GET")) {
+            byte[] body = objects.get(key);
+            if (body == null) {
+                error(exchange, 404, "NoSuchKey");
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        } else if (method.equals("DELETE")) {
+            objects.remove(key);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else if (method.equals("POST") && query.containsKey("delete")) {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = DELETE_KEY.matcher(request);
+            while (matcher.find()) {
+                objects.remove(matcher.group(1));
+            }
+            xml(exchange, "<DeleteResult></DeleteResult>");
+        } else {
+            error(exchange, 501, "NotImplemented");
+        }
+    }
+
+    private void put(HttpExchange exchange, String key) throws IOException {
+        putCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        int concurrent = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(concurrent, Math::max);
+        try {
+            byte[] body = read(exchange);
+            Failure failure = failureFor(key);
+            if (failure != null) {
+                error(exchange, failure.status(), failure.errorCode());
+                return;
+            }
+            objects.put(key, body);
+            contentTypes.put(key, String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")));
+            exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void putPart(HttpExchange exchange, String uploadId, int partNumber) throws IOException {
+        partPutCounts.computeIfAbsent(partNumber, number -> new AtomicInteger()).incrementAndGet();
+        byte[] body = read(exchange);
+        Failure failure = partFailures.get(partNumber);
+        if (failure != null && failure.remaining().getAndDecrement() > 0) {
+            error(exchange, failure.status(), failure.errorCode());
+            return;
+        }
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        upload.parts().put(partNumber, body);
+        exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    private void listParts(HttpExchange exchange, String uploadId) throws IOException {
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        StringBuilder xml = new StringBuilder("<ListPartsResult><Bucket>" + BUCKET + "</Bucket><Key>" + upload.key() + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId><IsTruncated>false</IsTruncated>");
+        upload.parts().forEach((partNumber, part) -> xml.append("<Part><PartNumber>").append(partNumber).append("</PartNumber>")
+                .append("<LastModified>").append(timestamp(upload.initiatedAt())).append("</LastModified>")
+                .append("<ETag>\"").append(md5(part)).append("\"</ETag><Size>").append(part.length).append("</Size></Part>"));
+        xml(exchange, xml.append("</ListPartsResult>").toString());
+    }
+
+    private void listUploads(HttpExchange exchange, String prefix) throws IOException {
+        StringBuilder xml = new StringBuilder("<ListMultipartUploadsResult><Bucket>" + BUCKET + "</Bucket><IsTruncated>false</IsTruncated>");
+        uploads.forEach((uploadId, upload) -> {
+            if (upload.key().startsWith(prefix)) {
+                xml.append("<Upload><Key>").append(upload.key()).append("</Key><UploadId>").append(uploadId).append("</UploadId>")
+                        .append("<Initiated>").append(timestamp(upload.initiatedAt())).append("</Initiated></Upload>");
+            }
+        });
+        xml(exchange, xml.append("</ListMultipartUploadsResult>").toString());
+    }
+
+    private static String timestamp(Instant instant) {
+        return DateTimeFormatter.ISO_INSTANT.format(instant.truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    private Failure failureFor(String key) {
+        for (Map.Entry<String, Failure> entry : failures.entrySet()) {
+            if (key.contains(entry.getKey()) && entry.getValue().remaining().getAndDecrement() > 0) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    // SDK 는 HTTP 주소로 PUT 할 때 aws-chunked 로 서명해 보내므로 조각 머리를 벗겨 냅니다.
+    private byte[] read(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = exchange.getRequestBody();
+        byte[] buffer = new byte[64 * 1024];
+        long startedAt = System.nanoTime();
+        long total = 0;
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+            total += n;
+            long limit = bytesPerSecond;
+            if (limit > 0) {
+                long waitNanos = startedAt + total * 1_000_000_000L / limit - System.nanoTime();
+                if (waitNanos > 0) {
+                    sleep(waitNanos);
+                }
+            }
+        }
+        byte[] body = out.toByteArray();
+        return exchange.getRequestHeaders().containsKey("x-amz-decoded-content-length") ? dechunk(body) : body;
+    }
+
+    private static byte[] dechunk(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int position = 0;
+        while (true) {
+            int lineEnd = position;
+            while (body[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0], 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                return out.toByteArray();
+            }
+            out.write(body, position, size);
+            position += size + 2;
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String errorCode) throws IOException {
+        byte[] body = ("<Error><Code>" + errorCode + "</Code><Message>" + errorCode + "</Message>"
+                + "<RequestId>stand-in</RequestId></Error>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static void xml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    // SDK 가 받은 ETag 와 보낸 내용의 MD5 를 비교하므로 실제 MD5 를 돌려줍니다.
+    private static String md5(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Failure(int status, String errorCode, AtomicInteger remaining) {
+    }
+
+    private record Upload(String key, Instant initiatedAt, ConcurrentSkipListMap<Integer, byte[]> parts) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.solucitation.midpoint_backend.domain.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 하나에 5MB 이미지 세 장을 올리는 시간을, 한 장씩 차례로 올릴 때(이전 방식)와 uploadAll 로 동시에 올릴 때 비교합니다.
+ * S3 대체 서버는 연결마다 초당 10MB 만 받도록 제한합니다. ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class S3UploadBenchmarkTest {
+
+    private static final int IMAGE_SIZE = 5 * 1024 * 1024;
+    private static final int ROUNDS = 5;
+
+    private S3StandIn s3;
+    private ImageProcessor imageProcessor;
+    private S3Service s3Service;
+    private List<MultipartFile> images;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new S3StandIn();
+        s3.throttle(10L * 1024 * 1024);
+        AmazonS3 amazonS3 = s3.client();
+        S3MultipartUploader multipartUploader = new S3MultipartUploader(amazonS3, DataSize.ofMegabytes(8), 8, 64, 3);
+        ReflectionTestUtils.setField(multipartUploader, "bucket", S3StandIn.BUCKET);
+        imageProcessor = new ImageProcessor(2, 8, 0.82f, 50_000_000L);
+        s3Service = new S3Service(amazonS3, multipartUploader, imageProcessor, 8, 64, 2, DataSize.ofMegabytes(16));
+        ReflectionTestUtils.setField(s3Service, "bucket", S3StandIn.BUCKET);
+        ReflectionTestUtils.setField(s3Service, "endpoint", s3.endpoint());
+
+        images = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 3; i++) {
+            byte[] content = new byte[IMAGE_SIZE];
+            random.nextBytes(content);
+            images.add(new MockMultipartFile("images", "photo" + i + ".jpg", "image/jpeg", content));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+        imageProcessor.shutdown();
+        s3.close();
+    }
+
+    @Test
+    void parallelUploadCutsCreatePostLatency() throws IOException {
+        // 연결을 미리 만들어 두어 첫 측정에 연결 비용이 섞이지 않게 합니다.
+        s3Service.uploadAll("post-images", images);
+
+        long[] sequential = new long[ROUNDS];
+        long[] parallel = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            for (MultipartFile image : images) {
+                s3Service.upload("post-images", image.getOriginalFilename(), image);
+            }
+            sequential[round] = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            s3Service.uploadAll("post-images", images);
+            parallel[round] = System.nanoTime() - startedAt;
+        }
+
+        System.out.printf("3 x 5 MB images, 10 MB/s per connection, median of %d rounds%n", ROUNDS);
+        System.out.printf("  one by one: %5d ms%n", median(sequential) / 1_000_000);
+        System.out.printf("  uploadAll:  %5d ms%n", median(parallel) / 1_000_000);
+        assertTrue(median(parallel) < median(sequential), "parallel upload should be faster");
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
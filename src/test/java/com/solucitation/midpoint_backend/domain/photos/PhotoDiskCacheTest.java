@@ -0,0 +1,171 @@
+package com.solucitation.midpoint_backend.domain.photos;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhotoDiskCacheTest {
+
+    @TempDir
+    Path root;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFilesDownToNinetyPercent() throws Exception {
+        PhotoDiskCache cache = cache(1000);
+        for (int i = 0; i < 10; i++) {
+            cache.put(key(i), PhotoSize.SMALL, bytes(100, i));
+            Thread.sleep(2);
+        }
+        // 가장 먼저 넣은 0, 1 을 읽어 최근에 쓴 파일로 만듭니다.
+        assertNotNull(cache.find(key(0), PhotoSize.SMALL));
+        assertNotNull(cache.find(key(1), PhotoSize.SMALL));
+        assertEquals(1000, bytesOnDisk());
+
+        cache.put(key(10), PhotoSize.SMALL, bytes(100, 10));
+
+        // 1100 바이트에서 900 바이트가 될 때까지 가장 오래 안 쓴 2, 3 을 지웁니다.
+        assertEquals(900, bytesOnDisk());
+        assertNull(cache.find(key(2), PhotoSize.SMALL));
+        assertNull(cache.find(key(3), PhotoSize.SMALL));
+        for (int i : new int[]{0, 1, 4, 9, 10}) {
+            PhotoDiskCache.CachedPhoto photo = cache.find(key(i), PhotoSize.SMALL);
+            assertNotNull(photo, "photo " + i);
+            assertArrayEquals(bytes(100, i), Files.readAllBytes(photo.file()));
+        }
+    }
+
+    @Test
+    void keepsTheFileJustWrittenEvenWhenItAloneExceedsTheLimit() throws IOException {
+        PhotoDiskCache cache = cache(100);
+        cache.put(key(0), PhotoSize.SMALL, bytes(80, 0));
+
+        cache.put(key(1), PhotoSize.LARGE, bytes(150, 1));
+
+        assertNull(cache.find(key(0), PhotoSize.SMALL));
+        PhotoDiskCache.CachedPhoto photo = cache.find(key(1), PhotoSize.LARGE);
+        assertNotNull(photo);
+        assertEquals(150, photo.size());
+        assertEquals(150, Files.size(photo.file()));
+    }
+
+    @Test
+    void readersSeeEitherTheOldOrTheNewFileWhileItIsReplaced() throws Exception {
+        PhotoDiskCache cache = cache(10_000_000);
+        byte[] first = bytes(300_000, 'a');
+        byte[] second = bytes(200_000, 'b');
+        cache.put(key(0), PhotoSize.MEDIUM, first);
+        Path file = cache.find(key(0), PhotoSize.MEDIUM).file();
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Future<?> writer = executor.submit(() -> {
+            try {
+                for (int i = 0; i < 200; i++) {
+                    cache.put(key(0), PhotoSize.MEDIUM, i % 2 == 0 ? second : first);
+                }
+            } finally {
+                writing.set(false);
+            }
+            return null;
+        });
+        int reads = 0;
+        while (writing.get() || reads == 0) {
+            byte[] read = Files.readAllBytes(file);
+            assertTrue(Arrays.equals(first, read) || Arrays.equals(second, read), "쓰다 만 파일을 읽었습니다: " + read.length);
+            reads++;
+        }
+        writer.get(10, TimeUnit.SECONDS);
+
+        // 임시 파일은 남지 않고, 같은 파일을 덮어쓴 크기만 셉니다.
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(List.of(file), files.filter(Files::isRegularFile).toList());
+        }
+        assertEquals(first.length, cache.find(key(0), PhotoSize.MEDIUM).size());
+        cache.put(key(1), PhotoSize.MEDIUM, bytes(10_000_000 - first.length, 1));
+        assertNotNull(cache.find(key(0), PhotoSize.MEDIUM)); // 합이 한도와 같으면 지우지 않습니다.
+    }
+
+    @Test
+    void openReaderFinishesWhileTheFileIsEvicted() throws IOException {
+        PhotoDiskCache cache = cache(1000);
+        byte[] content = bytes(600, 0);
+        cache.put(key(0), PhotoSize.SMALL, content);
+        PhotoDiskCache.CachedPhoto photo = cache.find(key(0), PhotoSize.SMALL);
+
+        try (FileChannel channel = FileChannel.open(photo.file(), StandardOpenOption.READ)) {
+            // 응답을 보내는 도중에 다른 사진이 들어와 이 파일이 지워집니다.
+            cache.put(key(1), PhotoSize.SMALL, bytes(600, 1));
+            assertFalse(Files.exists(photo.file()));
+
+            ByteBuffer buffer = ByteBuffer.allocate(content.length);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 이미 연 파일은 지워져도 끝까지 읽힙니다.
+            }
+            assertArrayEquals(content, buffer.array());
+        }
+
+        // 찾은 뒤 열기 전에 지워졌다면 파일이 없으므로, 다시 find 하면 캐시에 없다고 답합니다.
+        assertThrows(NoSuchFileException.class, () -> FileChannel.open(photo.file(), StandardOpenOption.READ));
+        assertNull(cache.find(key(0), PhotoSize.SMALL));
+    }
+
+    @Test
+    void reloadsFilesAndDropsLeftoverTempFilesOnStart() throws IOException {
+        PhotoDiskCache cache = cache(1000);
+        cache.put(key(0), PhotoSize.SMALL, bytes(100, 0));
+        Path leftover = Files.createTempFile(root.resolve(key(0).substring(0, 2)), key(0), ".tmp");
+
+        PhotoDiskCache restarted = cache(1000);
+
+        assertFalse(Files.exists(leftover));
+        assertArrayEquals(bytes(100, 0), Files.readAllBytes(restarted.find(key(0), PhotoSize.SMALL).file()));
+    }
+
+    private PhotoDiskCache cache(long maxBytes) throws IOException {
+        PhotoDiskCache cache = new PhotoDiskCache(new SimpleMeterRegistry(), root, maxBytes);
+        cache.load();
+        return cache;
+    }
+
+    private long bytesOnDisk() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            long total = 0;
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                total += Files.size(file);
+            }
+            return total;
+        }
+    }
+
+    private static String key(int i) {
+        return String.format("%02x%062d", i, i);
+    }
+
+    private static byte[] bytes(int length, int fill) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) fill);
+        return bytes;
+    }
+}
@@ -0,0 +1,103 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solucitation.midpoint_backend.domain.history2.repository.PlaceInfoRepositoryV2;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class PlaceIndexTest {
+
+    // 0.01° 셀 (37.56~37.57, 126.97~126.98) 의 중심
+    private static final double LATITUDE = 37.565;
+    private static final double LONGITUDE = 126.975;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sparseImportStillFallsThroughToGoogle() throws IOException {
+        Place imported = cafe("imported", LATITUDE + 0.001, LONGITUDE);
+        PlaceIndex index = index(importFile(imported));
+
+        index.loadImportFile();
+
+        // 가져오기 파일의 카페 하나만으로 셀을 채운 것으로 보지 않으므로 구글로 조회해야 합니다.
+        assertNull(index.search(LATITUDE, LONGITUDE, 500, "cafe"));
+        assertFalse(index.isFresh(LATITUDE, LONGITUDE, 500, "cafe", Duration.ofDays(7)));
+        // 구글을 쓸 수 없을 때의 대체 결과로는 씁니다.
+        assertEquals(List.of(imported), index.searchIgnoringStaleness(LATITUDE, LONGITUDE, 500, "cafe"));
+    }
+
+    @Test
+    void importedPlacesAreServedOnceGoogleFillsTheCell() throws IOException {
+        Place imported = cafe("imported", LATITUDE + 0.001, LONGITUDE);
+        Place fromGoogle = cafe("google", LATITUDE, LONGITUDE + 0.0005);
+        PlaceIndex index = index(importFile(imported));
+        index.loadImportFile();
+
+        index.record(LATITUDE, LONGITUDE, 1000, "cafe", List.of(fromGoogle));
+
+        assertEquals(List.of(fromGoogle, imported), index.search(LATITUDE, LONGITUDE, 500, "cafe"));
+        // 다른 카테고리는 여전히 채워지지 않았습니다.
+        assertNull(index.search(LATITUDE, LONGITUDE, 500, "restaurant"));
+    }
+
+    @Test
+    void cellsOnlyPartlyInsideTheSearchedRadiusAreNotRecorded() {
+        Place near = cafe("near", LATITUDE + 0.001, LONGITUDE);
+        // 북쪽 이웃 셀의 중심(약 1.1km)은 반경 안이지만 셀의 북쪽 절반은 반경 밖입니다.
+        Place north = cafe("north", LATITUDE + 0.0101, LONGITUDE);
+        PlaceIndex index = index("");
+
+        index.record(LATITUDE, LONGITUDE, 1200, "cafe", List.of(near, north));
+
+        assertEquals(List.of(near), index.search(LATITUDE, LONGITUDE, 300, "cafe"));
+        assertNull(index.search(LATITUDE + 0.01, LONGITUDE, 300, "cafe"));
+    }
+
+    @Test
+    void fullPageFromGoogleIsNotRecordedAsFilled() {
+        PlaceIndex index = index("");
+        List<Place> page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            page.add(cafe("google-" + i, LATITUDE + i * 0.0001, LONGITUDE));
+        }
+
+        index.record(LATITUDE, LONGITUDE, 1000, "cafe", page);
+
+        assertNull(index.search(LATITUDE, LONGITUDE, 500, "cafe"));
+        assertEquals(20, index.searchIgnoringStaleness(LATITUDE, LONGITUDE, 500, "cafe").size());
+    }
+
+    private PlaceIndex index(String importPath) {
+        return new PlaceIndex(mock(PlaceInfoRepositoryV2.class), objectMapper, new SimpleMeterRegistry(),
+                true, importPath, Duration.ofDays(7), 5000);
+    }
+
+    private String importFile(Place... places) throws IOException {
+        Path file = directory.resolve("places.ndjson");
+        StringBuilder lines = new StringBuilder();
+        for (Place place : places) {
+            lines.append(objectMapper.writeValueAsString(place)).append('\n');
+        }
+        Files.writeString(file, lines);
+        return file.toString();
+    }
+
+    private static Place cafe(String placeId, double latitude, double longitude) {
+        return new Place(placeId, "서울특별시 중구", latitude, longitude, "[\"cafe\",\"food\"]", placeId, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.solucitation.midpoint_backend.domain.places;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacesResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PlacesResponseParser parser = new PlacesResponseParser(objectMapper);
+
+    @Test
+    void matchesTreeModelMapping() throws IOException {
+        String response = """
+                {
+                  "html_attributions": [],
+                  "next_page_token": "token",
+                  "results": [
+                    {
+                      "business_status": "OPERATIONAL",
+                      "geometry": {
+                        "location": {"lat": 37.5665, "lng": 126.978},
+                        "viewport": {"northeast": {"lat": 37.6, "lng": 127.0}, "southwest": {"lat": 37.5, "lng": 126.9}}
+                      },
+                      "name": "카페 \\"따옴표\\"",
+                      "opening_hours": {"open_now": true},
+                      "photos": [
+                        {"height": 3024, "html_attributions": ["<a href=\\"x\\">A</a>"], "photo_reference": "first", "width": 4032},
+                        {"photo_reference": "second"}
+                      ],
+                      "place_id": "ChIJ-first",
+                      "plus_code": {"compound_code": "HX8H+JH", "global_code": "8Q98HX8H+JH"},
+                      "types": ["cafe", "food", "point_of_interest", "establishment"],
+                      "vicinity": "서울특별시 중구 세종대로 110"
+                    },
+                    {
+                      "name": "사진 없는 장소",
+                      "geometry": {"location": {"lng": 127.1, "lat": 37.4}},
+                      "place_id": "ChIJ-second",
+                      "types": []
+                    },
+                    {
+                      "name": "빈 사진 목록",
+                      "photos": [],
+                      "place_id": "ChIJ-third"
+                    }
+                  ],
+                  "status": "OK"
+                }
+                """;
+
+        assertEquals(treeModel(response), parser.parse(response.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void zeroResultsIsEmpty() throws IOException {
+        assertEquals(List.of(), parser.parse("{\"results\":[],\"status\":\"ZERO_RESULTS\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void errorStatusFails() {
+        byte[] response = "{\"error_message\":\"quota\",\"results\":[],\"status\":\"OVER_QUERY_LIMIT\"}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> parser.parse(response));
+    }
+
+    // 스트리밍 파서 이전의 JsonNode 트리 방식과 같은 규칙으로 Place 를 만듭니다.
+    private List<Place> treeModel(String response) throws IOException {
+        List<Place> places = new ArrayList<>();
+        for (JsonNode result : objectMapper.readTree(response).path("results")) {
+            JsonNode photos = result.path("photos");
+            places.add(new Place(
+                    result.path("name").asText(),
+                    result.path("vicinity").asText(),
+                    result.path("geometry").path("location").path("lat").asDouble(),
+                    result.path("geometry").path("location").path("lng").asDouble(),
+                    result.path("types").isMissingNode() ? "" : result.path("types").toString(),
+                    result.path("place_id").asText(),
+                    photos.isArray() && !photos.isEmpty() ? photos.get(0).path("photo_reference").asText() : null));
+        }
+        return places;
+    }
+}
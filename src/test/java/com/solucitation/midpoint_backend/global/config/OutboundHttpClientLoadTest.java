@@ -0,0 +1,158 @@
+package com.solucitation.midpoint_backend.global.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 200개의 동시 호출자가 지연을 흉내 낸 로컬 HTTP 서버를 부를 때, 기본 RestTemplate(HttpURLConnection)과
+ * HttpClientConfig 의 공용 커넥션 풀 클라이언트의 처리량·지연·새로 맺은 커넥션 수를 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class OutboundHttpClientLoadTest {
+
+    private static final int CALLERS = 200;
+    private static final int REQUESTS = 4000;
+    private static final int MAX_PER_ROUTE = 50;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(20);
+
+    // 요청을 보낸 쪽 포트입니다. 개수가 서버가 받은 커넥션 수입니다.
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final byte[] body = placesResponse();
+    private HttpServer upstream;
+    private ExecutorService callers;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                Thread.sleep(UPSTREAM_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+        url = "http://127.0.0.1:" + upstream.getAddress().getPort() + "/maps/api/place/nearbysearch/json";
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        upstream.stop(0);
+    }
+
+    @Test
+    void pooledClientReusesConnectionsUnderLoad() throws Exception {
+        Result bare = run(new RestTemplate());
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 200);
+        ReflectionTestUtils.setField(config, "maxPerRoute", MAX_PER_ROUTE);
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(config, "readTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "connectionRequestTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(config, "keepAlive", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(config, "idleEviction", Duration.ofSeconds(30));
+        PoolingHttpClientConnectionManager connectionManager = config.outboundConnectionManager(new SimpleMeterRegistry());
+        Result pooled;
+        try (CloseableHttpClient httpClient = config.outboundHttpClient(connectionManager)) {
+            pooled = run(new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient)));
+        }
+
+        System.out.printf("%d requests from %d callers, upstream latency %d ms%n", REQUESTS, CALLERS, UPSTREAM_LATENCY.toMillis());
+        System.out.println("  bare RestTemplate:   " + bare);
+        System.out.println("  pooled HttpClient 5: " + pooled);
+
+        assertEquals(0, pooled.failures());
+        // 호스트별 상한만큼만 커넥션을 맺고 계속 재사용합니다.
+        assertTrue(pooled.connections() <= MAX_PER_ROUTE, "pooled connections: " + pooled.connections());
+    }
+
+    private Result run(RestTemplate restTemplate) throws Exception {
+        clientPorts.clear();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            latencies.add(callers.submit(() -> {
+                start.await();
+                long startedAt = System.nanoTime();
+                restTemplate.getForObject(url, String.class);
+                return System.nanoTime() - startedAt;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+
+        long[] nanos = new long[REQUESTS];
+        int completed = 0;
+        int failures = 0;
+        for (Future<Long> latency : latencies) {
+            try {
+                nanos[completed++] = latency.get(60, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                completed--;
+                failures++;
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        Arrays.sort(nanos, 0, completed);
+        return new Result(completed * 1e9 / elapsed,
+                completed == 0 ? 0 : nanos[completed / 2] / 1_000_000.0,
+                completed == 0 ? 0 : nanos[(int) (completed * 0.99)] / 1_000_000.0,
+                clientPorts.size(), failures);
+    }
+
+    // 장소 20개짜리 Nearby Search 응답과 비슷한 크기의 본문입니다.
+    private static byte[] placesResponse() {
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        for (int i = 0; i < 20; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"place_id\":\"ChIJ").append("x".repeat(23)).append(i).append("\",")
+                    .append("\"name\":\"장소 ").append(i).append("\",\"vicinity\":\"").append("서울특별시 중구 세종대로 ".repeat(3)).append("\",")
+                    .append("\"geometry\":{\"location\":{\"lat\":37.5665,\"lng\":126.978}},")
+                    .append("\"types\":[\"cafe\",\"food\",\"point_of_interest\",\"establishment\"],")
+                    .append("\"photos\":[{\"photo_reference\":\"").append("p".repeat(400)).append("\"}]}");
+        }
+        return json.append("],\"status\":\"OK\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Result(double requestsPerSecond, double p50Millis, double p99Millis, int connections, int failures) {
+        @Override
+        public String toString() {
+            return String.format("%7.0f req/s, p50 %6.1f ms, p99 %6.1f ms, %4d connections, %d failures",
+                    requestsPerSecond, p50Millis, p99Millis, connections, failures);
+        }
+    }
+}
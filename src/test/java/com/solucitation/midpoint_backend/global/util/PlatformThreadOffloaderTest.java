@@ -0,0 +1,56 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlatformThreadOffloaderTest {
+
+    private final PlatformThreadOffloader offloader = new PlatformThreadOffloader(2);
+
+    @AfterEach
+    void tearDown() {
+        offloader.shutdown();
+    }
+
+    @Test
+    void runsOnPlatformThreadWhenCalledFromVirtualThread() throws Exception {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtualThreads.submit(() -> offloader.run(() -> ranOn.set(Thread.currentThread()))).get(5, TimeUnit.SECONDS);
+        }
+        assertFalse(ranOn.get().isVirtual());
+        assertTrue(ranOn.get().getName().startsWith("platform-offload-"));
+    }
+
+    @Test
+    void runsInlineOnPlatformThread() {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        offloader.run(() -> ranOn.set(Thread.currentThread()));
+        assertSame(Thread.currentThread(), ranOn.get());
+    }
+
+    @Test
+    void rethrowsTaskFailure() throws Exception {
+        IllegalStateException failure = new IllegalStateException("smtp down");
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtualThreads.submit(() -> {
+                try {
+                    offloader.run(() -> {
+                        throw failure;
+                    });
+                } catch (RuntimeException e) {
+                    thrown.set(e);
+                }
+            }).get(5, TimeUnit.SECONDS);
+        }
+        assertSame(failure, thrown.get());
+    }
+}
@@ -0,0 +1,118 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 장소를 동시에 찾는 요청이 몰릴 때 구글 대신 지연을 흉내 낸 로컬 HTTP 서버로 호출 수와 소요 시간을 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class SingleFlightBenchmarkTest {
+
+    private static final int CALLERS = 200;
+    private static final int KEYS = 5;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(150);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private HttpServer upstream;
+    private HttpClient httpClient;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CALLERS);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/", exchange -> {
+            upstreamCalls.incrementAndGet();
+            try {
+                Thread.sleep(UPSTREAM_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"results\":[],\"status\":\"OK\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+        httpClient = HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+        callers = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        upstream.stop(0);
+    }
+
+    @Test
+    void coalescesIdenticalUpstreamCalls() throws Exception {
+        Result direct = run(this::fetch);
+
+        SingleFlight<String, String> flight = new SingleFlight<>("places", Duration.ofSeconds(10), new SimpleMeterRegistry());
+        Result coalesced = run(key -> flight.execute(key, () -> fetch(key)));
+
+        System.out.printf("%d callers over %d keys, upstream latency %d ms%n", CALLERS, KEYS, UPSTREAM_LATENCY.toMillis());
+        System.out.printf("  without single-flight: %4d upstream calls, %5d ms%n", direct.upstreamCalls(), direct.millis());
+        System.out.printf("  with single-flight:    %4d upstream calls, %5d ms%n", coalesced.upstreamCalls(), coalesced.millis());
+
+        assertEquals(CALLERS, direct.upstreamCalls());
+        // 한 키의 호출이 끝난 직후 도착한 요청은 새로 부르므로 키 개수의 몇 배까지는 허용합니다.
+        assertTrue(coalesced.upstreamCalls() <= KEYS * 3, "coalesced calls: " + coalesced.upstreamCalls());
+    }
+
+    private Result run(Function<String, String> call) throws Exception {
+        upstreamCalls.set(0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            String key = "37.5665,126.9780,1000,cafe#" + (i % KEYS);
+            results.add(callers.submit(() -> {
+                start.await();
+                return call.apply(key);
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<String> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        return new Result(upstreamCalls.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private String fetch(String key) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + upstream.getAddress().getPort()
+                + "/maps/api/place/nearbysearch/json?key=" + key.hashCode())).build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(int upstreamCalls, long millis) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch ready = new CountDownLatch(16);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(callers.submit(() -> {
+                ready.countDown();
+                return flight.execute("key", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "value";
+                });
+            }));
+        }
+        ready.await();
+        Thread.sleep(200); // 모든 호출이 leader 의 future 에 붙을 시간을 줍니다.
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void leaderFailureReachesFollowers() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+        IllegalStateException failure = new IllegalStateException("upstream down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = callers.submit(() -> flight.execute("key", () -> {
+            await(release);
+            throw failure;
+        }));
+        while (flight.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<String> follower = callers.submit(() -> flight.execute("key", () -> "unused"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void completedKeyIsLoadedAgain() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, flight.execute("key", loads::incrementAndGet));
+        assertEquals(2, flight.execute("key", loads::incrementAndGet));
+    }
+
+    @Test
+    void followerGivesUpAfterTimeout() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50), new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = callers.submit(() -> flight.execute("key", () -> {
+            await(release);
+            return "late";
+        }));
+        while (flight.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(UpstreamUnavailableException.class, () -> flight.execute("key", () -> "unused"));
+        release.countDown();
+        assertEquals("late", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void interruptedFollowerGivesUpAndKeepsTheInterruptFlag() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = callers.submit(() -> flight.execute("key", () -> {
+            await(release);
+            return "late";
+        }));
+        while (flight.inFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(UpstreamUnavailableException.class, () -> flight.execute("key", () -> "unused"));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        release.countDown();
+        assertEquals("late", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
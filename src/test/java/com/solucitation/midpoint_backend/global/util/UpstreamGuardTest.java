@@ -0,0 +1,52 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import com.solucitation.midpoint_backend.global.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 실패 두 번이면 열리고, 열린 뒤 바로 반열림 시험 호출을 허용합니다.
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 4, 2, 0.5, Duration.ZERO, meterRegistry);
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter("test", 4, 1, 4, Duration.ofSeconds(5), meterRegistry);
+    private final UpstreamGuard guard = new UpstreamGuard("test", circuitBreaker, limiter, meterRegistry);
+
+    @Test
+    void errorInHalfOpenProbeReleasesThePermission() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(UpstreamUnavailableException.class, () -> guard.call(() -> {
+                throw new IllegalStateException("boom");
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+
+        // 반열림 시험 호출이 Error 로 끝나도 감싸지 않고 그대로 던집니다.
+        assertThrows(StackOverflowError.class, () -> guard.call(() -> {
+            throw new StackOverflowError();
+        }));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertEquals(0, limiter.inFlight());
+
+        // 시험 호출 허가가 남아 있지 않으므로 다음 시험 호출을 보낼 수 있습니다.
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void errorReleasesTheConcurrencySlot() {
+        for (int i = 0; i < 10; i++) {
+            assertThrows(OutOfMemoryError.class, () -> guard.call(() -> {
+                throw new OutOfMemoryError("test");
+            }));
+            assertEquals(0, limiter.inFlight());
+        }
+    }
+}
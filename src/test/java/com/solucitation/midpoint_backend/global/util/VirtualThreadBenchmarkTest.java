@@ -0,0 +1,122 @@
+package com.solucitation.midpoint_backend.global.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청마다 블로킹 외부 호출을 두 번 하는 작업을 플랫폼 스레드 풀(Tomcat 기본 200개)과 가상 스레드로 처리할 때의 처리량을 비교하고,
+ * synchronized 안에서 블로킹하는 호출이 가상 스레드의 캐리어를 고정해 느려지는 것과 PlatformThreadOffloader 로 넘겼을 때를 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int REQUESTS = 4000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(50);
+
+    @Test
+    void virtualThreadsServeMoreBlockingRequests() throws Exception {
+        Result platform;
+        try (ExecutorService executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)) {
+            platform = run(executor, this::handleRequest);
+        }
+        Result virtual;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run(executor, this::handleRequest);
+        }
+
+        System.out.printf("%d requests, 2 blocking calls of %d ms each%n", REQUESTS, UPSTREAM_LATENCY.toMillis());
+        System.out.println("  platform pool (" + TOMCAT_MAX_THREADS + "): " + platform);
+        System.out.println("  virtual threads:      " + virtual);
+        assertTrue(virtual.requestsPerSecond() > platform.requestsPerSecond(), "virtual threads should serve more requests");
+    }
+
+    @Test
+    void offloadingAvoidsCarrierPinning() throws Exception {
+        int tasks = Runtime.getRuntime().availableProcessors() * 8;
+        Runnable pinning = () -> {
+            // JavaMail 의 SMTPTransport 처럼 synchronized 안에서 블로킹합니다.
+            synchronized (new Object()) {
+                sleep(UPSTREAM_LATENCY);
+            }
+        };
+
+        Result pinned;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            pinned = run(executor, tasks, pinning);
+        }
+        PlatformThreadOffloader offloader = new PlatformThreadOffloader(tasks);
+        Result offloaded;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            offloaded = run(executor, tasks, () -> offloader.run(pinning));
+        } finally {
+            offloader.shutdown();
+        }
+
+        System.out.printf("%d virtual threads blocking %d ms inside synchronized%n", tasks, UPSTREAM_LATENCY.toMillis());
+        System.out.println("  pinned:    " + pinned);
+        System.out.println("  offloaded: " + offloaded);
+        assertTrue(offloaded.millis() < pinned.millis(), "offloading should avoid pinned carriers");
+    }
+
+    private void handleRequest() {
+        call();
+        call();
+    }
+
+    private void call() {
+        // 소켓 읽기처럼 스레드를 재우는 sleep 으로 외부 호출을 대신해 로컬 스텁 서버의 accept 한계가 결과에 섞이지 않게 합니다.
+        sleep(UPSTREAM_LATENCY);
+    }
+
+    private Result run(ExecutorService executor, Runnable request) throws Exception {
+        return run(executor, REQUESTS, request);
+    }
+
+    private Result run(ExecutorService executor, int requests, Runnable request) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            // 모두 동시에 도착한 것으로 보고 시작 시각부터 재므로, 스레드를 기다린 시간도 지연에 들어갑니다.
+            latencies.add(executor.submit(() -> {
+                start.await();
+                request.run();
+                return System.nanoTime();
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+
+        long[] millis = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            millis[i] = TimeUnit.NANOSECONDS.toMillis(latencies.get(i).get(2, TimeUnit.MINUTES) - startedAt);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        Arrays.sort(millis);
+        return new Result(requests * 1000.0 / Math.max(1, elapsed), millis[requests / 2], millis[(int) (requests * 0.99)], elapsed);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double requestsPerSecond, long p50Millis, long p99Millis, long millis) {
+        @Override
+        public String toString() {
+            return String.format("%7.0f req/s, p50 %5d ms, p99 %5d ms, total %5d ms", requestsPerSecond, p50Millis, p99Millis, millis);
+        }
+    }
+}